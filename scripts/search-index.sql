@@ -0,0 +1,35 @@
+-- 게시글 검색과 사용자 이름 검색에 사용하는 ngram FULLTEXT 인덱스
+-- 테이블을 다시 만드는 DDL 이므로 애플리케이션이 아닌 배포 작업에서 한 번 실행합니다. (이미 있는 인덱스는 건너뜀)
+-- 애플리케이션은 인덱스가 확인되기 전까지 LIKE 검색을 사용합니다. (FullTextIndexStatus)
+-- mysql --database=<schema> < scripts/search-index.sql
+-- DELIMITER 없이 문장 단위로 실행할 수 있도록 프로시저를 사용하지 않습니다. (FullTextSearchQueryTest 에서 그대로 실행)
+
+-- InnoDB 기본 stopword(a, i, in, is, to ...)를 포함하는 ngram 토큰은 인덱스에 저장되지 않아,
+-- "Kim"(ki, im), "Spring"(in) 과 같은 영문 이름, 제목이 검색되지 않음
+-- stopword 설정은 인덱스를 만들 때의 값이 인덱스에 저장되므로, 같은 세션에서 끈 뒤 인덱스를 생성
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+-- stopword 를 끄기 전에 만든 인덱스는 건너뛰게 되므로, 이전 스크립트로 인덱스를 만든 DB 는 한 번 삭제한 뒤 이 스크립트를 다시 실행
+-- ALTER TABLE tb_post DROP INDEX ft_post_title, DROP INDEX ft_post_title_content;
+-- ALTER TABLE tb_user DROP INDEX ft_user_name;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE tb_post ADD FULLTEXT INDEX ft_post_title (title) WITH PARSER ngram', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'tb_post' AND index_name = 'ft_post_title');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE tb_post ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'tb_post' AND index_name = 'ft_post_title_content');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE tb_user ADD FULLTEXT INDEX ft_user_name (name) WITH PARSER ngram', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'tb_user' AND index_name = 'ft_user_name');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
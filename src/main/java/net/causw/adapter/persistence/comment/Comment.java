@@ -42,6 +42,11 @@ public class Comment extends BaseEntity {
     @OneToMany(mappedBy = "parentComment")
     private List<ChildComment> childCommentList;
 
+    // CommentRepository 의 증감 쿼리로만 변경합니다.
+    @Column(name = "num_child_comment", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long numChildComment;
+
     private Comment(
             String content,
             Boolean isDeleted,
@@ -52,6 +57,7 @@ public class Comment extends BaseEntity {
         this.isDeleted = isDeleted;
         this.writer = writer;
         this.post = post;
+        this.numChildComment = 0L;
     }
 
     private Comment(
@@ -66,6 +72,7 @@ public class Comment extends BaseEntity {
         this.isDeleted = isDeleted;
         this.writer = writer;
         this.post = post;
+        this.numChildComment = 0L;
     }
 
     public static Comment of(
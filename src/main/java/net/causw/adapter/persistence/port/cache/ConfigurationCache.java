@@ -0,0 +1,143 @@
+package net.causw.adapter.persistence.port.cache;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.domain.model.util.RedisUtils;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Flag, TextField 처럼 자주 읽고 거의 바뀌지 않는 설정 값을 서버 메모리에 보관합니다.
+ * 값을 변경하는 Port 메소드는 evict 를 호출하고, 트랜잭션이 커밋되면 Redis pub/sub(CONFIGURATION_CHANNEL)으로
+ * 다른 서버에도 무효화를 전달합니다.
+ * 조회 도중 무효화된 값은 보관하지 않으며, 메시지를 놓친 경우를 대비해 주기적으로 전체를 비웁니다.
+ * 값을 변경한 트랜잭션 안에서 다시 읽은 값은 커밋되지 않은 값이므로 보관하지 않고, 트랜잭션이 끝나면(롤백 포함) 한 번 더 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConfigurationCache implements MessageListener {
+    public static final String FLAG = "flag:";
+    public static final String TEXT_FIELD = "textField:";
+    public static final String TEXT_FIELD_DATE_TIME = "textFieldDateTime:";
+
+    private final RedisUtils redisUtils;
+
+    private final Map<String, Optional<?>> valueMap = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private long version;
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String key, Supplier<Optional<T>> loader) {
+        //현재 트랜잭션이 변경한 값은 다른 요청에 보이면 안 되므로 보관된 값도 사용하지 않고 직접 조회
+        if (this.isChangedInTransaction(key)) {
+            return loader.get();
+        }
+
+        Optional<T> cachedValue = (Optional<T>) this.valueMap.get(key);
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        long loadVersion = this.currentVersion();
+        Optional<T> loadedValue = loader.get();
+
+        synchronized (this.lock) {
+            if (this.version == loadVersion) {
+                this.valueMap.put(key, loadedValue);
+            }
+        }
+
+        return loadedValue;
+    }
+
+    public void evict(List<String> keys) {
+        this.evictLocal(keys);
+
+        //커밋 전에 다른 요청이 이전 값을 다시 읽어 보관할 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.changedKeySet().addAll(keys);
+            return;
+        }
+
+        this.publish(keys);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        this.evictLocal(List.of(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    // 10분마다 전체 무효화
+    @Scheduled(fixedDelay = 1000L * 60 * 10)
+    public void clear() {
+        synchronized (this.lock) {
+            this.version++;
+            this.valueMap.clear();
+        }
+    }
+
+    private void evictLocal(List<String> keys) {
+        synchronized (this.lock) {
+            this.version++;
+            keys.forEach(this.valueMap::remove);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isChangedInTransaction(String key) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+
+        Set<String> changedKeySet = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        return changedKeySet != null && changedKeySet.contains(key);
+    }
+
+    // 현재 트랜잭션에서 변경한 key 목록, 트랜잭션마다 한 번 생성하고 트랜잭션이 끝나면 무효화 후 해제
+    @SuppressWarnings("unchecked")
+    private Set<String> changedKeySet() {
+        Set<String> changedKeySet = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (changedKeySet != null) {
+            return changedKeySet;
+        }
+
+        Set<String> newChangedKeySet = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(this, newChangedKeySet);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ConfigurationCache.this);
+
+                List<String> keys = List.copyOf(newChangedKeySet);
+                ConfigurationCache.this.evictLocal(keys);
+                //롤백된 경우 다른 서버의 값은 바뀌지 않았으므로 전파하지 않음
+                if (status == STATUS_COMMITTED) {
+                    ConfigurationCache.this.publish(keys);
+                }
+            }
+        });
+        return newChangedKeySet;
+    }
+
+    private void publish(List<String> keys) {
+        keys.forEach(this.redisUtils::publishConfigurationChanged);
+    }
+
+    private long currentVersion() {
+        synchronized (this.lock) {
+            return this.version;
+        }
+    }
+}
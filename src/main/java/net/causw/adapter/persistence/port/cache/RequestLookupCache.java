@@ -0,0 +1,106 @@
+package net.causw.adapter.persistence.port.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청 안에서 같은 키로 반복되는 단건 조회 결과를 요청 속성에 보관합니다.
+ * 요청이 끝나면 함께 사라지므로 다른 요청과 값을 공유하지 않고, 요청 밖(스케줄러 등)에서는 항상 조회합니다.
+ * 값을 변경하는 Port 메소드는 evict 를 호출해 같은 요청의 이후 조회가 변경된 값을 보도록 합니다.
+ */
+@Slf4j
+@Component
+public class RequestLookupCache {
+    public static final String USER = "user";
+    public static final String CIRCLE_MEMBER = "circleMember";
+
+    private final Map<String, AtomicLong> hitCountMap = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> missCountMap = new ConcurrentHashMap<>();
+
+    public <T> Optional<T> get(String name, String key, Supplier<Optional<T>> loader) {
+        Map<String, Optional<T>> lookupMap = this.lookupMap(name);
+        if (lookupMap == null) {
+            return loader.get();
+        }
+
+        Optional<T> cachedValue = lookupMap.get(key);
+        if (cachedValue != null) {
+            this.count(this.hitCountMap, name);
+            return cachedValue;
+        }
+
+        this.count(this.missCountMap, name);
+        Optional<T> loadedValue = loader.get();
+        lookupMap.put(key, loadedValue);
+
+        return loadedValue;
+    }
+
+    public void evict(String name) {
+        Map<String, ?> lookupMap = this.lookupMap(name);
+        if (lookupMap != null) {
+            lookupMap.clear();
+        }
+    }
+
+    public long getHitCount(String name) {
+        return this.hitCountMap.getOrDefault(name, new AtomicLong()).get();
+    }
+
+    public long getMissCount(String name) {
+        return this.missCountMap.getOrDefault(name, new AtomicLong()).get();
+    }
+
+    public double getHitRate(String name) {
+        long hitCount = this.getHitCount(name);
+        long totalCount = hitCount + this.getMissCount(name);
+
+        return totalCount == 0 ? 0 : (double) hitCount / totalCount;
+    }
+
+    // 10분마다 누적 적중률 기록
+    @Scheduled(fixedDelay = 1000L * 60 * 10)
+    public void logHitRate() {
+        this.missCountMap.keySet().forEach(name -> RequestLookupCache.log.info(
+                "Request lookup cache [{}] hit: {}, miss: {}, hit rate: {}",
+                name,
+                this.getHitCount(name),
+                this.getMissCount(name),
+                String.format("%.2f", this.getHitRate(name))
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Map<String, Optional<T>> lookupMap(String name) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        String attributeName = RequestLookupCache.class.getName() + "." + name;
+        Map<String, Optional<T>> lookupMap = (Map<String, Optional<T>>) requestAttributes.getAttribute(
+                attributeName,
+                RequestAttributes.SCOPE_REQUEST
+        );
+        if (lookupMap == null) {
+            lookupMap = new HashMap<>();
+            requestAttributes.setAttribute(attributeName, lookupMap, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return lookupMap;
+    }
+
+    private void count(Map<String, AtomicLong> countMap, String name) {
+        countMap.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+    }
+}
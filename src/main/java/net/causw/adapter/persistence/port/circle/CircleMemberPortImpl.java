@@ -2,6 +2,7 @@ package net.causw.adapter.persistence.port.circle;
 
 import net.causw.adapter.persistence.circle.Circle;
 import net.causw.adapter.persistence.circle.CircleMember;
+import net.causw.adapter.persistence.port.cache.RequestLookupCache;
 import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.repository.CircleMemberRepository;
 import net.causw.adapter.persistence.user.User;
@@ -12,17 +13,25 @@ import net.causw.domain.model.enums.CircleMemberStatus;
 import net.causw.domain.model.user.UserDomainModel;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class CircleMemberPortImpl extends DomainModelMapper implements CircleMemberPort {
     private final CircleMemberRepository circleMemberRepository;
+    private final RequestLookupCache requestLookupCache;
 
-    public CircleMemberPortImpl(CircleMemberRepository circleMemberRepository) {
+    public CircleMemberPortImpl(
+            CircleMemberRepository circleMemberRepository,
+            RequestLookupCache requestLookupCache
+    ) {
         this.circleMemberRepository = circleMemberRepository;
+        this.requestLookupCache = requestLookupCache;
     }
 
     @Override
@@ -61,16 +70,19 @@ public class CircleMemberPortImpl extends DomainModelMapper implements CircleMem
 
     @Override
     public List<CircleMemberDomainModel> findByCircleId(String circleId, CircleMemberStatus status) {
-        return this.circleMemberRepository.findByCircle_Id(circleId)
+        return this.circleMemberRepository.findByCircle_IdAndStatus(circleId, status)
                 .stream()
-                .filter(circleMember -> circleMember.getStatus() == status)
                 .map(this::entityToDomainModel)
                 .collect(Collectors.toList());
     }
 
     @Override
     public Optional<CircleMemberDomainModel> findByUserIdAndCircleId(String userId, String circleId) {
-        return this.circleMemberRepository.findByUser_IdAndCircle_Id(userId, circleId).map(this::entityToDomainModel);
+        return this.requestLookupCache.get(
+                RequestLookupCache.CIRCLE_MEMBER,
+                userId + ":" + circleId,
+                () -> this.circleMemberRepository.findByUser_IdAndCircle_Id(userId, circleId).map(this::entityToDomainModel)
+        );
     }
 
     @Override
@@ -78,8 +90,42 @@ public class CircleMemberPortImpl extends DomainModelMapper implements CircleMem
         return this.circleMemberRepository.getNumMember(id);
     }
 
+    @Override
+    public Map<String, Long> getNumMemberByCircleIds(List<String> circleIds) {
+        if (circleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> numMemberMap = circleIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), circleId -> 0L));
+
+        this.circleMemberRepository.getNumMemberByCircleIds(circleIds)
+                .forEach(row -> numMemberMap.put((String) row[0], ((Number) row[1]).longValue()));
+
+        return numMemberMap;
+    }
+
+    @Override
+    public Map<String, Set<String>> findMemberCircleIds(List<String> userIds, List<String> circleIds) {
+        Map<String, Set<String>> memberCircleIdMap = userIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), userId -> new HashSet<>()));
+
+        if (userIds.isEmpty() || circleIds.isEmpty()) {
+            return memberCircleIdMap;
+        }
+
+        this.circleMemberRepository.findMemberCircleIds(userIds, circleIds)
+                .forEach(row -> memberCircleIdMap.get((String) row[0]).add((String) row[1]));
+
+        return memberCircleIdMap;
+    }
+
     @Override
     public CircleMemberDomainModel create(UserDomainModel userDomainModel, CircleDomainModel circleDomainModel) {
+        this.requestLookupCache.evict(RequestLookupCache.CIRCLE_MEMBER);
+
         return this.entityToDomainModel(this.circleMemberRepository.save(CircleMember.of(
                 CircleMemberStatus.AWAIT,
                 Circle.from(circleDomainModel),
@@ -89,6 +135,8 @@ public class CircleMemberPortImpl extends DomainModelMapper implements CircleMem
 
     @Override
     public Optional<CircleMemberDomainModel> updateStatus(String applicationId, CircleMemberStatus targetStatus) {
+        this.requestLookupCache.evict(RequestLookupCache.CIRCLE_MEMBER);
+
         return this.circleMemberRepository.findById(applicationId).map(
                 circleMember -> {
                     circleMember.setStatus(targetStatus);
@@ -10,6 +10,7 @@ import net.causw.domain.model.user.UserDomainModel;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -32,6 +33,20 @@ public class CirclePortImpl extends DomainModelMapper implements CirclePort {
         return circles.stream().map(this::entityToDomainModel).collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, List<CircleDomainModel>> findByLeaderIds(List<String> leaderIds) {
+        if (leaderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.circleRepository.findByLeader_IdIn(leaderIds)
+                .stream()
+                .map(this::entityToDomainModel)
+                .collect(Collectors.groupingBy(circleDomainModel -> circleDomainModel.getLeader()
+                        .map(UserDomainModel::getId)
+                        .orElse("")));
+    }
+
     @Override
     public List<CircleDomainModel> findAll() {
         return this.circleRepository.findAllByIsDeletedIsFalse()
@@ -38,11 +38,6 @@ public class ChildCommentPortImpl extends DomainModelMapper implements ChildComm
                 .map(this::entityToDomainModel);
     }
 
-    @Override
-    public Long countByParentComment(String parentCommentId) {
-        return this.childCommentRepository.countByParentComment_IdAndIsDeletedIsFalse(parentCommentId);
-    }
-
     @Override
     public ChildCommentDomainModel create(ChildCommentDomainModel childCommentDomainModel, PostDomainModel postDomainModel) {
         return this.entityToDomainModel(this.childCommentRepository.save(ChildComment.from(childCommentDomainModel, postDomainModel)));
@@ -63,12 +58,11 @@ public class ChildCommentPortImpl extends DomainModelMapper implements ChildComm
 
     @Override
     public Optional<ChildCommentDomainModel> delete(String childCommentId) {
-        return this.childCommentRepository.findById(childCommentId).map(
-                childComment -> {
-                    childComment.setIsDeleted(true);
+        //이미 삭제된 경우 변경된 행이 없으므로 빈 값을 반환
+        if (this.childCommentRepository.softDeleteById(childCommentId) == 0) {
+            return Optional.empty();
+        }
 
-                    return this.entityToDomainModel(this.childCommentRepository.save(childComment));
-                }
-        );
+        return this.childCommentRepository.findById(childCommentId).map(this::entityToDomainModel);
     }
 }
@@ -4,6 +4,8 @@ import net.causw.adapter.persistence.comment.Comment;
 import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.repository.CommentRepository;
 import net.causw.adapter.persistence.page.PageableFactory;
+import net.causw.application.dto.comment.CommentResponseDto;
+import net.causw.application.dto.comment.CommentsOfUserResponseDto;
 import net.causw.application.spi.CommentPort;
 import net.causw.domain.model.comment.CommentDomainModel;
 import net.causw.domain.model.post.PostDomainModel;
@@ -32,16 +34,11 @@ public class CommentPortImpl extends DomainModelMapper implements CommentPort {
     }
 
     @Override
-    public Page<CommentDomainModel> findByPostId(String postId, Integer pageNum) {
-        return this.commentRepository.findByPost_IdOrderByCreatedAt(
+    public Page<CommentResponseDto> findByPostId(String postId, Integer pageNum) {
+        return this.commentRepository.findSummaryByPostId(
                 postId,
                 this.pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE)
-        ).map(this::entityToDomainModel);
-    }
-
-    @Override
-    public Long countByPostId(String postId) {
-        return this.commentRepository.countByPost_IdAndIsDeletedIsFalse(postId);
+        );
     }
 
     @Override
@@ -62,18 +59,31 @@ public class CommentPortImpl extends DomainModelMapper implements CommentPort {
 
     @Override
     public Optional<CommentDomainModel> delete(String commentId) {
-        return this.commentRepository.findById(commentId).map(
-                comment -> {
-                    comment.setIsDeleted(true);
+        //이미 삭제된 경우 변경된 행이 없으므로 빈 값을 반환
+        if (this.commentRepository.softDeleteById(commentId) == 0) {
+            return Optional.empty();
+        }
 
-                    return this.entityToDomainModel(this.commentRepository.save(comment));
-                }
-        );
+        return this.commentRepository.findById(commentId).map(this::entityToDomainModel);
+    }
+
+    @Override
+    public Page<CommentsOfUserResponseDto> findByUserId(String userId, Integer pageNum) {
+        return this.commentRepository.findSummaryByUserId(userId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE));
+    }
+
+    @Override
+    public void increaseNumChildComment(String id) {
+        this.commentRepository.increaseNumChildComment(id);
+    }
+
+    @Override
+    public void decreaseNumChildComment(String id) {
+        this.commentRepository.decreaseNumChildComment(id);
     }
 
     @Override
-    public Page<CommentDomainModel> findByUserId(String userId, Integer pageNum) {
-        return this.commentRepository.findByUserId(userId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE))
-                .map(this::entityToDomainModel);
+    public Integer reconcileNumChildComment() {
+        return this.commentRepository.reconcileNumChildComment();
     }
 }
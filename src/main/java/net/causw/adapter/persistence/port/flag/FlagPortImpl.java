@@ -1,32 +1,46 @@
 package net.causw.adapter.persistence.port.flag;
 
 import net.causw.adapter.persistence.flag.Flag;
+import net.causw.adapter.persistence.port.cache.ConfigurationCache;
 import net.causw.adapter.persistence.repository.FlagRepository;
 import net.causw.application.spi.FlagPort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
 public class FlagPortImpl implements FlagPort {
     private final FlagRepository flagRepository;
+    private final ConfigurationCache configurationCache;
 
-    public FlagPortImpl(FlagRepository flagRepository) {
+    public FlagPortImpl(
+            FlagRepository flagRepository,
+            ConfigurationCache configurationCache
+    ) {
         this.flagRepository = flagRepository;
+        this.configurationCache = configurationCache;
     }
 
     @Override
     public Optional<Boolean> findByKey(String key) {
-        return this.flagRepository.findByKey(key).map(Flag::getValue);
+        return this.configurationCache.get(
+                ConfigurationCache.FLAG + key,
+                () -> this.flagRepository.findByKey(key).map(Flag::getValue)
+        );
     }
 
     @Override
     public Boolean create(String key, Boolean value) {
+        this.configurationCache.evict(List.of(ConfigurationCache.FLAG + key));
+
         return this.flagRepository.save(Flag.of(key, value)).getValue();
     }
 
     @Override
     public Optional<Boolean> update(String key, Boolean value) {
+        this.configurationCache.evict(List.of(ConfigurationCache.FLAG + key));
+
         return this.flagRepository.findByKey(key).map(
                 flag -> {
                     flag.setValue(value);
@@ -3,6 +3,7 @@ package net.causw.adapter.persistence.port.locker;
 import net.causw.adapter.persistence.locker.LockerLocation;
 import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.repository.LockerLocationRepository;
+import net.causw.application.dto.locker.LockerLocationResponseDto;
 import net.causw.application.spi.LockerLocationPort;
 import net.causw.domain.model.locker.LockerLocationDomainModel;
 import org.springframework.stereotype.Component;
@@ -37,6 +38,18 @@ public class LockerLocationPortImpl extends DomainModelMapper implements LockerL
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<LockerLocationResponseDto> findAllWithLockerCount() {
+        return this.lockerLocationRepository.findAllWithLockerCount()
+                .stream()
+                .map(row -> LockerLocationResponseDto.from(
+                        LockerLocationDomainModel.of((String) row[0], (String) row[1]),
+                        row[2] == null ? 0L : ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue()
+                ))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public LockerLocationDomainModel create(LockerLocationDomainModel lockerLocationDomainModel) {
         return this.entityToDomainModel(
@@ -1,26 +1,43 @@
 package net.causw.adapter.persistence.port.locker;
 
 import net.causw.adapter.persistence.base.BaseEntity;
-import net.causw.adapter.persistence.locker.LockerLog;
+import net.causw.adapter.persistence.port.log.AuditLogQueue;
 import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.repository.LockerLogRepository;
 import net.causw.application.dto.locker.LockerLogResponseDto;
 import net.causw.application.spi.LockerLogPort;
 import net.causw.domain.model.enums.LockerLogAction;
+import net.causw.domain.model.locker.LockerDomainModel;
 import net.causw.domain.model.user.UserDomainModel;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class LockerLogPortImpl extends DomainModelMapper implements LockerLogPort {
+    private static final String INSERT_LOCKER_LOG = "INSERT INTO tb_locker_log " +
+            "(id, locker_number, locker_location_name, user_email, user_name, action, message, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final LockerLogRepository lockerLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogQueue auditLogQueue;
 
-    public LockerLogPortImpl(LockerLogRepository lockerLogRepository) {
+    public LockerLogPortImpl(
+            LockerLogRepository lockerLogRepository,
+            JdbcTemplate jdbcTemplate,
+            AuditLogQueue auditLogQueue
+    ) {
         this.lockerLogRepository = lockerLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditLogQueue = auditLogQueue;
     }
 
     @Override
@@ -39,14 +56,44 @@ public class LockerLogPortImpl extends DomainModelMapper implements LockerLogPor
             LockerLogAction action,
             String message
     ) {
-        this.lockerLogRepository.save(LockerLog.of(
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        this.auditLogQueue.add(INSERT_LOCKER_LOG, new Object[]{
+                UUID.randomUUID().toString().replace("-", ""),
                 lockerNumber,
                 lockerLocationName,
                 user.getEmail(),
                 user.getName(),
-                action,
-                message
-        ));
+                action.name(),
+                message,
+                now,
+                now
+        });
+    }
+
+    @Override
+    public void createAll(
+            List<LockerDomainModel> lockerDomainModelList,
+            UserDomainModel user,
+            LockerLogAction action,
+            String message
+    ) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        this.jdbcTemplate.batchUpdate(
+                INSERT_LOCKER_LOG,
+                lockerDomainModelList,
+                StaticValue.JDBC_BATCH_SIZE,
+                (preparedStatement, lockerDomainModel) -> {
+                    preparedStatement.setString(1, UUID.randomUUID().toString().replace("-", ""));
+                    preparedStatement.setLong(2, lockerDomainModel.getLockerNumber());
+                    preparedStatement.setString(3, lockerDomainModel.getLockerLocation().getName());
+                    preparedStatement.setString(4, user.getEmail());
+                    preparedStatement.setString(5, user.getName());
+                    preparedStatement.setString(6, action.name());
+                    preparedStatement.setString(7, message);
+                    preparedStatement.setTimestamp(8, now);
+                    preparedStatement.setTimestamp(9, now);
+                }
+        );
     }
 
     @Override
@@ -7,17 +7,30 @@ import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.repository.LockerRepository;
 import net.causw.adapter.persistence.user.User;
 import net.causw.application.spi.LockerPort;
+import net.causw.domain.model.enums.Role;
 import net.causw.domain.model.locker.LockerDomainModel;
+import net.causw.domain.model.user.UserDomainModel;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class LockerPortImpl extends DomainModelMapper implements LockerPort {
     private final LockerRepository lockerRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<LockerDomainModel> findById(String id) {
+        return this.lockerRepository.findById(id).map(this::entityToDomainModel);
+    }
 
     @Override
     public Optional<LockerDomainModel> findByIdForRead(String id) {
@@ -44,6 +57,26 @@ public class LockerPortImpl extends DomainModelMapper implements LockerPort {
         return this.entityToDomainModel(this.lockerRepository.save(Locker.from(lockerDomainModel)));
     }
 
+    @Override
+    public void createAll(List<LockerDomainModel> lockerDomainModelList) {
+        //UUID 를 직접 발급해 Hibernate 를 거치지 않고 JDBC batch insert 로 저장
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        this.jdbcTemplate.batchUpdate(
+                "INSERT INTO tb_locker (id, locker_number, is_active, location_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                lockerDomainModelList,
+                StaticValue.JDBC_BATCH_SIZE,
+                (preparedStatement, lockerDomainModel) -> {
+                    preparedStatement.setString(1, UUID.randomUUID().toString().replace("-", ""));
+                    preparedStatement.setLong(2, lockerDomainModel.getLockerNumber());
+                    preparedStatement.setBoolean(3, lockerDomainModel.getIsActive());
+                    preparedStatement.setString(4, lockerDomainModel.getLockerLocation().getId());
+                    preparedStatement.setTimestamp(5, now);
+                    preparedStatement.setTimestamp(6, now);
+                }
+        );
+    }
+
     @Override
     public Optional<LockerDomainModel> update(String id, LockerDomainModel lockerDomainModel) {
         return this.lockerRepository.findById(id).map(
@@ -57,6 +90,31 @@ public class LockerPortImpl extends DomainModelMapper implements LockerPort {
         );
     }
 
+    @Override
+    public Optional<LockerDomainModel> register(LockerDomainModel lockerDomainModel) {
+        //관리자는 여러 사물함을 배정받을 수 있고, 그 외에는 이미 사용 중인 사물함이 있으면 배정하지 않음
+        boolean isAdmin = lockerDomainModel.getUser()
+                .map(UserDomainModel::getRole)
+                .filter(Role.ADMIN::equals)
+                .isPresent();
+
+        int numUpdated = isAdmin
+                ? this.lockerRepository.register(
+                        lockerDomainModel.getId(),
+                        lockerDomainModel.getUser().map(User::from).orElse(null),
+                        lockerDomainModel.getExpiredAt(),
+                        LocalDateTime.now()
+                )
+                : this.lockerRepository.registerIfNoLocker(
+                        lockerDomainModel.getId(),
+                        lockerDomainModel.getUser().map(UserDomainModel::getId).orElse(null),
+                        lockerDomainModel.getExpiredAt(),
+                        LocalDateTime.now()
+                );
+
+        return numUpdated == 1 ? Optional.of(lockerDomainModel) : Optional.empty();
+    }
+
     @Override
     public Optional<LockerDomainModel> updateLocation(String id, LockerDomainModel lockerDomainModel) {
         return this.lockerRepository.findById(id).map(
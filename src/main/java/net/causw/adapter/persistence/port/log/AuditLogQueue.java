@@ -0,0 +1,176 @@
+package net.causw.adapter.persistence.port.log;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 사물함 로그, 가입 승인 로그처럼 조회보다 기록이 많은 감사 로그를 모았다가 JDBC batch insert 로 저장합니다.
+ * 로그는 업무 트랜잭션이 커밋된 뒤에 큐에 들어가므로 롤백된 작업의 로그는 남지 않고, 로그 저장이 사물함 행 잠금 시간을 늘리지 않습니다.
+ * 큐는 1초마다 비우며, 정상 종료 시에는 남은 로그를 모두 저장한 뒤 종료합니다.
+ * DB 연결 실패처럼 일시적인 오류는 정해진 횟수까지 다음 주기에 다시 시도하고, 컬럼 길이 초과처럼 다시 시도해도 실패하는 오류는
+ * 한 행씩 다시 저장해 문제가 된 로그만 버립니다. 큐가 가득 찬 경우에도 새 로그를 버리고 기록을 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogQueue {
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // insert sql -> 저장할 로그
+    private final Map<String, BlockingQueue<PendingLog>> queueMap = new ConcurrentHashMap<>();
+
+    public void add(String insertSql, Object[] args) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    AuditLogQueue.this.enqueue(insertSql, new PendingLog(args));
+                }
+            });
+            return;
+        }
+
+        this.enqueue(insertSql, new PendingLog(args));
+    }
+
+    // 1초마다 저장
+    @Scheduled(fixedDelay = 1000L)
+    public synchronized void flush() {
+        this.queueMap.forEach((insertSql, queue) -> {
+            while (!queue.isEmpty()) {
+                List<PendingLog> pendingLogList = new ArrayList<>();
+                queue.drainTo(pendingLogList, StaticValue.JDBC_BATCH_SIZE);
+
+                if (!this.save(insertSql, pendingLogList)) {
+                    //일시적인 오류가 난 경우 이 큐는 다음 주기에 다시 시도
+                    return;
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        this.flush();
+
+        int numRemaining = this.size();
+        if (numRemaining > 0) {
+            AuditLogQueue.log.error("{} audit logs could not be saved before shutdown", numRemaining);
+        }
+    }
+
+    public int size() {
+        return this.queueMap.values().stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    private void enqueue(String insertSql, PendingLog pendingLog) {
+        BlockingQueue<PendingLog> queue = this.queueMap.computeIfAbsent(
+                insertSql,
+                key -> new LinkedBlockingQueue<>(StaticValue.AUDIT_LOG_QUEUE_CAPACITY)
+        );
+
+        if (!queue.offer(pendingLog)) {
+            AuditLogQueue.log.error("Audit log queue is full, log dropped: {}", pendingLog);
+        }
+    }
+
+    // 일시적인 오류로 저장하지 못한 경우 false
+    private boolean save(String insertSql, List<PendingLog> pendingLogList) {
+        try {
+            //batch 일부만 저장된 뒤 실패하는 경우가 없도록 한 트랜잭션으로 저장
+            new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> this.jdbcTemplate.batchUpdate(
+                    insertSql,
+                    pendingLogList.stream().map(PendingLog::getArgs).collect(Collectors.toList())
+            ));
+            return true;
+        } catch (DataAccessException e) {
+            if (this.isTransient(e)) {
+                AuditLogQueue.log.warn("Failed to flush {} audit logs, retry later", pendingLogList.size(), e);
+                this.retryLater(insertSql, pendingLogList);
+                return false;
+            }
+        }
+
+        //잘못된 로그가 섞인 batch 는 한 행씩 저장해 잘못된 로그만 버림
+        List<PendingLog> failedLogList = new ArrayList<>();
+        for (PendingLog pendingLog : pendingLogList) {
+            try {
+                this.jdbcTemplate.update(insertSql, pendingLog.getArgs());
+            } catch (DataAccessException e) {
+                if (this.isTransient(e)) {
+                    failedLogList.add(pendingLog);
+                } else {
+                    AuditLogQueue.log.error("Audit log could not be saved, log dropped: " + pendingLog, e);
+                }
+            }
+        }
+
+        if (!failedLogList.isEmpty()) {
+            this.retryLater(insertSql, failedLogList);
+            return false;
+        }
+        return true;
+    }
+
+    private void retryLater(String insertSql, List<PendingLog> pendingLogList) {
+        for (PendingLog pendingLog : pendingLogList) {
+            if (pendingLog.increaseAttempt() >= StaticValue.AUDIT_LOG_MAX_ATTEMPT) {
+                AuditLogQueue.log.error("Audit log could not be saved after retries, log dropped: {}", pendingLog);
+                continue;
+            }
+
+            this.enqueue(insertSql, pendingLog);
+        }
+    }
+
+    private boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private static class PendingLog {
+        private final Object[] args;
+        private int numAttempt;
+
+        private PendingLog(Object[] args) {
+            this.args = args;
+        }
+
+        private Object[] getArgs() {
+            return this.args;
+        }
+
+        private int increaseAttempt() {
+            return ++this.numAttempt;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(this.args);
+        }
+    }
+}
@@ -68,7 +68,8 @@ public abstract class DomainModelMapper {
                 this.entityToDomainModel(post.getBoard()),
                 post.getCreatedAt(),
                 post.getUpdatedAt(),
-                post.getAttachments().map(attachments -> Arrays.asList(attachments.split(":::"))).orElse(List.of())
+                post.getAttachments().map(attachments -> Arrays.asList(attachments.split(":::"))).orElse(List.of()),
+                post.getNumComment()
         );
     }
 
@@ -146,7 +147,8 @@ public abstract class DomainModelMapper {
                 comment.getCreatedAt(),
                 comment.getUpdatedAt(),
                 this.entityToDomainModel(comment.getWriter()),
-                comment.getPost().getId()
+                comment.getPost().getId(),
+                comment.getNumChildComment()
         );
     }
 
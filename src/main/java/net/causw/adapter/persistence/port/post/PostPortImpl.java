@@ -4,24 +4,40 @@ import net.causw.adapter.persistence.page.PageableFactory;
 import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.PostRepository;
+import net.causw.adapter.persistence.search.FullTextIndexStatus;
+import net.causw.adapter.persistence.search.FullTextKeyword;
+import net.causw.application.dto.post.PostsResponseDto;
 import net.causw.application.spi.PostPort;
 import net.causw.domain.model.post.PostDomainModel;
 import net.causw.domain.model.util.StaticValue;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class PostPortImpl extends DomainModelMapper implements PostPort {
     private final PostRepository postRepository;
     private final PageableFactory pageableFactory;
+    private final FullTextIndexStatus fullTextIndexStatus;
 
     public PostPortImpl(
             PostRepository postRepository,
-            PageableFactory pageableFactory
+            PageableFactory pageableFactory,
+            FullTextIndexStatus fullTextIndexStatus
     ) {
         this.postRepository = postRepository;
         this.pageableFactory = pageableFactory;
+        this.fullTextIndexStatus = fullTextIndexStatus;
     }
 
     @Override
@@ -59,15 +75,13 @@ public class PostPortImpl extends DomainModelMapper implements PostPort {
     }
 
     @Override
-    public Page<PostDomainModel> findAllPost(String boardId, Integer pageNum) {
-        return this.postRepository.findAllByBoard_IdOrderByCreatedAtDesc(boardId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                .map(this::entityToDomainModel);
+    public Page<PostsResponseDto> findAllPost(String boardId, Integer pageNum) {
+        return this.postRepository.findSummaryByBoardId(boardId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE));
     }
 
     @Override
-    public Page<PostDomainModel> findAllPost(String boardId, Integer pageNum, boolean isDeleted) {
-        return this.postRepository.findAllByBoard_IdAndIsDeletedOrderByCreatedAtDesc(boardId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), isDeleted)
-                .map(this::entityToDomainModel);
+    public Page<PostsResponseDto> findAllPost(String boardId, Integer pageNum, boolean isDeleted) {
+        return this.postRepository.findSummaryByBoardId(boardId, isDeleted, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE));
     }
 
     @Override
@@ -76,25 +90,96 @@ public class PostPortImpl extends DomainModelMapper implements PostPort {
                 .map(this::entityToDomainModel);
     }
 
+    @Override
+    public Slice<PostsResponseDto> findAllPostByCursor(String boardId, LocalDateTime createdAt, String id) {
+        Pageable pageable = this.pageableFactory.create(0, StaticValue.DEFAULT_POST_PAGE_SIZE);
+
+        if (createdAt == null || id == null) {
+            return this.postRepository.findSliceByBoardId(boardId, pageable);
+        }
+
+        return this.postRepository.findSliceByBoardIdAfter(boardId, createdAt, id, pageable);
+    }
+
+    @Override
+    public Slice<PostsResponseDto> findAllPostByCursor(String boardId, LocalDateTime createdAt, String id, boolean isDeleted) {
+        Pageable pageable = this.pageableFactory.create(0, StaticValue.DEFAULT_POST_PAGE_SIZE);
+
+        if (createdAt == null || id == null) {
+            return this.postRepository.findSliceByBoardId(boardId, isDeleted, pageable);
+        }
+
+        return this.postRepository.findSliceByBoardIdAfter(boardId, createdAt, id, isDeleted, pageable);
+    }
 
     @Override
     public Page<PostDomainModel> searchPost(String keyword, String boardId, Integer pageNum) {
-        return this.postRepository.searchByTitle(keyword, boardId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
+        Pageable pageable = this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE);
+
+        return this.fullTextKeyword(keyword)
+                .map(fullTextKeyword -> this.postRepository.searchByFullText(fullTextKeyword, boardId, pageable))
+                .orElseGet(() -> this.postRepository.searchByTitle(keyword, boardId, pageable))
                 .map(this::entityToDomainModel);
     }
 
     @Override
     public Page<PostDomainModel> searchPost(String keyword, String boardId, Integer pageNum, boolean isDeleted) {
-        return this.postRepository.searchByTitle(keyword, boardId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), isDeleted)
+        Pageable pageable = this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE);
+
+        return this.fullTextKeyword(keyword)
+                .map(fullTextKeyword -> this.postRepository.searchByFullText(fullTextKeyword, boardId, pageable, isDeleted))
+                .orElseGet(() -> this.postRepository.searchByTitle(keyword, boardId, pageable, isDeleted))
                 .map(this::entityToDomainModel);
     }
 
+    //FULLTEXT 인덱스가 확인되기 전에는 MATCH 쿼리가 실패하므로 LIKE 검색을 사용
+    private Optional<String> fullTextKeyword(String keyword) {
+        if (!this.fullTextIndexStatus.isReady(FullTextIndexStatus.POST_TITLE, FullTextIndexStatus.POST_TITLE_CONTENT)) {
+            return Optional.empty();
+        }
+
+        return FullTextKeyword.of(keyword);
+    }
+
     @Override
     public Optional<PostDomainModel> findLatestPost(String boardId) {
         return this.postRepository.findTop1ByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(boardId)
                 .map(this::entityToDomainModel);
     }
 
+    @Override
+    public Map<String, Page<PostDomainModel>> findLatestPosts(List<String> boardIds, Integer pageSize) {
+        if (boardIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Pageable pageable = this.pageableFactory.create(0, pageSize);
+        List<Object[]> latestPostRows = this.postRepository.findLatestPostIdsByBoardIds(boardIds, pageSize);
+
+        Map<String, Long> numPostMap = new HashMap<>();
+        latestPostRows.forEach(row -> numPostMap.put((String) row[1], ((Number) row[2]).longValue()));
+
+        Map<String, List<PostDomainModel>> postMap = latestPostRows.isEmpty()
+                ? Map.of()
+                : this.postRepository.findAllByIdIn(
+                        latestPostRows.stream().map(row -> (String) row[0]).collect(Collectors.toList())
+                )
+                .stream()
+                .map(this::entityToDomainModel)
+                .collect(Collectors.groupingBy(postDomainModel -> postDomainModel.getBoard().getId()));
+
+        return boardIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        boardId -> new PageImpl<>(
+                                postMap.getOrDefault(boardId, List.of()),
+                                pageable,
+                                numPostMap.getOrDefault(boardId, 0L)
+                        )
+                ));
+    }
+
     @Override
     public Page<PostDomainModel> findPostByUserId(String userId, Integer pageNum) {
         return this.postRepository.findByUserId(userId, this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
@@ -110,4 +195,19 @@ public class PostPortImpl extends DomainModelMapper implements PostPort {
                 }
         );
     }
+
+    @Override
+    public void increaseNumComment(String id) {
+        this.postRepository.increaseNumComment(id);
+    }
+
+    @Override
+    public void decreaseNumComment(String id) {
+        this.postRepository.decreaseNumComment(id);
+    }
+
+    @Override
+    public Integer reconcileNumComment() {
+        return this.postRepository.reconcileNumComment();
+    }
 }
@@ -1,30 +1,53 @@
 package net.causw.adapter.persistence.port.textfield;
 
 import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.port.cache.ConfigurationCache;
 import net.causw.adapter.persistence.textfield.TextField;
 import net.causw.adapter.persistence.repository.TextFieldRepository;
 import net.causw.application.spi.TextFieldPort;
+import net.causw.domain.model.util.StaticValue;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class TextFieldPortImpl implements TextFieldPort {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(StaticValue.TEXT_FIELD_DATE_TIME_FORMAT);
+
     private final TextFieldRepository textFieldRepository;
+    private final ConfigurationCache configurationCache;
 
     @Override
     public Optional<String> findByKey(String key) {
-        return this.textFieldRepository.findByKey(key).map(TextField::getValue);
+        return this.configurationCache.get(
+                ConfigurationCache.TEXT_FIELD + key,
+                () -> this.textFieldRepository.findByKey(key).map(TextField::getValue)
+        );
+    }
+
+    @Override
+    public Optional<LocalDateTime> findDateTimeByKey(String key) {
+        return this.configurationCache.get(
+                ConfigurationCache.TEXT_FIELD_DATE_TIME + key,
+                () -> this.findByKey(key).map(value -> LocalDateTime.parse(value, DATE_TIME_FORMATTER))
+        );
     }
 
     @Override
     public String create(String key, String value) {
+        this.evict(key);
+
         return this.textFieldRepository.save(TextField.of(key, value)).getValue();
     }
 
     @Override
     public Optional<String> update(String key, String value) {
+        this.evict(key);
+
         return this.textFieldRepository.findByKey(key).map(
                 flag -> {
                     flag.setValue(value);
@@ -33,4 +56,11 @@ public class TextFieldPortImpl implements TextFieldPort {
                 }
         );
     }
+
+    private void evict(String key) {
+        this.configurationCache.evict(List.of(
+                ConfigurationCache.TEXT_FIELD + key,
+                ConfigurationCache.TEXT_FIELD_DATE_TIME + key
+        ));
+    }
 }
@@ -1,31 +1,40 @@
 package net.causw.adapter.persistence.port.user;
 
-import net.causw.adapter.persistence.user.UserAdmissionLog;
-import net.causw.adapter.persistence.repository.UserAdmissionLogRepository;
+import net.causw.adapter.persistence.port.log.AuditLogQueue;
 import net.causw.application.spi.UserAdmissionLogPort;
 import net.causw.domain.model.enums.UserAdmissionLogAction;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 @Component
 public class UserAdmissionLogPortImpl implements UserAdmissionLogPort {
-    private final UserAdmissionLogRepository userAdmissionLogRepository;
+    private static final String INSERT_USER_ADMISSION_LOG = "INSERT INTO tb_user_admission_log " +
+            "(id, user_email, user_name, admin_user_email, admin_user_name, action, image, description, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final AuditLogQueue auditLogQueue;
 
-    public UserAdmissionLogPortImpl(UserAdmissionLogRepository userAdmissionLogRepository) {
-        this.userAdmissionLogRepository = userAdmissionLogRepository;
+    public UserAdmissionLogPortImpl(AuditLogQueue auditLogQueue) {
+        this.auditLogQueue = auditLogQueue;
     }
 
     @Override
     public void create(String userEmail, String userName, String adminUserEmail, String adminUserName, UserAdmissionLogAction action, String attachImage, String description) {
-        this.userAdmissionLogRepository.save(
-                UserAdmissionLog.of(
-                        userEmail,
-                        userName,
-                        adminUserEmail,
-                        adminUserName,
-                        action,
-                        attachImage,
-                        description
-                )
-        );
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        this.auditLogQueue.add(INSERT_USER_ADMISSION_LOG, new Object[]{
+                UUID.randomUUID().toString().replace("-", ""),
+                userEmail,
+                userName,
+                adminUserEmail,
+                adminUserName,
+                action.name(),
+                attachImage,
+                description,
+                now,
+                now
+        });
     }
 }
@@ -4,10 +4,13 @@ import net.causw.adapter.persistence.page.PageableFactory;
 import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.user.UserAdmission;
 import net.causw.adapter.persistence.repository.UserAdmissionRepository;
+import net.causw.adapter.persistence.search.FullTextIndexStatus;
+import net.causw.adapter.persistence.search.FullTextKeyword;
 import net.causw.application.spi.UserAdmissionPort;
 import net.causw.domain.model.user.UserAdmissionDomainModel;
 import net.causw.domain.model.enums.UserState;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -16,13 +19,16 @@ import java.util.Optional;
 public class UserAdmissionPortImpl extends DomainModelMapper implements UserAdmissionPort {
     private final UserAdmissionRepository userAdmissionRepository;
     private final PageableFactory pageableFactory;
+    private final FullTextIndexStatus fullTextIndexStatus;
 
     public UserAdmissionPortImpl(
             UserAdmissionRepository userAdmissionRepository,
-            PageableFactory pageableFactory
+            PageableFactory pageableFactory,
+            FullTextIndexStatus fullTextIndexStatus
     ) {
         this.userAdmissionRepository = userAdmissionRepository;
         this.pageableFactory = pageableFactory;
+        this.fullTextIndexStatus = fullTextIndexStatus;
     }
 
     @Override
@@ -42,7 +48,14 @@ public class UserAdmissionPortImpl extends DomainModelMapper implements UserAdmi
 
     @Override
     public Page<UserAdmissionDomainModel> findAll(UserState userState, String name, Integer pageNum) {
-        return this.userAdmissionRepository.findAllWithName(userState.getValue(), name, this.pageableFactory.create(pageNum)).map(this::entityToDomainModel);
+        Pageable pageable = this.pageableFactory.create(pageNum);
+
+        //FULLTEXT 인덱스가 확인되기 전에는 MATCH 쿼리가 실패하므로 LIKE 검색을 사용
+        return FullTextKeyword.of(name)
+                .filter(keyword -> this.fullTextIndexStatus.isReady(FullTextIndexStatus.USER_NAME))
+                .map(keyword -> this.userAdmissionRepository.searchByFullTextName(userState.getValue(), keyword, pageable))
+                .orElseGet(() -> this.userAdmissionRepository.findAllWithName(userState.getValue(), name, pageable))
+                .map(this::entityToDomainModel);
     }
 
     @Override
@@ -1,9 +1,13 @@
 package net.causw.adapter.persistence.port.user;
 
 import net.causw.adapter.persistence.page.PageableFactory;
+import net.causw.adapter.persistence.port.cache.RequestLookupCache;
 import net.causw.adapter.persistence.port.mapper.DomainModelMapper;
 import net.causw.adapter.persistence.user.User;
 import net.causw.adapter.persistence.repository.UserRepository;
+import net.causw.adapter.persistence.search.FullTextIndexStatus;
+import net.causw.adapter.persistence.search.FullTextKeyword;
+import net.causw.application.dto.user.UserResponseDto;
 import net.causw.application.spi.UserPort;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
@@ -13,11 +17,15 @@ import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.model.user.UserDomainModel;
 import net.causw.domain.model.enums.UserState;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,16 +34,22 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
     private final PageableFactory pageableFactory;
 
     private final RedisUtils redisUtils;
+    private final RequestLookupCache requestLookupCache;
+    private final FullTextIndexStatus fullTextIndexStatus;
 
     public UserPortImpl(
             UserRepository userRepository,
             PageableFactory pageableFactory,
-            RedisUtils redisUtils
+            RedisUtils redisUtils,
+            RequestLookupCache requestLookupCache,
+            FullTextIndexStatus fullTextIndexStatus
     ) {
 
         this.userRepository = userRepository;
         this.pageableFactory = pageableFactory;
         this.redisUtils = redisUtils;
+        this.requestLookupCache = requestLookupCache;
+        this.fullTextIndexStatus = fullTextIndexStatus;
     }
 
     @Override
@@ -45,7 +59,11 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
 
     @Override
     public Optional<UserDomainModel> findById(String id) {
-        return this.userRepository.findById(id).map(this::entityToDomainModel);
+        return this.requestLookupCache.get(
+                RequestLookupCache.USER,
+                id,
+                () -> this.userRepository.findById(id).map(this::entityToDomainModel)
+        );
     }
 
     @Override
@@ -56,6 +74,18 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserDomainModel> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return this.userRepository.findAllById(ids)
+                .stream()
+                .map(this::entityToDomainModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<UserDomainModel> findByEmail(String email) {
         return this.userRepository.findByEmail(email).map(this::entityToDomainModel);
@@ -73,6 +103,8 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
 
     @Override
     public Optional<UserDomainModel> update(String id, UserDomainModel userDomainModel) {
+        this.requestLookupCache.evict(RequestLookupCache.USER);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     srcUser.setEmail(userDomainModel.getEmail());
@@ -88,6 +120,8 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
 
     @Override
     public Optional<UserDomainModel> updateRole(String id, Role newRole) {
+        this.requestLookupCache.evict(RequestLookupCache.USER);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     if(srcUser.getRole().equals(Role.COMMON)){
@@ -121,6 +155,8 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
     }
     @Override
     public Optional<UserDomainModel> removeRole(String id, Role targetRole) {
+        this.requestLookupCache.evict(RequestLookupCache.USER);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     if(srcUser.getRole().equals(targetRole)){
@@ -152,27 +188,36 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
     }
 
     @Override
-    public Page<UserDomainModel> findByStateAndName(String state, String name, Integer pageNum) {
-
-        if(state.equals("INACTIVE_N_DROP")){
-            List<String> statesToSearch = Arrays.asList("INACTIVE", "DROP");
-            return this.userRepository.findByStateInAndNameContaining(
-                    statesToSearch,
-                    name,
-                    this.pageableFactory.create(pageNum, StaticValue.USER_LIST_PAGE_SIZE)
-            ).map(this::entityToDomainModel);
+    public List<UserDomainModel> findByRoles(List<Role> roles) {
+        if (roles.isEmpty()) {
+            return List.of();
         }
 
+        return this.userRepository.findByRoleInAndState(roles, UserState.ACTIVE)
+                .stream()
+                .map(this::entityToDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<UserResponseDto> findByStateAndName(String state, String name, Integer pageNum) {
+        List<UserState> states = state.equals("INACTIVE_N_DROP")
+                ? List.of(UserState.INACTIVE, UserState.DROP)
+                : List.of(UserState.of(state));
+
+        Pageable pageable = this.pageableFactory.create(pageNum, StaticValue.USER_LIST_PAGE_SIZE);
 
-        return this.userRepository.findByStateAndName(
-                state,
-                name,
-                this.pageableFactory.create(pageNum, StaticValue.USER_LIST_PAGE_SIZE)
-        ).map(this::entityToDomainModel);
+        //FULLTEXT 인덱스가 확인되기 전에는 MATCH 쿼리가 실패하므로 LIKE 검색을 사용
+        return FullTextKeyword.of(name)
+                .filter(keyword -> this.fullTextIndexStatus.isReady(FullTextIndexStatus.USER_NAME))
+                .map(keyword -> this.searchByFullTextName(states, keyword, pageable))
+                .orElseGet(() -> this.userRepository.findSummaryByStateInAndName(states, name, pageable));
     }
 
     @Override
     public Optional<UserDomainModel> updatePassword(String id, String password) {
+        this.requestLookupCache.evict(RequestLookupCache.USER);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     srcUser.setPassword(password);
@@ -184,6 +229,8 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
 
     @Override
     public Optional<UserDomainModel> updateState(String id, UserState state) {
+        this.requestLookupCache.evict(RequestLookupCache.USER);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     srcUser.setState(state);
@@ -211,4 +258,21 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
         redisUtils.addToBlacklist(accessToken);
         redisUtils.deleteData(refreshToken);
     }
+
+    // FULLTEXT 인덱스로 한 페이지의 사용자 id 를 찾은 뒤, 같은 순서로 목록을 조회
+    private Page<UserResponseDto> searchByFullTextName(List<UserState> states, String keyword, Pageable pageable) {
+        Page<String> userIdPage = this.userRepository.searchIdsByStateInAndFullTextName(
+                states.stream().map(UserState::getValue).collect(Collectors.toList()),
+                keyword,
+                pageable
+        );
+
+        Map<String, UserResponseDto> userMap = userIdPage.isEmpty()
+                ? Map.of()
+                : this.userRepository.findSummaryByIdIn(userIdPage.getContent())
+                .stream()
+                .collect(Collectors.toMap(UserResponseDto::getId, Function.identity()));
+
+        return userIdPage.map(userMap::get);
+    }
 }
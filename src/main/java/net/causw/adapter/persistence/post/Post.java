@@ -11,6 +11,7 @@ import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -21,7 +22,10 @@ import java.util.Optional;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "tb_post")
+@Table(
+        name = "tb_post",
+        indexes = @Index(name = "idx_post_board_id_created_at_id", columnList = "board_id, created_at, id")
+)
 public class Post extends BaseEntity {
     @Column(name = "title", nullable = false)
     private String title;
@@ -44,6 +48,11 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
 
+    // PostRepository 의 증감 쿼리로만 변경합니다.
+    @Column(name = "num_comment", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long numComment;
+
     private Post(
             String title,
             String content,
@@ -58,6 +67,7 @@ public class Post extends BaseEntity {
         this.isDeleted = isDeleted;
         this.board = board;
         this.attachments = attachments;
+        this.numComment = 0L;
     }
 
     private Post(
@@ -76,6 +86,7 @@ public class Post extends BaseEntity {
         this.isDeleted = isDeleted;
         this.board = board;
         this.attachments = attachments;
+        this.numComment = 0L;
     }
 
     public static Post of(
@@ -4,11 +4,17 @@ import net.causw.adapter.persistence.comment.ChildComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChildCommentRepository extends JpaRepository<ChildComment, String> {
     Page<ChildComment> findByParentComment_IdOrderByCreatedAtAsc(String parentCommentId, Pageable pageable);
 
-    Long countByParentComment_IdAndIsDeletedIsFalse(String parentCommentId);
+    //삭제되지 않은 답글만 삭제 처리, 동시에 삭제해도 한 요청만 1을 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChildComment cc SET cc.isDeleted = true, cc.updatedAt = CURRENT_TIMESTAMP WHERE cc.id = :id AND cc.isDeleted = false")
+    int softDeleteById(@Param("id") String id);
 }
@@ -1,6 +1,8 @@
 package net.causw.adapter.persistence.repository;
 
 import net.causw.adapter.persistence.circle.CircleMember;
+import net.causw.domain.model.enums.CircleMemberStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,12 +15,27 @@ import java.util.Optional;
 public interface CircleMemberRepository extends JpaRepository<CircleMember, String> {
     Optional<CircleMember> findByUser_IdAndCircle_Id(String userId, String circleId);
 
+    @EntityGraph(attributePaths = {"user", "circle", "circle.leader"})
     List<CircleMember> findByUser_Id(String userId);
 
-    List<CircleMember> findByCircle_Id(String circleId);
+    @EntityGraph(attributePaths = {"user", "circle", "circle.leader"})
+    List<CircleMember> findByCircle_IdAndStatus(String circleId, CircleMemberStatus status);
 
     @Query("SELECT COUNT(cm) " +
             "FROM CircleMember cm " +
             "WHERE cm.circle.id = :id AND cm.status = 'MEMBER'")
     long getNumMember(@Param("id") String id);
+
+    //여러 소모임의 회원 수를 한 번에 조회
+    @Query("SELECT cm.circle.id, COUNT(cm) " +
+            "FROM CircleMember cm " +
+            "WHERE cm.circle.id IN :ids AND cm.status = 'MEMBER' " +
+            "GROUP BY cm.circle.id")
+    List<Object[]> getNumMemberByCircleIds(@Param("ids") List<String> ids);
+
+    //여러 사용자가 여러 소모임 중 어느 소모임의 회원인지 한 번에 조회
+    @Query("SELECT cm.user.id, cm.circle.id " +
+            "FROM CircleMember cm " +
+            "WHERE cm.user.id IN :userIds AND cm.circle.id IN :circleIds AND cm.status = 'MEMBER'")
+    List<Object[]> findMemberCircleIds(@Param("userIds") List<String> userIds, @Param("circleIds") List<String> circleIds);
 }
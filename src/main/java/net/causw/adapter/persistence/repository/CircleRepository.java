@@ -1,6 +1,7 @@
 package net.causw.adapter.persistence.repository;
 
 import net.causw.adapter.persistence.circle.Circle;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,7 +12,11 @@ import java.util.Optional;
 public interface CircleRepository extends JpaRepository<Circle, String> {
     List<Circle> findByLeader_Id(String leader_id);
 
+    @EntityGraph(attributePaths = {"leader"})
+    List<Circle> findByLeader_IdIn(List<String> leaderIds);
+
     Optional<Circle> findByName(String name);
 
+    @EntityGraph(attributePaths = {"leader"})
     List<Circle> findAllByIsDeletedIsFalse();
 }
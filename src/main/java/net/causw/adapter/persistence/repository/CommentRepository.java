@@ -1,25 +1,64 @@
 package net.causw.adapter.persistence.repository;
 
 import net.causw.adapter.persistence.comment.Comment;
+import net.causw.application.dto.comment.CommentResponseDto;
+import net.causw.application.dto.comment.CommentsOfUserResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, String> {
-    Page<Comment> findByPost_IdOrderByCreatedAt(String postId, Pageable pageable);
+    //댓글 목록 조회, 목록에 필요한 컬럼만 조회해 게시글과 작성자 엔티티를 읽지 않고 CommentResponseDto 를 바로 생성
+    @Query(value = "SELECT new net.causw.application.dto.comment.CommentResponseDto(" +
+            "co.id, co.content, co.createdAt, co.updatedAt, co.isDeleted, co.post.id, " +
+            "w.id, w.name, w.admissionYear, w.profileImage, co.numChildComment) " +
+            "FROM Comment co JOIN co.writer w " +
+            "WHERE co.post.id = :postId " +
+            "ORDER BY co.createdAt",
+            countQuery = "SELECT COUNT(co) FROM Comment co WHERE co.post.id = :postId")
+    Page<CommentResponseDto> findSummaryByPostId(@Param("postId") String postId, Pageable pageable);
 
-    Long countByPost_IdAndIsDeletedIsFalse(String postId);
+    //내 댓글 목록 조회, 댓글마다 게시글을 다시 읽지 않도록 게시글, 게시판, 소모임 정보를 함께 조회해 CommentsOfUserResponseDto 를 바로 생성
+    @Query(value = "SELECT new net.causw.application.dto.comment.CommentsOfUserResponseDto(" +
+            "co.id, co.content, co.createdAt, co.updatedAt, co.isDeleted, " +
+            "b.id, b.name, p.id, p.title, c.id, c.name) " +
+            "FROM Comment co JOIN co.post p JOIN p.board b LEFT JOIN b.circle c " +
+            "LEFT JOIN CircleMember cm ON cm.user = p.writer AND cm.circle = c " +
+            "WHERE co.writer.id = :userId AND p.isDeleted = false AND b.isDeleted = false AND co.isDeleted = false " +
+            "AND (c.id IS NULL OR (c.isDeleted = false AND cm.status = 'MEMBER')) " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(co) " +
+                    "FROM Comment co JOIN co.post p JOIN p.board b LEFT JOIN b.circle c " +
+                    "LEFT JOIN CircleMember cm ON cm.user = p.writer AND cm.circle = c " +
+                    "WHERE co.writer.id = :userId AND p.isDeleted = false AND b.isDeleted = false AND co.isDeleted = false " +
+                    "AND (c.id IS NULL OR (c.isDeleted = false AND cm.status = 'MEMBER'))")
+    Page<CommentsOfUserResponseDto> findSummaryByUserId(@Param("userId") String userId, Pageable pageable);
 
-    @Query(value = "select * from tb_comment as co " +
-            "join tb_post as p on co.post_id = p.id " +
-            "join tb_board as b on p.board_id = b.id " +
-            "left join tb_circle as c on c.id = b.circle_id " +
-            "left join tb_circle_member as cm on p.user_id = cm.user_id and c.id = cm.circle_id " +
-            "where co.user_id = :user_id and p.is_deleted = false and b.is_deleted = false and  co.is_deleted = false " +
-            "and (c.id is null or (c.is_deleted = false and cm.status = 'MEMBER')) ORDER BY p.created_at DESC", nativeQuery = true)
-    Page<Comment> findByUserId(@Param("user_id") String userId, Pageable pageable);
+    //삭제되지 않은 댓글만 삭제 처리, 동시에 삭제해도 한 요청만 1을 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.updatedAt = CURRENT_TIMESTAMP WHERE c.id = :id AND c.isDeleted = false")
+    int softDeleteById(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.numChildComment = c.numChildComment + 1 WHERE c.id = :id")
+    int increaseNumChildComment(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.numChildComment = c.numChildComment - 1 WHERE c.id = :id AND c.numChildComment > 0")
+    int decreaseNumChildComment(@Param("id") String id);
+
+    //삭제되지 않은 답글 수와 다른 댓글의 답글 수를 다시 계산
+    @Modifying
+    //MySQL 전용 UPDATE ... JOIN 대신 상관 서브쿼리를 사용해 테스트 DB(H2)에서도 같은 쿼리를 실행
+    @Query(value = "UPDATE tb_comment " +
+            "SET num_child_comment = (SELECT COUNT(*) FROM tb_child_comment AS cc " +
+            "WHERE cc.parent_comment_id = tb_comment.id AND cc.is_deleted = false) " +
+            "WHERE num_child_comment <> (SELECT COUNT(*) FROM tb_child_comment AS cc " +
+            "WHERE cc.parent_comment_id = tb_comment.id AND cc.is_deleted = false)", nativeQuery = true)
+    int reconcileNumChildComment();
 }
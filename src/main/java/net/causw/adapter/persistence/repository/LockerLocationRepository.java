@@ -2,11 +2,21 @@ package net.causw.adapter.persistence.repository;
 
 import net.causw.adapter.persistence.locker.LockerLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LockerLocationRepository extends JpaRepository<LockerLocation, String> {
     Optional<LockerLocation> findByName(String name);
+
+    //위치별 [id, name, 사용 가능한 사물함 수, 전체 사물함 수]를 한 번에 조회
+    @Query("SELECT ll.id, ll.name, " +
+            "SUM(CASE WHEN l.isActive = true AND l.user IS NULL THEN 1 ELSE 0 END), COUNT(l) " +
+            "FROM LockerLocation ll LEFT JOIN Locker l ON l.location = ll " +
+            "GROUP BY ll.id, ll.name " +
+            "ORDER BY ll.id")
+    List<Object[]> findAllWithLockerCount();
 }
@@ -1,13 +1,17 @@
 package net.causw.adapter.persistence.repository;
 
 import net.causw.adapter.persistence.locker.Locker;
+import net.causw.adapter.persistence.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +30,7 @@ public interface LockerRepository extends JpaRepository<Locker, String> {
 
     Optional<Locker> findByUser_Id(String userId);
 
+    @EntityGraph(attributePaths = {"user", "location"})
     List<Locker> findByLocation_IdOrderByLockerNumberAsc(String locationId);
 
 
@@ -33,4 +38,30 @@ public interface LockerRepository extends JpaRepository<Locker, String> {
 
     long countByLocationId(String locationId);
 
+    //비어 있고 사용 가능한 사물함인 경우에만 배정, 동시에 신청한 경우 한 명만 1을 반환받음
+    @Modifying
+    @Query("UPDATE Locker l " +
+            "SET l.user = :user, l.isActive = false, l.expireDate = :expireDate, l.updatedAt = :updatedAt " +
+            "WHERE l.id = :id AND l.user IS NULL AND l.isActive = true")
+    int register(
+            @Param("id") String id,
+            @Param("user") User user,
+            @Param("expireDate") LocalDateTime expireDate,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    //학생은 사물함을 하나만 사용할 수 있으므로, 신청자가 사용 중인 사물함이 없는 경우에만 배정
+    //MySQL 은 UPDATE 대상 테이블을 서브쿼리에서 바로 읽을 수 없으므로(Error 1093) 파생 테이블로 감싸서 조회
+    @Modifying
+    @Query(value = "UPDATE tb_locker " +
+            "SET user_id = :userId, is_active = false, expire_date = :expireDate, updated_at = :updatedAt " +
+            "WHERE id = :id AND user_id IS NULL AND is_active = true " +
+            "AND NOT EXISTS (SELECT 1 FROM (SELECT l.id FROM tb_locker AS l WHERE l.user_id = :userId LIMIT 1) AS owned)", nativeQuery = true)
+    int registerIfNoLocker(
+            @Param("id") String id,
+            @Param("userId") String userId,
+            @Param("expireDate") LocalDateTime expireDate,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
 }
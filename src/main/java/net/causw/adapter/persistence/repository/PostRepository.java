@@ -1,22 +1,104 @@
 package net.causw.adapter.persistence.repository;
 
 import net.causw.adapter.persistence.post.Post;
+import net.causw.application.dto.post.PostsResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, String> {
+    @EntityGraph(attributePaths = {"writer", "board", "board.circle", "board.circle.leader"})
     Page<Post> findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId, Pageable pageable);
-    Page<Post> findAllByBoard_IdAndIsDeletedOrderByCreatedAtDesc(String boardId, Pageable pageable, boolean IsDeleted);
-    Page<Post> findAllByBoard_IdOrderByCreatedAtDesc(String boardId, Pageable pageable);
     Optional<Post> findTop1ByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId);
 
+    //게시글 목록 조회, 목록에 필요한 컬럼만 조회해 본문(content)과 첨부파일을 읽지 않고 PostsResponseDto 를 바로 생성
+    @Query(value = "SELECT new net.causw.application.dto.post.PostsResponseDto(" +
+            "p.id, p.title, w.name, w.admissionYear, p.numComment, p.createdAt, p.updatedAt, p.isDeleted) " +
+            "FROM Post p JOIN p.writer w " +
+            "WHERE p.board.id = :boardId " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board.id = :boardId")
+    Page<PostsResponseDto> findSummaryByBoardId(@Param("boardId") String boardId, Pageable pageable);
+
+    @Query(value = "SELECT new net.causw.application.dto.post.PostsResponseDto(" +
+            "p.id, p.title, w.name, w.admissionYear, p.numComment, p.createdAt, p.updatedAt, p.isDeleted) " +
+            "FROM Post p JOIN p.writer w " +
+            "WHERE p.board.id = :boardId AND p.isDeleted = :isDeleted " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board.id = :boardId AND p.isDeleted = :isDeleted")
+    Page<PostsResponseDto> findSummaryByBoardId(@Param("boardId") String boardId, @Param("isDeleted") boolean isDeleted, Pageable pageable);
+
+    //커서 기반 게시글 목록 조회, 전체 게시글 수를 세지 않고 (created_at, id) 인덱스를 따라 다음 페이지만 조회
+    @Query("SELECT new net.causw.application.dto.post.PostsResponseDto(" +
+            "p.id, p.title, w.name, w.admissionYear, p.numComment, p.createdAt, p.updatedAt, p.isDeleted) " +
+            "FROM Post p JOIN p.writer w " +
+            "WHERE p.board.id = :boardId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostsResponseDto> findSliceByBoardId(@Param("boardId") String boardId, Pageable pageable);
+
+    @Query("SELECT new net.causw.application.dto.post.PostsResponseDto(" +
+            "p.id, p.title, w.name, w.admissionYear, p.numComment, p.createdAt, p.updatedAt, p.isDeleted) " +
+            "FROM Post p JOIN p.writer w " +
+            "WHERE p.board.id = :boardId AND p.isDeleted = :isDeleted " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostsResponseDto> findSliceByBoardId(@Param("boardId") String boardId, @Param("isDeleted") boolean isDeleted, Pageable pageable);
+
+    @Query("SELECT new net.causw.application.dto.post.PostsResponseDto(" +
+            "p.id, p.title, w.name, w.admissionYear, p.numComment, p.createdAt, p.updatedAt, p.isDeleted) " +
+            "FROM Post p JOIN p.writer w " +
+            "WHERE p.board.id = :boardId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostsResponseDto> findSliceByBoardIdAfter(
+            @Param("boardId") String boardId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable pageable
+    );
+
+    @Query("SELECT new net.causw.application.dto.post.PostsResponseDto(" +
+            "p.id, p.title, w.name, w.admissionYear, p.numComment, p.createdAt, p.updatedAt, p.isDeleted) " +
+            "FROM Post p JOIN p.writer w " +
+            "WHERE p.board.id = :boardId AND p.isDeleted = :isDeleted " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostsResponseDto> findSliceByBoardIdAfter(
+            @Param("boardId") String boardId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            @Param("isDeleted") boolean isDeleted,
+            Pageable pageable
+    );
+
+    //게시판별 최신 게시글 id와 게시판별 전체 게시글 수를 한 번에 조회
+    @Query(value = "SELECT ranked.id, ranked.board_id, ranked.num_post " +
+            "FROM (SELECT p.id, p.board_id, p.created_at, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.board_id ORDER BY p.created_at DESC) AS row_num, " +
+            "COUNT(*) OVER (PARTITION BY p.board_id) AS num_post " +
+            "FROM tb_post AS p " +
+            "WHERE p.board_id IN :boardIds AND p.is_deleted = false) AS ranked " +
+            "WHERE ranked.row_num <= :postNum ORDER BY ranked.created_at DESC", nativeQuery = true)
+    List<Object[]> findLatestPostIdsByBoardIds(@Param("boardIds") List<String> boardIds, @Param("postNum") Integer postNum);
+
+    @Query("SELECT p FROM Post p " +
+            "JOIN FETCH p.writer " +
+            "JOIN FETCH p.board b " +
+            "LEFT JOIN FETCH b.circle c " +
+            "LEFT JOIN FETCH c.leader " +
+            "WHERE p.id IN :ids ORDER BY p.createdAt DESC")
+    List<Post> findAllByIdIn(@Param("ids") List<String> ids);
+
 
     //해당 동아리의 동아리장, 관리자, 학생회장인 경우 삭제여부와 관계없이 모든 게시글 검색
     @Query(value = "SELECT * " +
@@ -30,6 +112,25 @@ public interface PostRepository extends JpaRepository<Post, String> {
             "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId AND p.is_deleted = :isDeleted ORDER BY p.created_at DESC", nativeQuery = true)
     Page<Post> searchByTitle(@Param("title") String title, @Param("boardId") String boardId, Pageable pageable, boolean isDeleted);
 
+    //제목과 내용에 대한 ngram FULLTEXT 검색, 제목이 일치하는 게시글에 가중치를 두어 정렬
+    @Query(value = "SELECT * FROM tb_post AS p " +
+            "WHERE p.board_id = :boardId AND MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY (MATCH(p.title) AGAINST(:keyword IN BOOLEAN MODE) * 2 " +
+            "+ MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)) DESC, p.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM tb_post AS p " +
+                    "WHERE p.board_id = :boardId AND MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Post> searchByFullText(@Param("keyword") String keyword, @Param("boardId") String boardId, Pageable pageable);
+
+    @Query(value = "SELECT * FROM tb_post AS p " +
+            "WHERE p.board_id = :boardId AND p.is_deleted = :isDeleted AND MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY (MATCH(p.title) AGAINST(:keyword IN BOOLEAN MODE) * 2 " +
+            "+ MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)) DESC, p.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM tb_post AS p " +
+                    "WHERE p.board_id = :boardId AND p.is_deleted = :isDeleted AND MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Post> searchByFullText(@Param("keyword") String keyword, @Param("boardId") String boardId, Pageable pageable, @Param("isDeleted") boolean isDeleted);
+
 
     @Query(value = "SELECT * FROM tb_post AS p " +
             "JOIN tb_board AS b ON p.board_id = b.id " +
@@ -39,4 +140,22 @@ public interface PostRepository extends JpaRepository<Post, String> {
             "AND (c.id is NULL " +
             "OR (cm.status = 'MEMBER' AND c.is_deleted = false)) ORDER BY p.created_at DESC", nativeQuery = true)
     Page<Post> findByUserId(@Param("user_id") String userId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.numComment = p.numComment + 1 WHERE p.id = :id")
+    int increaseNumComment(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.numComment = p.numComment - 1 WHERE p.id = :id AND p.numComment > 0")
+    int decreaseNumComment(@Param("id") String id);
+
+    //삭제되지 않은 댓글 수와 다른 게시글의 댓글 수를 다시 계산
+    @Modifying
+    //MySQL 전용 UPDATE ... JOIN 대신 상관 서브쿼리를 사용해 테스트 DB(H2)에서도 같은 쿼리를 실행
+    @Query(value = "UPDATE tb_post " +
+            "SET num_comment = (SELECT COUNT(*) FROM tb_comment AS co " +
+            "WHERE co.post_id = tb_post.id AND co.is_deleted = false) " +
+            "WHERE num_comment <> (SELECT COUNT(*) FROM tb_comment AS co " +
+            "WHERE co.post_id = tb_post.id AND co.is_deleted = false)", nativeQuery = true)
+    int reconcileNumComment();
 }
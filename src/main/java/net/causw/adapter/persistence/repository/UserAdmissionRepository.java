@@ -25,4 +25,16 @@ public interface UserAdmissionRepository extends JpaRepository<UserAdmission, St
             "LEFT JOIN tb_user AS u ON ua.user_id = u.id " +
             "WHERE u.state = :user_state AND (:name IS NULL OR u.name LIKE %:name%) ORDER BY ua.created_at DESC", nativeQuery = true)
     Page<UserAdmission> findAllWithName(@Param("user_state") String userState, @Param("name") String name, Pageable pageable);
+
+    //사용자 이름에 대한 ngram FULLTEXT 검색
+    @Query(value = "SELECT ua.* " +
+            "FROM tb_user_admission AS ua " +
+            "JOIN tb_user AS u ON ua.user_id = u.id " +
+            "WHERE u.state = :user_state AND MATCH(u.name) AGAINST(:keyword IN BOOLEAN MODE) ORDER BY ua.created_at DESC",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM tb_user_admission AS ua " +
+                    "JOIN tb_user AS u ON ua.user_id = u.id " +
+                    "WHERE u.state = :user_state AND MATCH(u.name) AGAINST(:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<UserAdmission> searchByFullTextName(@Param("user_state") String userState, @Param("keyword") String keyword, Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package net.causw.adapter.persistence.repository;
 
 import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.user.UserResponseDto;
 import net.causw.domain.model.enums.Role;
 import net.causw.domain.model.enums.UserState;
 import org.springframework.data.domain.Page;
@@ -27,25 +28,30 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     List<User> findByRoleAndState(Role role, UserState state);
 
-    @Query(value = "SELECT * "  +
-            "FROM tb_user AS u " +
-            "WHERE u.state = :state AND (:name IS NULL OR u.name LIKE %:name%) ORDER BY u.created_at DESC" , nativeQuery = true)
-    Page<User> findByStateAndName(@Param("state") String state, @Param("name") String name, Pageable pageable);
-
-    @Query(value = "SELECT * "  +
-            "FROM tb_user AS u " +
-            "WHERE u.state IN :state AND (COALESCE(:name, '') = '' OR u.name LIKE CONCAT('%', :name, '%')) ORDER BY u.created_at DESC" , nativeQuery = true)
-    Page<User> findByStateInAndNameContaining(@Param("state")List<String> states, @Param("name")String name, Pageable pageable);
+    List<User> findByRoleInAndState(List<Role> roles, UserState state);
+
+    //사용자 목록 조회, 비밀번호와 refresh token 등 목록에 필요 없는 컬럼은 읽지 않고 UserResponseDto 를 바로 생성
+    @Query(value = "SELECT new net.causw.application.dto.user.UserResponseDto(" +
+            "u.id, u.email, u.name, u.studentId, u.admissionYear, u.role, u.profileImage, u.state) " +
+            "FROM User u " +
+            "WHERE u.state IN :states AND (COALESCE(:name, '') = '' OR u.name LIKE CONCAT('%', :name, '%')) " +
+            "ORDER BY u.createdAt DESC",
+            countQuery = "SELECT COUNT(u) FROM User u " +
+                    "WHERE u.state IN :states AND (COALESCE(:name, '') = '' OR u.name LIKE CONCAT('%', :name, '%'))")
+    Page<UserResponseDto> findSummaryByStateInAndName(@Param("states") List<UserState> states, @Param("name") String name, Pageable pageable);
+
+    //이름에 대한 ngram FULLTEXT 검색, 한 페이지의 사용자 id 만 찾고 목록은 findSummaryByIdIn 으로 조회
+    @Query(value = "SELECT u.id FROM tb_user AS u " +
+            "WHERE u.state IN (:states) AND MATCH(u.name) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY u.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM tb_user AS u " +
+                    "WHERE u.state IN (:states) AND MATCH(u.name) AGAINST(:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<String> searchIdsByStateInAndFullTextName(@Param("states") List<String> states, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = "SELECT new net.causw.application.dto.user.UserResponseDto(" +
+            "u.id, u.email, u.name, u.studentId, u.admissionYear, u.role, u.profileImage, u.state) " +
+            "FROM User u " +
+            "WHERE u.id IN :ids")
+    List<UserResponseDto> findSummaryByIdIn(@Param("ids") List<String> ids);
 }
-
-
-
-
-
-
-
-
-
-
-
-
@@ -0,0 +1,53 @@
+package net.causw.adapter.persistence.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DB 에 생성되어 있는 ngram FULLTEXT 인덱스를 확인합니다.
+ * 인덱스는 배포 시 scripts/search-index.sql 로 생성하며, 인덱스가 확인되기 전까지 검색은 FULLTEXT 대신 LIKE 쿼리를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexStatus {
+    public static final String POST_TITLE = "ft_post_title";
+    public static final String POST_TITLE_CONTENT = "ft_post_title_content";
+    public static final String USER_NAME = "ft_user_name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Set<String> readyIndexSet = Set.of();
+
+    public boolean isReady(String... indexNames) {
+        return this.readyIndexSet.containsAll(Arrays.asList(indexNames));
+    }
+
+    // 애플리케이션 시작 직후와 이후 10분마다 확인, 배포 중 인덱스가 생성되면 재시작 없이 FULLTEXT 검색을 사용
+    @Scheduled(fixedDelay = 1000L * 60 * 10)
+    public void refresh() {
+        try {
+            Set<String> indexSet = new HashSet<>(this.jdbcTemplate.queryForList(
+                    "SELECT DISTINCT index_name FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND index_type = 'FULLTEXT'",
+                    String.class
+            ));
+
+            if (!indexSet.equals(this.readyIndexSet)) {
+                FullTextIndexStatus.log.info("Full-text indexes ready: {}", indexSet);
+            }
+            this.readyIndexSet = Set.copyOf(indexSet);
+        } catch (DataAccessException e) {
+            FullTextIndexStatus.log.warn("Full-text indexes could not be checked, LIKE search is used", e);
+            this.readyIndexSet = Set.of();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.causw.adapter.persistence.search;
+
+import net.causw.domain.model.util.StaticValue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * ngram FULLTEXT 인덱스 검색에 사용할 BOOLEAN MODE 검색식을 생성합니다.
+ */
+public final class FullTextKeyword {
+    private FullTextKeyword() {
+    }
+
+    // 검색어의 모든 단어를 포함하는(+"단어") BOOLEAN MODE 검색식으로 변환
+    // ngram 토큰보다 짧은 단어만 있으면 FULLTEXT 인덱스로 찾을 수 없으므로 빈 값을 반환하고, 호출하는 쪽에서 LIKE 검색을 사용
+    public static Optional<String> of(String keyword) {
+        if (keyword == null) {
+            return Optional.empty();
+        }
+
+        List<String> termList = Arrays.stream(keyword.split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> term.length() >= StaticValue.FULL_TEXT_NGRAM_TOKEN_SIZE)
+                .collect(Collectors.toList());
+
+        if (termList.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(termList.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" ")));
+    }
+}
@@ -13,7 +13,9 @@ import net.causw.domain.model.enums.UserState;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
+import javax.persistence.FetchType;
 import javax.persistence.Enumerated;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
@@ -24,7 +26,10 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "tb_user")
+@Table(
+        name = "tb_user",
+        indexes = @Index(name = "idx_user_state_created_at", columnList = "state, created_at")
+)
 public class User extends BaseEntity {
     @Column(name = "email", unique = true, nullable = false)
     private String email;
@@ -55,7 +60,8 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private UserState state;
 
-    @OneToOne
+    //사용하지 않는 연관관계이므로 사용자를 조회할 때마다 사물함을 함께 조회하지 않도록 지연 로딩
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "locker_id", nullable = true)
     private Locker locker;
 
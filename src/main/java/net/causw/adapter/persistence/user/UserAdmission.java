@@ -7,6 +7,7 @@ import net.causw.domain.model.user.UserAdmissionDomainModel;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
@@ -14,7 +15,10 @@ import javax.persistence.Table;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "tb_user_admission")
+@Table(
+        name = "tb_user_admission",
+        indexes = @Index(name = "idx_user_admission_created_at", columnList = "created_at")
+)
 public class UserAdmission extends BaseEntity {
     @OneToOne
     @JoinColumn(name = "user_id", nullable = false)
@@ -7,6 +7,7 @@ import net.causw.application.dto.locker.LockerExpiredAtRequestDto;
 import net.causw.application.dto.locker.LockerLocationsResponseDto;
 import net.causw.application.dto.locker.LockersResponseDto;
 import net.causw.application.dto.locker.LockerCreateRequestDto;
+import net.causw.application.dto.locker.LockerLayoutRequestDto;
 import net.causw.application.dto.locker.LockerLocationCreateRequestDto;
 import net.causw.application.dto.locker.LockerLocationResponseDto;
 import net.causw.application.dto.locker.LockerLocationUpdateRequestDto;
@@ -15,6 +16,7 @@ import net.causw.application.dto.locker.LockerMoveRequestDto;
 import net.causw.application.dto.locker.LockerResponseDto;
 import net.causw.application.dto.locker.LockerUpdateRequestDto;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -120,6 +123,20 @@ public class LockerController {
         return this.lockerService.findByLocation(locationId, loginUserId);
     }
 
+    @GetMapping(value = "/locations/{locationId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "사물함 특정 층 변경 구독 Api", notes = "특정 층의 사물함 변경을 SSE 로 전달하는 API입니다.\n" +
+            "snapshot: 구독 직후 전체 사물함 목록(LockersResponseDto)\n" +
+            "locker: 변경된 사물함(LockerResponseDto)\n" +
+            "reload: 사물함이 추가/삭제/이동되어 다시 구독해야 함")
+    @ResponseStatus(value = HttpStatus.OK)
+    public SseEmitter subscribeByLocation(
+            @PathVariable String locationId
+    ) {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        String loginUserId = ((String) principal);
+        return this.lockerService.subscribeByLocation(locationId, loginUserId);
+    }
+
     @PostMapping(value = "/locations")
     @ApiOperation(value = "사물함 위치 생성 API(완료)", notes = "사물함 특정 층 생성 API 입니다.")
     @ResponseStatus(value = HttpStatus.CREATED)
@@ -176,11 +193,14 @@ public class LockerController {
     }
 
     @PostMapping(value = "/createAll")
-    @ApiOperation(value = "사물함 전체 생성 API(관리자)" , notes = "현재 존재하는 모든 사물함을 생성하는 API입니다.")
+    @ApiOperation(value = "사물함 전체 생성 API(관리자)" , notes = "사물함 위치별 개수만큼 사물함을 생성하는 API입니다.\n" +
+            "요청 본문이 없으면 기본 배치(2층 136개, 3층 168개, 4층 32개)로 생성합니다.")
     @ResponseStatus(value = HttpStatus.OK)
-    public void createAllLockers(){
+    public void createAllLockers(
+            @RequestBody(required = false) List<LockerLayoutRequestDto> lockerLayoutRequestDtoList
+    ) {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         String loginUserId = ((String) principal);
-        this.lockerService.createAllLockers(loginUserId);
+        this.lockerService.createAllLockers(loginUserId, lockerLayoutRequestDtoList);
     }
 }
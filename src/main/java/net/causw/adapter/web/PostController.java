@@ -6,6 +6,7 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import net.causw.application.post.PostService;
+import net.causw.application.dto.post.BoardPostsCursorResponseDto;
 import net.causw.application.dto.post.BoardPostsResponseDto;
 import net.causw.application.dto.post.PostCreateRequestDto;
 import net.causw.application.dto.post.PostResponseDto;
@@ -88,9 +89,34 @@ public class PostController {
         return this.postService.findAllPost(loginUserId, boardId, pageNum);
     }
 
+    @GetMapping("/cursor")
+    @ResponseStatus(value = HttpStatus.OK)
+    @ApiOperation(value = "게시글 커서 조회 API", notes = "게시글 전체 조회 API와 같은 게시글을 커서 기반으로 불러옵니다.\n첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 값을 cursor로 전달합니다.\nnextCursor가 null이면 마지막 페이지입니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK", response = String.class),
+            @ApiResponse(code = 4000, message = "로그인된 사용자를 찾을 수 없습니다.", response = BadRequestException.class),
+            @ApiResponse(code = 4000, message = "게시판을 찾을 수 없습니다.", response = BadRequestException.class),
+            @ApiResponse(code = 4002, message = "잘못된 커서 값입니다.", response = BadRequestException.class),
+            @ApiResponse(code = 4102, message = "추방된 사용자 입니다.", response = UnauthorizedException.class),
+            @ApiResponse(code = 4103, message = "비활성화된 사용자 입니다.", response = UnauthorizedException.class),
+            @ApiResponse(code = 4104, message = "대기 중인 사용자 입니다.", response = UnauthorizedException.class),
+            @ApiResponse(code = 4109, message = "가입이 거절된 사용자 입니다.", response = UnauthorizedException.class),
+            @ApiResponse(code = 4012, message = "접근 권한이 없습니다. 다시 로그인 해주세요. 문제 반복시 관리자에게 문의해주세요.", response = BadRequestException.class),
+            @ApiResponse(code = 4108, message = "로그인된 사용자가 동아리 멤버가 아닙니다.", response = UnauthorizedException.class),
+            @ApiResponse(code = 4004, message = "삭제된 동아리입니다.", response = BadRequestException.class)
+    })
+    public BoardPostsCursorResponseDto findAllPostByCursor(
+            @RequestParam String boardId,
+            @RequestParam(required = false) String cursor
+    ) {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        String loginUserId = ((String) principal);
+        return this.postService.findAllPostByCursor(loginUserId, boardId, cursor);
+    }
+
     @GetMapping("/search")
     @ResponseStatus(value = HttpStatus.OK)
-    @ApiOperation(value = "게시글 검색 API(완료)", notes = "게시글을 검색하는 api로 제목의 연관검색어로 검색 가능합니다.")
+    @ApiOperation(value = "게시글 검색 API(완료)", notes = "게시글을 검색하는 api로 제목과 내용에 검색어가 포함된 게시글을 관련도 순으로 조회합니다.")
     @ApiResponses({
             @ApiResponse(code = 200, message = "OK", response = String.class),
             @ApiResponse(code = 4000, message = "로그인된 사용자를 찾을 수 없습니다.", response = BadRequestException.class),
@@ -110,7 +136,7 @@ public class PostController {
             @ApiResponse(code = 4004, message = "삭제된 게시판입니다.", response = BadRequestException.class),
     })
     @ApiImplicitParam(name = "keyword",
-            value = "제목 연관검색어",
+            value = "제목, 내용 검색어",
             required = true,
             dataType = "String",
             paramType = "query"
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import net.causw.application.dto.board.BoardCreateRequestDto;
 import net.causw.application.dto.board.BoardResponseDto;
 import net.causw.application.dto.board.BoardUpdateRequestDto;
+import net.causw.application.homepage.HomePageChangedEvent;
 import net.causw.application.spi.BoardPort;
 import net.causw.application.spi.CircleMemberPort;
 import net.causw.application.spi.CirclePort;
@@ -25,6 +26,7 @@ import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.TargetIsNotDeletedValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +43,8 @@ public class BoardService {
     private final CirclePort circlePort;
     private final CircleMemberPort circleMemberPort;
     private final Validator validator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Transactional(readOnly = true)
     public List<BoardResponseDto> findAllBoard(String loginUserId) {
         UserDomainModel userDomainModel = this.userPort.findById(loginUserId).orElseThrow(
@@ -147,7 +151,10 @@ public class BoardService {
                 .consistOf(ConstraintValidator.of(boardDomainModel, this.validator))
                 .validate();
 
-        return BoardResponseDto.from(this.boardPort.createBoard(boardDomainModel), creatorDomainModel.getRole());
+        BoardDomainModel createdBoardDomainModel = this.boardPort.createBoard(boardDomainModel);
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofAllBoards());
+
+        return BoardResponseDto.from(createdBoardDomainModel, creatorDomainModel.getRole());
     }
 
     @Transactional
@@ -212,13 +219,16 @@ public class BoardService {
                 .consistOf(ConstraintValidator.of(boardDomainModel, this.validator))
                 .validate();
 
+        BoardDomainModel updatedBoardDomainModel = this.boardPort.updateBoard(boardId, boardDomainModel).orElseThrow(
+                () -> new InternalServerException(
+                        ErrorCode.INTERNAL_SERVER,
+                        "Board id checked, but exception occurred"
+                )
+        );
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofAllBoards());
+
         return BoardResponseDto.from(
-                this.boardPort.updateBoard(boardId, boardDomainModel).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Board id checked, but exception occurred"
-                        )
-                ),
+                updatedBoardDomainModel,
                 updaterDomainModel.getRole()
         );
     }
@@ -284,13 +294,16 @@ public class BoardService {
         validatorBucket
                 .validate();
 
+        BoardDomainModel deletedBoardDomainModel = this.boardPort.deleteBoard(boardId).orElseThrow(
+                () -> new InternalServerException(
+                        ErrorCode.INTERNAL_SERVER,
+                        "Board id checked, but exception occurred"
+                )
+        );
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofAllBoards());
+
         return BoardResponseDto.from(
-                this.boardPort.deleteBoard(boardId).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Board id checked, but exception occurred"
-                        )
-                ),
+                deletedBoardDomainModel,
                 deleterDomainModel.getRole()
         );
     }
@@ -356,13 +369,16 @@ public class BoardService {
         validatorBucket
                 .validate();
 
+        BoardDomainModel restoredBoardDomainModel = this.boardPort.restoreBoard(boardId).orElseThrow(
+                () -> new InternalServerException(
+                        ErrorCode.INTERNAL_SERVER,
+                        "Board id checked, but exception occurred"
+                )
+        );
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofAllBoards());
+
         return BoardResponseDto.from(
-                this.boardPort.restoreBoard(boardId).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Board id checked, but exception occurred"
-                        )
-                ),
+                restoredBoardDomainModel,
                 restorerDomainModel.getRole()
         );
     }
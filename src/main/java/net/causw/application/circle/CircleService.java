@@ -12,9 +12,9 @@ import net.causw.application.dto.circle.CirclesResponseDto;
 import net.causw.application.spi.BoardPort;
 import net.causw.application.spi.CircleMemberPort;
 import net.causw.application.spi.CirclePort;
-import net.causw.application.spi.CommentPort;
 import net.causw.application.spi.PostPort;
 import net.causw.application.spi.UserPort;
+import net.causw.application.user.PrivilegedUserChangedEvent;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
@@ -23,6 +23,7 @@ import net.causw.domain.model.circle.CircleDomainModel;
 import net.causw.domain.model.circle.CircleMemberDomainModel;
 import net.causw.domain.model.enums.CircleMemberStatus;
 import net.causw.domain.model.enums.Role;
+import net.causw.domain.model.post.PostDomainModel;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.model.user.UserDomainModel;
 import net.causw.domain.validation.CircleMemberStatusValidator;
@@ -36,6 +37,8 @@ import net.causw.domain.validation.UserRoleIsNoneValidator;
 import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +47,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -55,8 +59,8 @@ public class CircleService {
     private final CircleMemberPort circleMemberPort;
     private final BoardPort boardPort;
     private final PostPort postPort;
-    private final CommentPort commentPort;
     private final Validator validator;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(readOnly = true)
     public CircleResponseDto findById(String circleId) {
@@ -93,13 +97,20 @@ public class CircleService {
 
         Map<String, CircleMemberDomainModel> joinedCircleMap = this.circleMemberPort.findCircleByUserId(userDomainModel.getId());
 
-        return this.circlePort.findAll()
+        List<CircleDomainModel> circleDomainModelList = this.circlePort.findAll();
+        Map<String, Long> numMemberMap = this.circleMemberPort.getNumMemberByCircleIds(
+                circleDomainModelList.stream().map(CircleDomainModel::getId).collect(Collectors.toList())
+        );
+
+        return circleDomainModelList
                 .stream()
                 .map(circleDomainModel -> {
+                            Long numMember = numMemberMap.getOrDefault(circleDomainModel.getId(), 0L);
+
                             if (userDomainModel.getRole().equals(Role.ADMIN) || userDomainModel.getRole().getValue().contains("PRESIDENT")) {
                                 return CirclesResponseDto.from(
                                         circleDomainModel,
-                                        this.circleMemberPort.getNumMember(circleDomainModel.getId()),
+                                        numMember,
                                         LocalDateTime.now()
                                 );
                             }
@@ -107,12 +118,12 @@ public class CircleService {
                             return Optional.ofNullable(joinedCircleMap.get(circleDomainModel.getId()))
                                     .map(circleMemberDomainModel -> CirclesResponseDto.from(
                                             circleDomainModel,
-                                            this.circleMemberPort.getNumMember(circleDomainModel.getId()),
+                                            numMember,
                                             circleMemberDomainModel.getUpdatedAt()
                                     ))
                                     .orElse(CirclesResponseDto.from(
                                             circleDomainModel,
-                                            this.circleMemberPort.getNumMember(circleDomainModel.getId())
+                                            numMember
                                             ));
                         }
                 )
@@ -160,26 +171,33 @@ public class CircleService {
                     .validate();
         }
 
+        //게시판별 최신 게시글을 한 번에 조회
+        List<BoardDomainModel> boardDomainModelList = this.boardPort.findByCircleId(circleId);
+        Map<String, Page<PostDomainModel>> latestPostMap = this.postPort.findLatestPosts(
+                boardDomainModelList.stream().map(BoardDomainModel::getId).collect(Collectors.toList()),
+                1
+        );
+
         return CircleBoardsResponseDto.from(
                 CircleResponseDto.from(
                         circleDomainModel,
                         this.circleMemberPort.getNumMember(circleId)
                 ),
-                this.boardPort.findByCircleId(circleId)
+                boardDomainModelList
                         .stream()
-                        .map(boardDomainModel -> this.postPort.findLatestPost(boardDomainModel.getId()).map(
-                                postDomainModel -> BoardOfCircleResponseDto.from(
+                        .map(boardDomainModel -> latestPostMap.getOrDefault(boardDomainModel.getId(), Page.empty())
+                                .get()
+                                .findFirst()
+                                .map(postDomainModel -> BoardOfCircleResponseDto.from(
                                         boardDomainModel,
                                         userDomainModel.getRole(),
                                         postDomainModel,
-                                        this.commentPort.countByPostId(postDomainModel.getId())
-                                )
-                        ).orElse(
-                                BoardOfCircleResponseDto.from(
+                                        postDomainModel.getNumComment()
+                                ))
+                                .orElse(BoardOfCircleResponseDto.from(
                                         boardDomainModel,
                                         userDomainModel.getRole()
-                                )
-                        ))
+                                )))
                         .collect(Collectors.toList())
         );
     }
@@ -232,10 +250,18 @@ public class CircleService {
                 .consistOf(UserEqualValidator.of(user.getId(), circleLeader.getId()))
                 .validate();
 
-        return this.circleMemberPort.findByCircleId(circleId, status)
+        //소모임원의 사용자 정보를 한 번에 조회
+        List<CircleMemberDomainModel> circleMemberDomainModelList = this.circleMemberPort.findByCircleId(circleId, status);
+        Map<String, UserDomainModel> memberMap = this.userPort.findAllByIds(
+                circleMemberDomainModelList.stream().map(CircleMemberDomainModel::getUserId).collect(Collectors.toSet())
+        )
+                .stream()
+                .collect(Collectors.toMap(UserDomainModel::getId, Function.identity()));
+
+        return circleMemberDomainModelList
                 .stream()
                 .map(circleMember -> {
-                    UserDomainModel member = this.userPort.findById(circleMember.getUserId()).orElseThrow(
+                    UserDomainModel member = Optional.ofNullable(memberMap.get(circleMember.getUserId())).orElseThrow(
                             () -> new BadRequestException(
                                     ErrorCode.ROW_DOES_NOT_EXIST,
                                     "소모임원을 찾을 수 없습니다."
@@ -302,6 +328,7 @@ public class CircleService {
 
         // Create circle
         CircleDomainModel newCircle = this.circlePort.create(circleDomainModel);
+        this.applicationEventPublisher.publishEvent(PrivilegedUserChangedEvent.of());
 
         // Create boards of circle
         BoardDomainModel noticeBoard = BoardDomainModel.of(
@@ -397,6 +424,9 @@ public class CircleService {
         validatorBucket
                 .validate();
 
+        //동아리 이름이 권한 사용자 목록에 포함되므로 무효화
+        this.applicationEventPublisher.publishEvent(PrivilegedUserChangedEvent.of());
+
         return CircleResponseDto.from(this.circlePort.update(circleId, circle).orElseThrow(
                 () -> new InternalServerException(
                         ErrorCode.INTERNAL_SERVER,
@@ -475,6 +505,7 @@ public class CircleService {
                 )
         ));
         boardPort.deleteAllCircleBoard(circleId);
+        this.applicationEventPublisher.publishEvent(PrivilegedUserChangedEvent.of());
         return circleResponseDto;
     }
 
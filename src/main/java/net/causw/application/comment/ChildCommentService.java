@@ -133,8 +133,11 @@ public class ChildCommentService {
         validatorBucket
                 .validate();
 
+        ChildCommentDomainModel createdChildCommentDomainModel = this.childCommentPort.create(childCommentDomainModel, postDomainModel);
+        this.commentPort.increaseNumChildComment(parentCommentDomainModel.getId());
+
         return ChildCommentResponseDto.from(
-                this.childCommentPort.create(childCommentDomainModel, postDomainModel),
+                createdChildCommentDomainModel,
                 creatorDomainModel,
                 postDomainModel.getBoard()
         );
@@ -202,7 +205,7 @@ public class ChildCommentService {
                         parentCommentDomainModel,
                         userDomainModel,
                         postDomainModel.getBoard(),
-                        this.childCommentPort.countByParentComment(parentCommentDomainModel.getId())
+                        parentCommentDomainModel.getNumChildComment()
                 ),
                 this.childCommentPort.findByParentComment(parentCommentId, pageNum)
                         .map(childCommentDomainModel ->
@@ -383,13 +386,17 @@ public class ChildCommentService {
         validatorBucket
                 .validate();
 
+        //동시에 삭제한 다른 요청이 먼저 삭제한 경우 여기서 중단해 답글 수를 한 번만 줄임
+        ChildCommentDomainModel deletedChildCommentDomainModel = this.childCommentPort.delete(childCommentId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.TARGET_DELETED,
+                        "이미 삭제된 답글입니다."
+                )
+        );
+        this.commentPort.decreaseNumChildComment(childCommentDomainModel.getParentComment().getId());
+
         return ChildCommentResponseDto.from(
-                this.childCommentPort.delete(childCommentId).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Comment id checked, but exception occurred"
-                        )
-                ),
+                deletedChildCommentDomainModel,
                 deleterDomainModel,
                 postDomainModel.getBoard()
         );
@@ -0,0 +1,39 @@
+package net.causw.application.comment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.application.spi.CommentPort;
+import net.causw.application.spi.PostPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글의 댓글 수(num_comment)와 댓글의 답글 수(num_child_comment)를 실제 행 수와 맞춥니다.
+ * 평소에는 댓글/답글 생성, 삭제 시 증감 쿼리로 갱신하므로 이 작업은 어긋난 행만 수정합니다.
+ * 두 컬럼은 애플리케이션 시작 시 0 으로 추가되므로, 기존 게시글과 댓글의 수는 시작 직후 한 번 실행해 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountScheduler {
+    private final PostPort postPort;
+    private final CommentPort commentPort;
+
+    // 애플리케이션 시작 직후, 매일 새벽 4시
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void reconcile() {
+        Integer numReconciledPost = this.postPort.reconcileNumComment();
+        Integer numReconciledComment = this.commentPort.reconcileNumChildComment();
+
+        CommentCountScheduler.log.info(
+                "Comment counts reconciled: {} posts, {} comments",
+                numReconciledPost,
+                numReconciledComment
+        );
+    }
+}
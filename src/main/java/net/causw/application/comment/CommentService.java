@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import net.causw.application.dto.comment.CommentCreateRequestDto;
 import net.causw.application.dto.comment.CommentResponseDto;
 import net.causw.application.dto.comment.CommentUpdateRequestDto;
-import net.causw.application.spi.ChildCommentPort;
 import net.causw.application.spi.CircleMemberPort;
 import net.causw.application.spi.CommentPort;
 import net.causw.application.spi.PostPort;
@@ -42,7 +41,6 @@ public class CommentService {
     private final UserPort userPort;
     private final PostPort postPort;
     private final CircleMemberPort circleMemberPort;
-    private final ChildCommentPort childCommentPort;
     private final Validator validator;
 
     @Transactional
@@ -103,11 +101,14 @@ public class CommentService {
         validatorBucket
                 .validate();
 
+        CommentDomainModel createdCommentDomainModel = this.commentPort.create(commentDomainModel, postDomainModel);
+        this.postPort.increaseNumComment(postDomainModel.getId());
+
         return CommentResponseDto.from(
-                this.commentPort.create(commentDomainModel, postDomainModel),
+                createdCommentDomainModel,
                 creatorDomainModel,
                 postDomainModel.getBoard(),
-                this.childCommentPort.countByParentComment(commentDomainModel.getId())
+                createdCommentDomainModel.getNumChildComment()
         );
     }
 
@@ -162,14 +163,10 @@ public class CommentService {
                 .validate();
 
         return this.commentPort.findByPostId(postId, pageNum)
-                .map(commentDomainModel ->
-                        CommentResponseDto.from(
-                                commentDomainModel,
-                                userDomainModel,
-                                postDomainModel.getBoard(),
-                                this.childCommentPort.countByParentComment(commentDomainModel.getId())
-                        )
-                );
+                .map(commentResponseDto -> commentResponseDto.applyPermission(
+                        userDomainModel,
+                        postDomainModel.getBoard()
+                ));
     }
 
     @Transactional
@@ -254,7 +251,7 @@ public class CommentService {
                 ),
                 requestUser,
                 postDomainModel.getBoard(),
-                this.childCommentPort.countByParentComment(commentId)
+                commentDomainModel.getNumChildComment()
         );
     }
 
@@ -340,16 +337,20 @@ public class CommentService {
         validatorBucket
                 .validate();
 
+        //동시에 삭제한 다른 요청이 먼저 삭제한 경우 여기서 중단해 댓글 수를 한 번만 줄임
+        CommentDomainModel deletedCommentDomainModel = this.commentPort.delete(commentId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.TARGET_DELETED,
+                        "이미 삭제된 댓글입니다."
+                )
+        );
+        this.postPort.decreaseNumComment(postDomainModel.getId());
+
         return CommentResponseDto.from(
-                this.commentPort.delete(commentId).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Comment id checked, but exception occurred"
-                        )
-                ),
+                deletedCommentDomainModel,
                 deleterDomainModel,
                 postDomainModel.getBoard(),
-                this.childCommentPort.countByParentComment(commentId)
+                commentDomainModel.getNumChildComment()
         );
     }
 }
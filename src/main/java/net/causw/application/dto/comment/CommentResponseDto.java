@@ -1,5 +1,6 @@
 package net.causw.application.dto.comment;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 import net.causw.domain.model.board.BoardDomainModel;
@@ -26,31 +27,35 @@ public class CommentResponseDto {
     private Boolean deletable;
     private Long numChildComment;
 
-    private CommentResponseDto(
+    @JsonIgnore
+    private String writerId;
+
+    //목록 조회 시 CommentRepository 에서 필요한 컬럼만 조회해 바로 생성, 수정/삭제 권한은 applyPermission 으로 설정
+    public CommentResponseDto(
             String id,
             String content,
             LocalDateTime createdAt,
             LocalDateTime updatedAt,
             Boolean isDeleted,
             String postId,
+            String writerId,
             String writerName,
             Integer writerAdmissionYear,
             String writerProfileImage,
-            Boolean updatable,
-            Boolean deletable,
             Long numChildComment
     ) {
         this.id = id;
-        this.content = content;
+        this.content = isDeleted ? StaticValue.CONTENT_DELETED_COMMENT : content;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.isDeleted = isDeleted;
         this.postId = postId;
+        this.writerId = writerId;
         this.writerName = writerName;
         this.writerAdmissionYear = writerAdmissionYear;
         this.writerProfileImage = writerProfileImage;
-        this.updatable = updatable;
-        this.deletable = deletable;
+        this.updatable = false;
+        this.deletable = false;
         this.numChildComment = numChildComment;
     }
 
@@ -59,15 +64,33 @@ public class CommentResponseDto {
             UserDomainModel user,
             BoardDomainModel board,
             Long numChildComment
+    ) {
+        return new CommentResponseDto(
+                comment.getId(),
+                comment.getContent(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt(),
+                comment.getIsDeleted(),
+                comment.getPostId(),
+                comment.getWriter().getId(),
+                comment.getWriter().getName(),
+                comment.getWriter().getAdmissionYear(),
+                comment.getWriter().getProfileImage(),
+                numChildComment
+        ).applyPermission(user, board);
+    }
+
+    public CommentResponseDto applyPermission(
+            UserDomainModel user,
+            BoardDomainModel board
     ) {
         boolean updatable = false;
         boolean deletable = false;
-        String content = comment.getContent();
 
         if (user.getRole() == Role.ADMIN) {
             updatable = true;
             deletable = true;
-        } else if (comment.getWriter().getId().equals(user.getId())) {
+        } else if (this.writerId.equals(user.getId())) {
             updatable = true;
             deletable = true;
         } else if (user.getRole().getValue().contains("PRESIDENT")) {
@@ -84,25 +107,9 @@ public class CommentResponseDto {
             }
         }
 
-        if (comment.getIsDeleted()) {
-            updatable = false;
-            deletable = false;
-            content = StaticValue.CONTENT_DELETED_COMMENT;
-        }
+        this.updatable = updatable && !this.isDeleted;
+        this.deletable = deletable && !this.isDeleted;
 
-        return new CommentResponseDto(
-                comment.getId(),
-                content,
-                comment.getCreatedAt(),
-                comment.getUpdatedAt(),
-                comment.getIsDeleted(),
-                comment.getPostId(),
-                comment.getWriter().getName(),
-                comment.getWriter().getAdmissionYear(),
-                comment.getWriter().getProfileImage(),
-                updatable,
-                deletable,
-                numChildComment
-        );
+        return this;
     }
 }
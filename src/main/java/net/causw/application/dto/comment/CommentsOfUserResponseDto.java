@@ -2,7 +2,6 @@ package net.causw.application.dto.comment;
 
 import lombok.Getter;
 import lombok.Setter;
-import net.causw.domain.model.comment.CommentDomainModel;
 
 import java.time.LocalDateTime;
 
@@ -21,7 +20,8 @@ public class CommentsOfUserResponseDto {
     private String circleId;
     private String circleName;
 
-    private CommentsOfUserResponseDto(
+    //내 댓글 목록 조회 시 CommentRepository 에서 게시글, 게시판, 소모임 정보와 함께 조회해 바로 생성
+    public CommentsOfUserResponseDto(
             String id,
             String content,
             LocalDateTime createdAt,
@@ -46,28 +46,4 @@ public class CommentsOfUserResponseDto {
         this.circleId = circleId;
         this.circleName = circleName;
     }
-
-    public static CommentsOfUserResponseDto from(
-            CommentDomainModel comment,
-            String boardId,
-            String boardName,
-            String postId,
-            String postName,
-            String circleId,
-            String circleName
-    ) {
-        return new CommentsOfUserResponseDto(
-                comment.getId(),
-                comment.getContent(),
-                comment.getCreatedAt(),
-                comment.getUpdatedAt(),
-                comment.getIsDeleted(),
-                boardId,
-                boardName,
-                postId,
-                postName,
-                circleId,
-                circleName
-        );
-    }
 }
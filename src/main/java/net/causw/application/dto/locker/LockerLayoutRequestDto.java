@@ -0,0 +1,19 @@
+package net.causw.application.dto.locker;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LockerLayoutRequestDto {
+    @ApiModelProperty(value = "사물함 위치 id", example = "402881cd8dcaaab2018dcab2d8820000")
+    private String lockerLocationId;
+
+    @ApiModelProperty(value = "해당 위치에 생성할 사물함 개수(1번부터 생성)", example = "136")
+    private Long lockerCount;
+}
@@ -0,0 +1,64 @@
+package net.causw.application.dto.post;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import net.causw.domain.model.board.BoardDomainModel;
+import net.causw.domain.model.enums.Role;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@Setter
+public class BoardPostsCursorResponseDto {
+
+    @ApiModelProperty(value = "게시판 id", example = "uuid 형식의 String 값입니다.")
+    private String boardId;
+
+    @ApiModelProperty(value = "게시판 이름", example = "게시판 이름입니다.")
+    private String boardName;
+
+    @ApiModelProperty(value = "게시글 작성 가능여부", example = "true")
+    private Boolean writable;
+
+    @ApiModelProperty(value = "즐겨찾기 게시판 여부", example = "false")
+    private Boolean isFavorite;
+
+    @ApiModelProperty(value = "게시글 정보입니다", example = "게시글 정보입니다")
+    private Slice<PostsResponseDto> post;
+
+    @ApiModelProperty(value = "다음 페이지 커서, 마지막 페이지인 경우 null", example = "MjAyNC0wMS0yNlQxODo0MDo0MC42NDN8dXVpZA")
+    private String nextCursor;
+
+    private BoardPostsCursorResponseDto(
+            String boardId,
+            String boardName,
+            Boolean writable,
+            Boolean isFavorite,
+            Slice<PostsResponseDto> post,
+            String nextCursor
+    ) {
+        this.boardId = boardId;
+        this.boardName = boardName;
+        this.writable = writable;
+        this.isFavorite = isFavorite;
+        this.post = post;
+        this.nextCursor = nextCursor;
+    }
+
+    public static BoardPostsCursorResponseDto from(
+            BoardDomainModel boardDomainModel,
+            Role userRole,
+            Boolean isFavorite,
+            Slice<PostsResponseDto> post,
+            String nextCursor
+    ) {
+        return new BoardPostsCursorResponseDto(
+                boardDomainModel.getId(),
+                boardDomainModel.getName(),
+                boardDomainModel.getCreateRoleList().stream().anyMatch(str -> userRole.getValue().contains(str)),
+                isFavorite,
+                post,
+                nextCursor
+        );
+    }
+}
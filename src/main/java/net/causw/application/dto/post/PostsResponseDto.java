@@ -34,7 +34,8 @@ public class PostsResponseDto {
     @ApiModelProperty(value = "게시글 삭제여부", example = "false")
     private Boolean isDeleted;
 
-    private PostsResponseDto(
+    //목록 조회 시 PostRepository 에서 필요한 컬럼만 조회해 바로 생성
+    public PostsResponseDto(
             String id,
             String title,
             String writerName,
@@ -66,6 +66,20 @@ public class UserResponseDto {
         this.circleNameIfLeader = circleNameIfLeader;
     }
 
+    //목록 조회 시 UserRepository 에서 필요한 컬럼만 조회해 바로 생성
+    public UserResponseDto(
+            String id,
+            String email,
+            String name,
+            String studentId,
+            Integer admissionYear,
+            Role role,
+            String profileImage,
+            UserState state
+    ) {
+        this(id, email, name, studentId, admissionYear, role, profileImage, state, null, null);
+    }
+
     public static UserResponseDto from(UserDomainModel user) {
         return new UserResponseDto(
                 user.getId(),
@@ -0,0 +1,133 @@
+package net.causw.application.homepage;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.application.dto.post.PostsResponseDto;
+import net.causw.application.spi.BoardPort;
+import net.causw.application.spi.PostPort;
+import net.causw.domain.model.board.BoardDomainModel;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 홈페이지의 게시판 목록과 게시판별 최신 게시글을 메모리에 보관합니다.
+ * 사용자 권한에 따라 달라지는 값(writable)은 보관하지 않으므로 모든 사용자가 같은 스냅샷을 공유합니다.
+ * 게시글이 바뀌면 해당 게시판만, 게시판이 바뀌면 전체를 무효화하고 다음 요청에서 빠진 부분만 다시 조회합니다.
+ * 댓글 수처럼 이벤트가 없는 값은 HOME_PAGE_CACHE_TTL 이 지나면 갱신됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomePageCache {
+    private final BoardPort boardPort;
+    private final PostPort postPort;
+
+    private final Map<String, Page<PostsResponseDto>> postsMap = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private volatile List<BoardDomainModel> boardDomainModelList;
+    private volatile long loadedAt;
+    private long version;
+
+    public List<BoardDomainModel> findAllBoard() {
+        this.expireIfStale();
+
+        List<BoardDomainModel> cachedBoardDomainModelList = this.boardDomainModelList;
+        if (cachedBoardDomainModelList != null) {
+            return cachedBoardDomainModelList;
+        }
+
+        long loadVersion = this.currentVersion();
+        List<BoardDomainModel> loadedBoardDomainModelList = List.copyOf(this.boardPort.findAllBoard(false));
+
+        synchronized (this.lock) {
+            if (this.version == loadVersion) {
+                this.boardDomainModelList = loadedBoardDomainModelList;
+                this.loadedAt = System.currentTimeMillis();
+            }
+        }
+
+        return loadedBoardDomainModelList;
+    }
+
+    public Map<String, Page<PostsResponseDto>> findLatestPosts(List<String> boardIds) {
+        Map<String, Page<PostsResponseDto>> postsResponseDtoPageMap = new HashMap<>();
+        boardIds.forEach(boardId -> {
+            Page<PostsResponseDto> cachedPage = this.postsMap.get(boardId);
+            if (cachedPage != null) {
+                postsResponseDtoPageMap.put(boardId, cachedPage);
+            }
+        });
+
+        List<String> missingBoardIds = boardIds.stream()
+                .filter(boardId -> !postsResponseDtoPageMap.containsKey(boardId))
+                .collect(Collectors.toList());
+        if (missingBoardIds.isEmpty()) {
+            return postsResponseDtoPageMap;
+        }
+
+        long loadVersion = this.currentVersion();
+        Map<String, Page<PostsResponseDto>> loadedPageMap = this.loadLatestPosts(missingBoardIds);
+
+        synchronized (this.lock) {
+            if (this.version == loadVersion) {
+                this.postsMap.putAll(loadedPageMap);
+            }
+        }
+
+        postsResponseDtoPageMap.putAll(loadedPageMap);
+        return postsResponseDtoPageMap;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomePageChanged(HomePageChangedEvent homePageChangedEvent) {
+        synchronized (this.lock) {
+            this.version++;
+            homePageChangedEvent.getBoardId().ifPresentOrElse(
+                    this.postsMap::remove,
+                    this::clear
+            );
+        }
+    }
+
+    private Map<String, Page<PostsResponseDto>> loadLatestPosts(List<String> boardIds) {
+        return this.postPort.findLatestPosts(boardIds, StaticValue.HOME_POST_PAGE_SIZE)
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().map(postDomainModel -> PostsResponseDto.from(
+                                postDomainModel,
+                                postDomainModel.getNumComment()
+                        ))
+                ));
+    }
+
+    private void expireIfStale() {
+        if (this.boardDomainModelList == null
+                || System.currentTimeMillis() - this.loadedAt < StaticValue.HOME_PAGE_CACHE_TTL) {
+            return;
+        }
+
+        synchronized (this.lock) {
+            this.version++;
+            this.clear();
+        }
+    }
+
+    private long currentVersion() {
+        synchronized (this.lock) {
+            return this.version;
+        }
+    }
+
+    private void clear() {
+        this.boardDomainModelList = null;
+        this.postsMap.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package net.causw.application.homepage;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+@Getter
+public class HomePageChangedEvent {
+    // null means the board list itself has changed
+    private final String boardId;
+
+    private HomePageChangedEvent(String boardId) {
+        this.boardId = boardId;
+    }
+
+    public static HomePageChangedEvent ofBoard(String boardId) {
+        return new HomePageChangedEvent(boardId);
+    }
+
+    public static HomePageChangedEvent ofAllBoards() {
+        return new HomePageChangedEvent(null);
+    }
+
+    public Optional<String> getBoardId() {
+        return Optional.ofNullable(this.boardId);
+    }
+}
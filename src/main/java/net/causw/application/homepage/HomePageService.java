@@ -4,22 +4,21 @@ import lombok.RequiredArgsConstructor;
 import net.causw.application.dto.homepage.HomePageResponseDto;
 import net.causw.application.dto.board.BoardResponseDto;
 import net.causw.application.dto.post.PostsResponseDto;
-import net.causw.application.spi.BoardPort;
-import net.causw.application.spi.CommentPort;
 import net.causw.application.spi.FavoriteBoardPort;
-import net.causw.application.spi.PostPort;
 import net.causw.application.spi.UserPort;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.model.board.BoardDomainModel;
-import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.model.user.UserDomainModel;
 import net.causw.domain.validation.UserRoleIsNoneValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,9 +26,9 @@ import java.util.stream.Collectors;
 public class HomePageService {
     private final FavoriteBoardPort favoriteBoardPort;
     private final UserPort userPort;
-    private final BoardPort boardPort;
-    private final PostPort postPort;
-    private final CommentPort commentPort;
+    private final HomePageCache homePageCache;
+
+    @Transactional(readOnly = true)
     public List<HomePageResponseDto> getHomePage(String userId) {
         UserDomainModel userDomainModel = this.userPort.findById(userId).orElseThrow(
                 () -> new BadRequestException(
@@ -44,26 +43,24 @@ public class HomePageService {
                 .validate();
 
 
-        List<BoardDomainModel> boardDomainModelList = this.boardPort.findAllBoard(false);
+        List<BoardDomainModel> boardDomainModelList = this.homePageCache.findAllBoard();
         if(boardDomainModelList.isEmpty()){
             throw new BadRequestException(
                     ErrorCode.ROW_DOES_NOT_EXIST,
                     "게시판을 찾을 수 없습니다."
             );
         }
+
+        Map<String, Page<PostsResponseDto>> postsResponseDtoPageMap = this.homePageCache.findLatestPosts(
+                boardDomainModelList.stream().map(BoardDomainModel::getId).collect(Collectors.toList())
+        );
+
         return boardDomainModelList
                 .stream()
                 .map(boardDomainModel -> HomePageResponseDto.from(
                         BoardResponseDto.from(boardDomainModel, userDomainModel.getRole()),
-                        this.postPort.findAllPost(
-                                boardDomainModel.getId(),
-                                0,
-                                StaticValue.HOME_POST_PAGE_SIZE
-                        ).map(postDomainModel -> PostsResponseDto.from(
-                                postDomainModel,
-                                this.commentPort.countByPostId(postDomainModel.getId())
-                        )))
-                )
+                        postsResponseDtoPageMap.get(boardDomainModel.getId())
+                ))
                 .collect(Collectors.toList());
     }
 }
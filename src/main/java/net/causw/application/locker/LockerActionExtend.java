@@ -17,7 +17,6 @@ import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.ValidatorBucket;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,12 +43,12 @@ public class LockerActionExtend implements LockerAction {
                     .consistOf(UserRoleValidator.of(updaterDomainModel.getRole(), List.of(Role.PRESIDENT)))
                     .validate();
 
-        LocalDateTime expiredAtToExtend = LocalDateTime.parse(textFieldPort.findByKey(StaticValue.EXPIRED_AT).orElseThrow(
+        LocalDateTime expiredAtToExtend = textFieldPort.findDateTimeByKey(StaticValue.EXPIRED_AT).orElseThrow(
                 () -> new InternalServerException(
                         ErrorCode.INTERNAL_SERVER,
                         "사물함 반납 기한을 설정하지 않았습니다."
                 )
-        ), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"));
+        );
 
         Optional.ofNullable(lockerDomainModel.getExpiredAt()).ifPresent(expiredAt ->
                 ValidatorBucket.of()
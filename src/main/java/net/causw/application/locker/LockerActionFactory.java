@@ -3,6 +3,7 @@ package net.causw.application.locker;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.model.enums.LockerLogAction;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
@@ -13,12 +14,12 @@ import java.util.function.Supplier;
 public class LockerActionFactory {
     private final Map<LockerLogAction, Supplier<LockerAction>> map;
 
-    public LockerActionFactory() {
+    public LockerActionFactory(ApplicationEventPublisher applicationEventPublisher) {
         this.map = new HashMap<>();
 
         this.map.put(LockerLogAction.ENABLE, LockerActionEnable::new);
         this.map.put(LockerLogAction.DISABLE, LockerActionDisable::new);
-        this.map.put(LockerLogAction.REGISTER, LockerActionRegister::new);
+        this.map.put(LockerLogAction.REGISTER, () -> new LockerActionRegister(applicationEventPublisher));
         this.map.put(LockerLogAction.RETURN, LockerActionReturn::new);
         this.map.put(LockerLogAction.EXTEND, LockerActionExtend::new);
     }
@@ -1,10 +1,11 @@
 package net.causw.application.locker;
 
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import net.causw.application.spi.FlagPort;
 import net.causw.application.spi.LockerLogPort;
 import net.causw.application.spi.LockerPort;
 import net.causw.application.spi.TextFieldPort;
+import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.model.locker.LockerDomainModel;
@@ -17,15 +18,16 @@ import net.causw.domain.validation.LockerInUseValidator;
 import net.causw.domain.validation.LockerIsDeactivatedValidator;
 import net.causw.domain.validation.LockerTimePassedValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
 import static net.causw.domain.model.util.StaticValue.LOCKER_ACCESS;
 
-@NoArgsConstructor
+@RequiredArgsConstructor
 public class LockerActionRegister implements LockerAction {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public Optional<LockerDomainModel> updateLockerDomainModel(
             LockerDomainModel lockerDomainModel,
@@ -67,22 +69,28 @@ public class LockerActionRegister implements LockerAction {
                         LockerLogAction.RETURN,
                         ""
                 );
+
+                //자동 반납된 기존 사물함의 변경도 알림
+                this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofLocker(locker.getId()));
             });
         }
 
         lockerDomainModel.register(
                 updaterDomainModel,
-                LocalDateTime.parse(textFieldPort.findByKey(StaticValue.EXPIRED_AT).orElseThrow(
+                textFieldPort.findDateTimeByKey(StaticValue.EXPIRED_AT).orElseThrow(
                         () -> new InternalServerException(
                                 ErrorCode.INTERNAL_SERVER,
                                 "사물함 반납 기한을 설정하지 않았습니다."
                         )
-                ), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"))
+                )
         );
 
-        return lockerPort.update(
-                lockerDomainModel.getId(),
-                lockerDomainModel
-        );
+        //조회 이후 다른 사용자가 먼저 신청했거나, 같은 사용자의 다른 신청이 먼저 사물함을 배정받은 경우 조건부 UPDATE 가 실패하고 이전 사물함 반납도 롤백됨
+        return Optional.of(lockerPort.register(lockerDomainModel).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.CANNOT_PERFORMED,
+                        "사용 중인 사물함입니다."
+                )
+        ));
     }
 }
@@ -0,0 +1,24 @@
+package net.causw.application.locker;
+
+import java.util.Optional;
+
+public class LockerChangedEvent {
+    // null means lockers were added, removed or moved between locations
+    private final String lockerId;
+
+    private LockerChangedEvent(String lockerId) {
+        this.lockerId = lockerId;
+    }
+
+    public static LockerChangedEvent ofLocker(String lockerId) {
+        return new LockerChangedEvent(lockerId);
+    }
+
+    public static LockerChangedEvent ofAllLockers() {
+        return new LockerChangedEvent(null);
+    }
+
+    public Optional<String> getLockerId() {
+        return Optional.ofNullable(this.lockerId);
+    }
+}
@@ -0,0 +1,167 @@
+package net.causw.application.locker;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.application.dto.locker.LockerResponseDto;
+import net.causw.application.dto.locker.LockersResponseDto;
+import net.causw.application.spi.LockerPort;
+import net.causw.domain.model.locker.LockerDomainModel;
+import net.causw.domain.model.user.UserDomainModel;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사물함 위치 화면을 구독한 클라이언트에게 SSE 로 사물함 변경을 전달합니다.
+ * 구독하면 먼저 위치의 전체 사물함(snapshot)을 보내고, 이후에는 바뀐 사물함 하나(locker)만 보냅니다.
+ * 사물함이 추가/삭제/이동된 경우에는 클라이언트가 다시 구독하도록 reload 를 보냅니다.
+ * 변경은 커밋 이후 Redis pub/sub(LOCKER_CHANGED_CHANNEL)으로 모든 서버에 전달되고, 각 서버가 자신의 구독자에게 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LockerEventStream implements MessageListener {
+    private static final String ALL_LOCKERS = "*";
+
+    private final LockerPort lockerPort;
+    private final RedisUtils redisUtils;
+
+    // location id -> 구독자
+    private final Map<String, Set<LockerSubscriber>> subscriberMap = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(
+            String locationId,
+            UserDomainModel userDomainModel,
+            Supplier<LockersResponseDto> snapshotLoader
+    ) {
+        LockerSubscriber lockerSubscriber = new LockerSubscriber(userDomainModel);
+        Set<LockerSubscriber> lockerSubscriberSet = this.subscriberMap.computeIfAbsent(
+                locationId,
+                key -> ConcurrentHashMap.newKeySet()
+        );
+
+        SseEmitter sseEmitter = lockerSubscriber.getSseEmitter();
+        sseEmitter.onCompletion(() -> lockerSubscriberSet.remove(lockerSubscriber));
+        sseEmitter.onTimeout(() -> lockerSubscriberSet.remove(lockerSubscriber));
+        sseEmitter.onError(throwable -> lockerSubscriberSet.remove(lockerSubscriber));
+
+        //snapshot 을 읽기 전에 등록해야 그 사이의 변경을 놓치지 않음, 그 사이의 변경은 snapshot 이후에 전송
+        lockerSubscriberSet.add(lockerSubscriber);
+        this.send(lockerSubscriberSet, lockerSubscriber, () -> lockerSubscriber.sendSnapshot(snapshotLoader.get()));
+
+        return sseEmitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLockerChanged(LockerChangedEvent lockerChangedEvent) {
+        this.redisUtils.publishLockerChanged(lockerChangedEvent.getLockerId().orElse(ALL_LOCKERS));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (this.subscriberMap.values().stream().allMatch(Set::isEmpty)) {
+            return;
+        }
+
+        String lockerId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (ALL_LOCKERS.equals(lockerId)) {
+            this.subscriberMap.values().forEach(lockerSubscriberSet -> lockerSubscriberSet.forEach(
+                    lockerSubscriber -> this.send(lockerSubscriberSet, lockerSubscriber, lockerSubscriber::sendReload)
+            ));
+            return;
+        }
+
+        this.lockerPort.findById(lockerId).ifPresent(lockerDomainModel -> {
+            Set<LockerSubscriber> lockerSubscriberSet = this.subscriberMap.get(lockerDomainModel.getLockerLocation().getId());
+            if (lockerSubscriberSet == null) {
+                return;
+            }
+
+            lockerSubscriberSet.forEach(lockerSubscriber -> this.send(
+                    lockerSubscriberSet,
+                    lockerSubscriber,
+                    () -> lockerSubscriber.sendLocker(lockerDomainModel)
+            ));
+        });
+    }
+
+    // 끊어진 연결을 정리하기 위해 주기적으로 빈 메시지 전송
+    @Scheduled(fixedDelay = 1000L * 30)
+    public void sendHeartbeat() {
+        this.subscriberMap.values().forEach(lockerSubscriberSet -> lockerSubscriberSet.forEach(
+                lockerSubscriber -> this.send(lockerSubscriberSet, lockerSubscriber, lockerSubscriber::sendHeartbeat)
+        ));
+    }
+
+    public int countSubscriber(String locationId) {
+        return this.subscriberMap.getOrDefault(locationId, Set.of()).size();
+    }
+
+    private void send(Set<LockerSubscriber> lockerSubscriberSet, LockerSubscriber lockerSubscriber, Sender sender) {
+        try {
+            sender.send();
+        } catch (IOException | IllegalStateException e) {
+            lockerSubscriberSet.remove(lockerSubscriber);
+            lockerSubscriber.getSseEmitter().completeWithError(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+        void send() throws IOException;
+    }
+
+    private static class LockerSubscriber {
+        private final SseEmitter sseEmitter = new SseEmitter(StaticValue.LOCKER_STREAM_TIMEOUT);
+        private final UserDomainModel userDomainModel;
+        // snapshot 을 보내기 전에 도착한 변경, snapshot 을 보낸 이후에는 null
+        private List<LockerResponseDto> pendingLockerList = new ArrayList<>();
+
+        private LockerSubscriber(UserDomainModel userDomainModel) {
+            this.userDomainModel = userDomainModel;
+        }
+
+        private SseEmitter getSseEmitter() {
+            return this.sseEmitter;
+        }
+
+        private synchronized void sendSnapshot(LockersResponseDto lockersResponseDto) throws IOException {
+            this.sseEmitter.send(SseEmitter.event().name("snapshot").data(lockersResponseDto));
+
+            for (LockerResponseDto lockerResponseDto : this.pendingLockerList) {
+                this.sseEmitter.send(SseEmitter.event().name("locker").data(lockerResponseDto));
+            }
+            this.pendingLockerList = null;
+        }
+
+        private synchronized void sendLocker(LockerDomainModel lockerDomainModel) throws IOException {
+            LockerResponseDto lockerResponseDto = LockerResponseDto.from(lockerDomainModel, this.userDomainModel);
+            if (this.pendingLockerList != null) {
+                this.pendingLockerList.add(lockerResponseDto);
+                return;
+            }
+
+            this.sseEmitter.send(SseEmitter.event().name("locker").data(lockerResponseDto));
+        }
+
+        private synchronized void sendReload() throws IOException {
+            this.sseEmitter.send(SseEmitter.event().name("reload").data(""));
+        }
+
+        private synchronized void sendHeartbeat() throws IOException {
+            this.sseEmitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package net.causw.application.locker;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.application.dto.locker.LockerLocationResponseDto;
+import net.causw.application.spi.LockerLocationPort;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 사물함 위치별 사용 가능/전체 사물함 수를 메모리에 보관합니다.
+ * 신청 기간에는 학생들이 위치 화면을 계속 새로고침하므로, 위치 수와 관계없이 한 번의 그룹 쿼리로 읽은 결과를 공유합니다.
+ * 이 서버에서 사물함이 바뀌면 커밋 직후 무효화되고, 다른 서버의 변경은 LOCKER_SUMMARY_CACHE_TTL 이 지나면 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LockerLocationSummaryCache {
+    private final LockerLocationPort lockerLocationPort;
+
+    private final Object lock = new Object();
+    private volatile List<LockerLocationResponseDto> lockerLocationResponseDtoList;
+    private volatile long loadedAt;
+    private long version;
+
+    public List<LockerLocationResponseDto> findAll() {
+        List<LockerLocationResponseDto> cachedLockerLocationResponseDtoList = this.lockerLocationResponseDtoList;
+        if (cachedLockerLocationResponseDtoList != null
+                && System.currentTimeMillis() - this.loadedAt < StaticValue.LOCKER_SUMMARY_CACHE_TTL) {
+            return cachedLockerLocationResponseDtoList;
+        }
+
+        long loadVersion = this.currentVersion();
+        List<LockerLocationResponseDto> loadedLockerLocationResponseDtoList = List.copyOf(
+                this.lockerLocationPort.findAllWithLockerCount()
+        );
+
+        synchronized (this.lock) {
+            if (this.version == loadVersion) {
+                this.lockerLocationResponseDtoList = loadedLockerLocationResponseDtoList;
+                this.loadedAt = System.currentTimeMillis();
+            }
+        }
+
+        return loadedLockerLocationResponseDtoList;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLockerChanged(LockerChangedEvent lockerChangedEvent) {
+        synchronized (this.lock) {
+            this.version++;
+            this.lockerLocationResponseDtoList = null;
+        }
+    }
+
+    private long currentVersion() {
+        synchronized (this.lock) {
+            return this.version;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package net.causw.application.locker;
 import lombok.RequiredArgsConstructor;
 import net.causw.application.dto.locker.LockerCreateRequestDto;
 import net.causw.application.dto.locker.LockerExpiredAtRequestDto;
+import net.causw.application.dto.locker.LockerLayoutRequestDto;
 import net.causw.application.dto.locker.LockerLocationCreateRequestDto;
 import net.causw.application.dto.locker.LockerLocationResponseDto;
 import net.causw.application.dto.locker.LockerLocationUpdateRequestDto;
@@ -34,13 +35,19 @@ import net.causw.domain.validation.UserRoleIsNoneValidator;
 import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Validator;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -55,6 +62,10 @@ public class LockerService {
     private final Validator validator;
     private final LockerActionFactory lockerActionFactory;
     private final TextFieldPort textFieldPort;
+    private final LockerLocationSummaryCache lockerLocationSummaryCache;
+    private final LockerEventStream lockerEventStream;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional(readOnly = true)
     public LockerResponseDto findById(String id, String userId) {
@@ -119,6 +130,8 @@ public class LockerService {
         return Optional
                 .of(this.lockerPort.create(lockerDomainModel))
                 .map(resLockerDomainModel -> {
+                    this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofLocker(resLockerDomainModel.getId()));
+
                     this.lockerLogPort.create(
                             resLockerDomainModel.getLockerNumber(),
                             lockerLocationDomainModel.getName(),
@@ -147,7 +160,13 @@ public class LockerService {
                 )
         );
 
-        LockerDomainModel lockerDomainModel = this.lockerPort.findByIdForWrite(lockerId).orElseThrow(
+        LockerLogAction lockerLogAction = LockerLogAction.of(lockerUpdateRequestDto.getAction());
+
+        //사물함 신청은 조건부 UPDATE 로 배정하므로 행 잠금 없이 조회
+        LockerDomainModel lockerDomainModel = (lockerLogAction == LockerLogAction.REGISTER
+                ? this.lockerPort.findById(lockerId)
+                : this.lockerPort.findByIdForWrite(lockerId)
+        ).orElseThrow(
                 () -> new BadRequestException(
                         ErrorCode.ROW_DOES_NOT_EXIST,
                         "사물함을 찾을 수 없습니다."
@@ -159,8 +178,11 @@ public class LockerService {
                 .consistOf(UserRoleIsNoneValidator.of(updaterDomainModel.getRole()))
                 .validate();
 
+        //신청 시 자동 반납되는 기존 사물함의 변경은 LockerActionRegister 에서 알림
+        this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofLocker(lockerId));
+
         return this.lockerActionFactory
-                .getLockerAction(LockerLogAction.of(lockerUpdateRequestDto.getAction()))
+                .getLockerAction(lockerLogAction)
                 .updateLockerDomainModel(
                         lockerDomainModel,
                         updaterDomainModel,
@@ -174,7 +196,7 @@ public class LockerService {
                             resLockerDomainModel.getLockerNumber(),
                             resLockerDomainModel.getLockerLocation().getName(),
                             updaterDomainModel,
-                            LockerLogAction.of(lockerUpdateRequestDto.getAction()),
+                            lockerLogAction,
                             lockerUpdateRequestDto.getMessage().orElse(lockerUpdateRequestDto.getAction())
                     );
                     return LockerResponseDto.from(resLockerDomainModel, updaterDomainModel);
@@ -221,6 +243,8 @@ public class LockerService {
                 .consistOf(ConstraintValidator.of(lockerDomainModel, this.validator))
                 .validate();
 
+        this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofAllLockers());
+
         return LockerResponseDto.from(this.lockerPort.updateLocation(lockerId, lockerDomainModel).orElseThrow(
                         () -> new InternalServerException(
                                 ErrorCode.INTERNAL_SERVER,
@@ -254,6 +278,7 @@ public class LockerService {
                 .validate();
 
         this.lockerPort.delete(lockerDomainModel);
+        this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofAllLockers());
 
         this.lockerLogPort.create(
                 lockerDomainModel.getLockerNumber(),
@@ -282,6 +307,42 @@ public class LockerService {
                 )
         );
 
+        return this.findLockers(lockerLocation, userDomainModel);
+    }
+
+    //트랜잭션 안에서 구독하면 첫 조회 시점의 스냅샷(REPEATABLE READ)으로 snapshot 을 읽어, 구독자 등록 전에 커밋된 변경을 놓칠 수 있음
+    //사용자, 위치 확인은 각각의 조회로 하고, snapshot 은 구독자를 등록한 뒤 새 트랜잭션에서 READ COMMITTED 로 읽음
+    public SseEmitter subscribeByLocation(String locationId, String userId) {
+        UserDomainModel userDomainModel = this.userPort.findById(userId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        LockerLocationDomainModel lockerLocation = this.lockerLocationPort.findById(locationId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "등록된 사물함 위치가 아닙니다."
+                )
+        );
+
+        return this.lockerEventStream.subscribe(
+                lockerLocation.getId(),
+                userDomainModel,
+                () -> this.snapshotTransactionTemplate().execute(status -> this.findLockers(lockerLocation, userDomainModel))
+        );
+    }
+
+    private TransactionTemplate snapshotTransactionTemplate() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    private LockersResponseDto findLockers(LockerLocationDomainModel lockerLocation, UserDomainModel userDomainModel) {
         return LockersResponseDto.of(
                 lockerLocation.getName(),
                 this.lockerPort.findByLocationId(lockerLocation.getId())
@@ -311,14 +372,7 @@ public class LockerService {
                     .orElse(null);
 
         return LockerLocationsResponseDto.of(
-                this.lockerLocationPort.findAll()
-                        .stream()
-                        .map(lockerLocationDomainModel -> LockerLocationResponseDto.from(
-                                lockerLocationDomainModel,
-                                this.lockerPort.countEnableLockerByLocation(lockerLocationDomainModel.getId()),
-                                this.lockerPort.countByLocation(lockerLocationDomainModel.getId())
-                        ))
-                        .collect(Collectors.toList()),
+                this.lockerLocationSummaryCache.findAll(),
                 myLocker
         );
     }
@@ -353,6 +407,8 @@ public class LockerService {
                 .consistOf(ConstraintValidator.of(lockerLocationDomainModel, this.validator))
                 .validate();
 
+        this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofAllLockers());
+
         return LockerLocationResponseDto.from(
                 this.lockerLocationPort.create(lockerLocationDomainModel),
                 0L,
@@ -400,6 +456,8 @@ public class LockerService {
                 .consistOf(ConstraintValidator.of(lockerLocationDomainModel, this.validator))
                 .validate();
 
+        this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofAllLockers());
+
         return LockerLocationResponseDto.from(
                 this.lockerLocationPort.update(locationId, lockerLocationDomainModel).orElseThrow(
                         () -> new InternalServerException(
@@ -442,6 +500,7 @@ public class LockerService {
                 .validate();
 
         this.lockerLocationPort.delete(lockerLocationDomainModel);
+        this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofAllLockers());
 
         return LockerLocationResponseDto.from(lockerLocationDomainModel, 0L, 0L);
     }
@@ -476,11 +535,11 @@ public class LockerService {
                 .consistOf(UserRoleValidator.of(userDomainModel.getRole(), List.of(Role.PRESIDENT)))
                 .validate();
 
-        this.textFieldPort.findByKey(StaticValue.EXPIRED_AT)
-                .ifPresentOrElse(textField -> {
+        this.textFieldPort.findDateTimeByKey(StaticValue.EXPIRED_AT)
+                .ifPresentOrElse(expiredAt -> {
                             ValidatorBucket.of()
                                     .consistOf(LockerExpiredAtValidator.of(
-                                            LocalDateTime.parse(textField, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm")),
+                                            expiredAt,
                                             lockerExpiredAtRequestDto.getExpiredAt()))
                                     .validate();
 
@@ -495,9 +554,7 @@ public class LockerService {
                 );
     }
     @Transactional
-    public void createAllLockers(String creatorId) {
-        ValidatorBucket validatorBucket = ValidatorBucket.of();
-
+    public void createAllLockers(String creatorId, List<LockerLayoutRequestDto> lockerLayoutRequestDtoList) {
         UserDomainModel creatorDomainModel = this.userPort.findById(creatorId).orElseThrow(
                 () -> new BadRequestException(
                         ErrorCode.ROW_DOES_NOT_EXIST,
@@ -505,102 +562,66 @@ public class LockerService {
                 )
         );
 
-        LockerLocationDomainModel lockerLocationSecondFloorDomainModel = this.lockerLocationPort
-                .findById("402881cd8dcaaab2018dcab2d8820000")
-                .orElseThrow(
-                        () -> new BadRequestException(
-                                ErrorCode.ROW_DOES_NOT_EXIST,
-                                "등록된 사물함 위치가 아닙니다."
-                        )
-                );
-        LockerLocationDomainModel lockerLocationThirdFloorDomainModel = this.lockerLocationPort
-                .findById("402881cd8dcaaab2018dcab2fb980001")
-                .orElseThrow(
-                        () -> new BadRequestException(
-                                ErrorCode.ROW_DOES_NOT_EXIST,
-                                "등록된 사물함 위치가 아닙니다."
-                        )
-                );
-        LockerLocationDomainModel lockerLocationFourthFloorDomainModel = this.lockerLocationPort
-                .findById("402881cd8dcaaab2018dcab30ea90002")
-                .orElseThrow(
-                        () -> new BadRequestException(
-                                ErrorCode.ROW_DOES_NOT_EXIST,
-                                "등록된 사물함 위치가 아닙니다."
-                        )
-                );
-
-        for (Long lockerNumber = 1L; lockerNumber <= 136; lockerNumber++) {
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(creatorDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(creatorDomainModel.getRole()))
+                .consistOf(UserRoleValidator.of(creatorDomainModel.getRole(), List.of(Role.PRESIDENT)))
+                .validate();
 
-            LockerDomainModel lockerDomainModel = LockerDomainModel.of(
-                    lockerNumber,
-                    lockerLocationSecondFloorDomainModel
-            );
+        //배치가 전달되지 않으면 기본 배치로 생성
+        Map<String, Long> lockerLayoutMap = new LinkedHashMap<>(StaticValue.LOCKER_DEFAULT_LAYOUT);
+        if (lockerLayoutRequestDtoList != null && !lockerLayoutRequestDtoList.isEmpty()) {
+            lockerLayoutMap.clear();
+            lockerLayoutRequestDtoList.forEach(lockerLayoutRequestDto -> {
+                if (lockerLayoutRequestDto.getLockerCount() == null || lockerLayoutRequestDto.getLockerCount() < 1) {
+                    throw new BadRequestException(
+                            ErrorCode.INVALID_PARAMETER,
+                            "사물함 개수는 1개 이상이어야 합니다."
+                    );
+                }
 
-            validatorBucket
-                    .consistOf(UserStateValidator.of(creatorDomainModel.getState()))
-                    .consistOf(UserRoleIsNoneValidator.of(creatorDomainModel.getRole()))
-                    .consistOf(UserRoleValidator.of(creatorDomainModel.getRole(), List.of(Role.PRESIDENT)))
-                    .consistOf(ConstraintValidator.of(lockerDomainModel, this.validator))
-                    .validate();
-
-            this.lockerPort.create(lockerDomainModel);
-
-            this.lockerLogPort.create(
-                    lockerNumber,
-                    lockerLocationSecondFloorDomainModel.getName(),
-                    creatorDomainModel,
-                    LockerLogAction.ENABLE,
-                    "사물함 최초 생성"
-            );
+                if (lockerLayoutMap.put(lockerLayoutRequestDto.getLockerLocationId(), lockerLayoutRequestDto.getLockerCount()) != null) {
+                    throw new BadRequestException(
+                            ErrorCode.INVALID_PARAMETER,
+                            "중복된 사물함 위치가 있습니다."
+                    );
+                }
+            });
         }
-        for (Long lockerNumber = 1L; lockerNumber <= 168; lockerNumber++) {
 
-            LockerDomainModel lockerDomainModel = LockerDomainModel.of(
-                    lockerNumber,
-                    lockerLocationThirdFloorDomainModel
-            );
+        List<LockerDomainModel> lockerDomainModelList = new ArrayList<>();
+        lockerLayoutMap.forEach((lockerLocationId, lockerCount) -> {
+            LockerLocationDomainModel lockerLocationDomainModel = this.lockerLocationPort
+                    .findById(lockerLocationId)
+                    .orElseThrow(
+                            () -> new BadRequestException(
+                                    ErrorCode.ROW_DOES_NOT_EXIST,
+                                    "등록된 사물함 위치가 아닙니다."
+                            )
+                    );
 
-            validatorBucket
-                    .consistOf(UserStateValidator.of(creatorDomainModel.getState()))
-                    .consistOf(UserRoleIsNoneValidator.of(creatorDomainModel.getRole()))
-                    .consistOf(UserRoleValidator.of(creatorDomainModel.getRole(), List.of(Role.PRESIDENT)))
-                    .consistOf(ConstraintValidator.of(lockerDomainModel, this.validator))
-                    .validate();
-
-            this.lockerPort.create(lockerDomainModel);
-
-            this.lockerLogPort.create(
-                    lockerNumber,
-                    lockerLocationThirdFloorDomainModel.getName(),
-                    creatorDomainModel,
-                    LockerLogAction.ENABLE,
-                    "사물함 최초 생성"
-            );
-        }
-        for (Long lockerNumber = 1L; lockerNumber <= 32; lockerNumber++) {
+            for (Long lockerNumber = 1L; lockerNumber <= lockerCount; lockerNumber++) {
+                LockerDomainModel lockerDomainModel = LockerDomainModel.of(
+                        lockerNumber,
+                        lockerLocationDomainModel
+                );
 
-            LockerDomainModel lockerDomainModel = LockerDomainModel.of(
-                    lockerNumber,
-                    lockerLocationFourthFloorDomainModel
-            );
+                ValidatorBucket.of()
+                        .consistOf(ConstraintValidator.of(lockerDomainModel, this.validator))
+                        .validate();
 
-            validatorBucket
-                    .consistOf(UserStateValidator.of(creatorDomainModel.getState()))
-                    .consistOf(UserRoleIsNoneValidator.of(creatorDomainModel.getRole()))
-                    .consistOf(UserRoleValidator.of(creatorDomainModel.getRole(), List.of(Role.PRESIDENT)))
-                    .consistOf(ConstraintValidator.of(lockerDomainModel, this.validator))
-                    .validate();
-
-            this.lockerPort.create(lockerDomainModel);
-
-            this.lockerLogPort.create(
-                    lockerNumber,
-                    lockerLocationFourthFloorDomainModel.getName(),
-                    creatorDomainModel,
-                    LockerLogAction.ENABLE,
-                    "사물함 최초 생성"
-            );
-        }
+                lockerDomainModelList.add(lockerDomainModel);
+            }
+        });
+
+        this.lockerPort.createAll(lockerDomainModelList);
+        this.applicationEventPublisher.publishEvent(LockerChangedEvent.ofAllLockers());
+
+        this.lockerLogPort.createAll(
+                lockerDomainModelList,
+                creatorDomainModel,
+                LockerLogAction.ENABLE,
+                "사물함 최초 생성"
+        );
     }
 }
@@ -0,0 +1,62 @@
+package net.causw.application.post;
+
+import lombok.Getter;
+import net.causw.application.dto.post.PostsResponseDto;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.exceptions.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록의 다음 페이지 위치를 (created_at, id) 로 나타냅니다.
+ * 클라이언트에는 Base64 로 인코딩한 문자열로 전달하며, 빈 커서는 첫 페이지를 뜻합니다.
+ */
+@Getter
+public class PostCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    private PostCursor(LocalDateTime createdAt, String id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static PostCursor of(PostsResponseDto postsResponseDto) {
+        return new PostCursor(
+                postsResponseDto.getCreatedAt(),
+                postsResponseDto.getId()
+        );
+    }
+
+    public static PostCursor from(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PostCursor(null, null);
+        }
+
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decodedCursor.indexOf(DELIMITER);
+
+            return new PostCursor(
+                    LocalDateTime.parse(decodedCursor.substring(0, delimiterIndex)),
+                    decodedCursor.substring(delimiterIndex + 1)
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    "잘못된 커서 값입니다."
+            );
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (this.createdAt.toString() + DELIMITER + this.id).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
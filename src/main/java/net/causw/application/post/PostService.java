@@ -1,14 +1,14 @@
 package net.causw.application.post;
 
 import lombok.RequiredArgsConstructor;
-import net.causw.application.dto.comment.CommentResponseDto;
+import net.causw.application.dto.post.BoardPostsCursorResponseDto;
 import net.causw.application.dto.post.BoardPostsResponseDto;
 import net.causw.application.dto.post.PostCreateRequestDto;
 import net.causw.application.dto.post.PostResponseDto;
 import net.causw.application.dto.post.PostUpdateRequestDto;
 import net.causw.application.dto.post.PostsResponseDto;
+import net.causw.application.homepage.HomePageChangedEvent;
 import net.causw.application.spi.BoardPort;
-import net.causw.application.spi.ChildCommentPort;
 import net.causw.application.spi.CircleMemberPort;
 import net.causw.application.spi.CommentPort;
 import net.causw.application.spi.FavoriteBoardPort;
@@ -36,6 +36,9 @@ import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
 import net.causw.domain.validation.TargetIsNotDeletedValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,9 +54,9 @@ public class PostService {
     private final BoardPort boardPort;
     private final CircleMemberPort circleMemberPort;
     private final CommentPort commentPort;
-    private final ChildCommentPort childCommentPort;
     private final FavoriteBoardPort favoriteBoardPort;
     private final Validator validator;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(readOnly = true)
     public PostResponseDto findPostById(String loginUserId, String postId) {
@@ -107,15 +110,11 @@ public class PostService {
                 postDomainModel,
                 userDomainModel,
                 this.commentPort.findByPostId(postId, 0)
-                        .map(
-                                commentDomainModel -> CommentResponseDto.from(
-                                        commentDomainModel,
-                                        userDomainModel,
-                                        postDomainModel.getBoard(),
-                                        this.childCommentPort.countByParentComment(commentDomainModel.getId())
-                                )
-                        ),
-                this.commentPort.countByPostId(postDomainModel.getId())
+                        .map(commentResponseDto -> commentResponseDto.applyPermission(
+                                userDomainModel,
+                                postDomainModel.getBoard()
+                        )),
+                postDomainModel.getNumComment()
         );
     }
 
@@ -125,8 +124,6 @@ public class PostService {
             String boardId,
             Integer pageNum
     ) {
-        ValidatorBucket validatorBucket = ValidatorBucket.of();
-
         UserDomainModel userDomainModel = this.userPort.findById(loginUserId).orElseThrow(
                 () -> new BadRequestException(
                         ErrorCode.ROW_DOES_NOT_EXIST,
@@ -134,10 +131,6 @@ public class PostService {
                 )
         );
 
-        validatorBucket
-                .consistOf(UserStateValidator.of(userDomainModel.getState()))
-                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()));
-
         BoardDomainModel boardDomainModel = this.boardPort.findById(boardId).orElseThrow(
                 () -> new BadRequestException(
                         ErrorCode.ROW_DOES_NOT_EXIST,
@@ -145,39 +138,9 @@ public class PostService {
                 )
         );
 
-        boardDomainModel.getCircle()
-                .filter(circleDomainModel -> !userDomainModel.getRole().equals(Role.ADMIN) && !userDomainModel.getRole().getValue().contains("PRESIDENT"))
-                .ifPresent(
-                        circleDomainModel -> {
-                            CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(
-                                    userDomainModel.getId(),
-                                    circleDomainModel.getId()
-                            ).orElseThrow(
-                                    () -> new UnauthorizedException(
-                                            ErrorCode.NOT_MEMBER,
-                                            "로그인된 사용자가 동아리 멤버가 아닙니다."
-                                    )
-                            );
-
-                            validatorBucket
-                                    .consistOf(TargetIsDeletedValidator.of(circleDomainModel.getIsDeleted(), StaticValue.DOMAIN_CIRCLE))
-                                    .consistOf(CircleMemberStatusValidator.of(
-                                            circleMemberDomainModel.getStatus(),
-                                            List.of(CircleMemberStatus.MEMBER)
-                                    ));
-                        }
-                );
+        this.validateBoardReader(userDomainModel, boardDomainModel);
 
-        validatorBucket.validate();
-
-        boolean isCircleLeader = false;
-        if(userDomainModel.getRole().getValue().contains("LEADER_CIRCLE")){
-            isCircleLeader = boardDomainModel.getCircle()
-                    .map(circle -> circle.getLeader().map(UserDomainModel::getId).orElse("").equals(loginUserId))
-                    .orElse(false);
-        }
-
-        if (isCircleLeader || userDomainModel.getRole().equals(Role.ADMIN) || userDomainModel.getRole().getValue().contains("PRESIDENT")) {
+        if (this.isBoardManager(userDomainModel, boardDomainModel)) {
             return BoardPostsResponseDto.from(
                     boardDomainModel,
                     userDomainModel.getRole(),
@@ -185,10 +148,6 @@ public class PostService {
                             .stream()
                             .anyMatch(favoriteBoardDomainModel -> favoriteBoardDomainModel.getBoardDomainModel().getId().equals(boardDomainModel.getId())),
                     this.postPort.findAllPost(boardId, pageNum)
-                            .map(postDomainModel -> PostsResponseDto.from(
-                                    postDomainModel,
-                                    this.commentPort.countByPostId(postDomainModel.getId())
-                            ))
             );
         }
         else{
@@ -199,15 +158,51 @@ public class PostService {
                             .stream()
                             .anyMatch(favoriteBoardDomainModel -> favoriteBoardDomainModel.getBoardDomainModel().getId().equals(boardDomainModel.getId())),
                     this.postPort.findAllPost(boardId, pageNum, false)
-                            .map(postDomainModel -> PostsResponseDto.from(
-                                    postDomainModel,
-                                    this.commentPort.countByPostId(postDomainModel.getId())
-                            ))
             );
         }
 
     }
 
+    @Transactional(readOnly = true)
+    public BoardPostsCursorResponseDto findAllPostByCursor(
+            String loginUserId,
+            String boardId,
+            String cursor
+    ) {
+        UserDomainModel userDomainModel = this.userPort.findById(loginUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        BoardDomainModel boardDomainModel = this.boardPort.findById(boardId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "게시판을 찾을 수 없습니다."
+                )
+        );
+
+        this.validateBoardReader(userDomainModel, boardDomainModel);
+
+        PostCursor postCursor = PostCursor.from(cursor);
+        Slice<PostsResponseDto> postsResponseDtoSlice = this.isBoardManager(userDomainModel, boardDomainModel)
+                ? this.postPort.findAllPostByCursor(boardId, postCursor.getCreatedAt(), postCursor.getId())
+                : this.postPort.findAllPostByCursor(boardId, postCursor.getCreatedAt(), postCursor.getId(), false);
+
+        return BoardPostsCursorResponseDto.from(
+                boardDomainModel,
+                userDomainModel.getRole(),
+                this.favoriteBoardPort.findByUserId(loginUserId)
+                        .stream()
+                        .anyMatch(favoriteBoardDomainModel -> favoriteBoardDomainModel.getBoardDomainModel().getId().equals(boardDomainModel.getId())),
+                postsResponseDtoSlice,
+                postsResponseDtoSlice.hasNext()
+                        ? PostCursor.of(postsResponseDtoSlice.getContent().get(postsResponseDtoSlice.getNumberOfElements() - 1)).encode()
+                        : null
+        );
+    }
+
     @Transactional(readOnly = true)
     public BoardPostsResponseDto searchPost(
             String loginUserId,
@@ -278,11 +273,7 @@ public class PostService {
                     this.favoriteBoardPort.findByUserId(loginUserId)
                             .stream()
                             .anyMatch(favoriteBoardDomainModel -> favoriteBoardDomainModel.getBoardDomainModel().getId().equals(boardDomainModel.getId())),
-                    this.postPort.searchPost(keyword, boardId, pageNum)
-                            .map(postDomainModel -> PostsResponseDto.from(
-                                    postDomainModel,
-                                    this.commentPort.countByPostId(postDomainModel.getId())
-                            ))
+                    this.toPostsResponseDtoPage(this.postPort.searchPost(keyword, boardId, pageNum))
             );
         }
         else{
@@ -292,11 +283,7 @@ public class PostService {
                     this.favoriteBoardPort.findByUserId(loginUserId)
                             .stream()
                             .anyMatch(favoriteBoardDomainModel -> favoriteBoardDomainModel.getBoardDomainModel().getId().equals(boardDomainModel.getId())),
-                    this.postPort.searchPost(keyword, boardId, pageNum, false)
-                            .map(postDomainModel -> PostsResponseDto.from(
-                                    postDomainModel,
-                                    this.commentPort.countByPostId(postDomainModel.getId())
-                            ))
+                    this.toPostsResponseDtoPage(this.postPort.searchPost(keyword, boardId, pageNum, false))
             );
         }
 
@@ -326,10 +313,6 @@ public class PostService {
                         .stream()
                         .anyMatch(favoriteBoardDomainModel -> favoriteBoardDomainModel.getBoardDomainModel().getId().equals(boardDomainModel.getId())),
                 this.postPort.findAllPost(boardDomainModel.getId(), pageNum)
-                        .map(postDomainModel -> PostsResponseDto.from(
-                                postDomainModel,
-                                this.commentPort.countByPostId(postDomainModel.getId())
-                        ))
         );
     }
 
@@ -420,8 +403,11 @@ public class PostService {
                 .consistOf(ConstraintValidator.of(postDomainModel, this.validator))
                 .validate();
 
+        PostDomainModel createdPostDomainModel = this.postPort.createPost(postDomainModel);
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofBoard(boardDomainModel.getId()));
+
         return PostResponseDto.from(
-                this.postPort.createPost(postDomainModel),
+                createdPostDomainModel,
                 creatorDomainModel
         );
     }
@@ -508,13 +494,16 @@ public class PostService {
         validatorBucket
                 .validate();
 
+        PostDomainModel deletedPostDomainModel = this.postPort.deletePost(postId).orElseThrow(
+                () -> new InternalServerException(
+                        ErrorCode.INTERNAL_SERVER,
+                        "Post id checked, but exception occurred"
+                )
+        );
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofBoard(postDomainModel.getBoard().getId()));
+
         return PostResponseDto.from(
-                this.postPort.deletePost(postId).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Post id checked, but exception occurred"
-                        )
-                ),
+                deletedPostDomainModel,
                 deleterDomainModel
         );
     }
@@ -601,18 +590,17 @@ public class PostService {
                         "Post id checked, but exception occurred"
                 )
         );
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofBoard(postDomainModel.getBoard().getId()));
 
         return PostResponseDto.from(
                 postDomainModel,
                 updaterDomainModel,
                 this.commentPort.findByPostId(postId, 0)
-                        .map(commentDomainModel -> CommentResponseDto.from(
-                                commentDomainModel,
+                        .map(commentResponseDto -> commentResponseDto.applyPermission(
                                 updaterDomainModel,
-                                updatedPostDomainModel.getBoard(),
-                                this.childCommentPort.countByParentComment(commentDomainModel.getId())
+                                updatedPostDomainModel.getBoard()
                         )),
-                this.commentPort.countByPostId(postDomainModel.getId())
+                postDomainModel.getNumComment()
         );
     }
 
@@ -712,18 +700,69 @@ public class PostService {
                         "Post id checked, but exception occurred"
                 )
         );
+        this.applicationEventPublisher.publishEvent(HomePageChangedEvent.ofBoard(postDomainModel.getBoard().getId()));
 
         return PostResponseDto.from(
                 postDomainModel,
                 restorerDomainModel,
                 this.commentPort.findByPostId(postId, 0)
-                        .map(commentDomainModel -> CommentResponseDto.from(
-                                commentDomainModel,
+                        .map(commentResponseDto -> commentResponseDto.applyPermission(
                                 restorerDomainModel,
-                                restoredPostDomainModel.getBoard(),
-                                this.childCommentPort.countByParentComment(commentDomainModel.getId())
+                                restoredPostDomainModel.getBoard()
                         )),
-                this.commentPort.countByPostId(postDomainModel.getId())
+                postDomainModel.getNumComment()
         );
     }
+
+    private void validateBoardReader(UserDomainModel userDomainModel, BoardDomainModel boardDomainModel) {
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+
+        validatorBucket
+                .consistOf(UserStateValidator.of(userDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()));
+
+        boardDomainModel.getCircle()
+                .filter(circleDomainModel -> !userDomainModel.getRole().equals(Role.ADMIN) && !userDomainModel.getRole().getValue().contains("PRESIDENT"))
+                .ifPresent(
+                        circleDomainModel -> {
+                            CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(
+                                    userDomainModel.getId(),
+                                    circleDomainModel.getId()
+                            ).orElseThrow(
+                                    () -> new UnauthorizedException(
+                                            ErrorCode.NOT_MEMBER,
+                                            "로그인된 사용자가 동아리 멤버가 아닙니다."
+                                    )
+                            );
+
+                            validatorBucket
+                                    .consistOf(TargetIsDeletedValidator.of(circleDomainModel.getIsDeleted(), StaticValue.DOMAIN_CIRCLE))
+                                    .consistOf(CircleMemberStatusValidator.of(
+                                            circleMemberDomainModel.getStatus(),
+                                            List.of(CircleMemberStatus.MEMBER)
+                                    ));
+                        }
+                );
+
+        validatorBucket.validate();
+    }
+
+    // 동아리장, 관리자, 학생회장은 삭제된 게시글도 조회할 수 있습니다.
+    private boolean isBoardManager(UserDomainModel userDomainModel, BoardDomainModel boardDomainModel) {
+        boolean isCircleLeader = false;
+        if(userDomainModel.getRole().getValue().contains("LEADER_CIRCLE")){
+            isCircleLeader = boardDomainModel.getCircle()
+                    .map(circle -> circle.getLeader().map(UserDomainModel::getId).orElse("").equals(userDomainModel.getId()))
+                    .orElse(false);
+        }
+
+        return isCircleLeader || userDomainModel.getRole().equals(Role.ADMIN) || userDomainModel.getRole().getValue().contains("PRESIDENT");
+    }
+
+    private Page<PostsResponseDto> toPostsResponseDtoPage(Page<PostDomainModel> postDomainModelPage) {
+        return postDomainModelPage.map(postDomainModel -> PostsResponseDto.from(
+                postDomainModel,
+                postDomainModel.getNumComment()
+        ));
+    }
 }
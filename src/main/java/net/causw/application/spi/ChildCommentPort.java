@@ -11,8 +11,6 @@ public interface ChildCommentPort {
 
     Page<ChildCommentDomainModel> findByParentComment(String parentCommentId, Integer pageNum);
 
-    Long countByParentComment(String parentCommentId);
-
     ChildCommentDomainModel create(ChildCommentDomainModel childCommentDomainModel, PostDomainModel postDomainModel);
 
     Optional<ChildCommentDomainModel> update(String childCommentId, ChildCommentDomainModel childCommentDomainModel);
@@ -8,6 +8,7 @@ import net.causw.domain.model.user.UserDomainModel;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CircleMemberPort {
     Optional<CircleMemberDomainModel> findById(String id);
@@ -24,6 +25,10 @@ public interface CircleMemberPort {
 
     Long getNumMember(String id);
 
+    Map<String, Long> getNumMemberByCircleIds(List<String> circleIds);
+
+    Map<String, Set<String>> findMemberCircleIds(List<String> userIds, List<String> circleIds);
+
     CircleMemberDomainModel create(UserDomainModel userDomainModel, CircleDomainModel circleDomainModel);
 
     Optional<CircleMemberDomainModel> updateStatus(String applicationId, CircleMemberStatus targetStatus);
@@ -4,6 +4,7 @@ import net.causw.domain.model.circle.CircleDomainModel;
 import net.causw.domain.model.user.UserDomainModel;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CirclePort {
@@ -11,6 +12,8 @@ public interface CirclePort {
 
     List<CircleDomainModel> findByLeaderId(String leaderId);
 
+    Map<String, List<CircleDomainModel>> findByLeaderIds(List<String> leaderIds);
+
     List<CircleDomainModel> findAll();
 
     Optional<CircleDomainModel> findByName(String name);
@@ -1,5 +1,7 @@
 package net.causw.application.spi;
 
+import net.causw.application.dto.comment.CommentResponseDto;
+import net.causw.application.dto.comment.CommentsOfUserResponseDto;
 import net.causw.domain.model.comment.CommentDomainModel;
 import net.causw.domain.model.post.PostDomainModel;
 import org.springframework.data.domain.Page;
@@ -9,9 +11,7 @@ import java.util.Optional;
 public interface CommentPort {
     Optional<CommentDomainModel> findById(String id);
 
-    Page<CommentDomainModel> findByPostId(String postId, Integer pageNum);
-
-    Long countByPostId(String postId);
+    Page<CommentResponseDto> findByPostId(String postId, Integer pageNum);
 
     CommentDomainModel create(CommentDomainModel commentDomainModel, PostDomainModel postDomainModel);
 
@@ -19,5 +19,11 @@ public interface CommentPort {
 
     Optional<CommentDomainModel> delete(String commentId);
 
-    Page<CommentDomainModel> findByUserId(String userId, Integer pageNum);
+    Page<CommentsOfUserResponseDto> findByUserId(String userId, Integer pageNum);
+
+    void increaseNumChildComment(String id);
+
+    void decreaseNumChildComment(String id);
+
+    Integer reconcileNumChildComment();
 }
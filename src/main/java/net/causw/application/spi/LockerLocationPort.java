@@ -1,5 +1,6 @@
 package net.causw.application.spi;
 
+import net.causw.application.dto.locker.LockerLocationResponseDto;
 import net.causw.domain.model.locker.LockerLocationDomainModel;
 
 import java.util.List;
@@ -12,6 +13,8 @@ public interface LockerLocationPort {
 
     List<LockerLocationDomainModel> findAll();
 
+    List<LockerLocationResponseDto> findAllWithLockerCount();
+
     LockerLocationDomainModel create(LockerLocationDomainModel lockerLocationDomainModel);
 
     Optional<LockerLocationDomainModel> update(String id, LockerLocationDomainModel lockerLocationDomainModel);
@@ -2,6 +2,7 @@ package net.causw.application.spi;
 
 import net.causw.application.dto.locker.LockerLogResponseDto;
 import net.causw.domain.model.enums.LockerLogAction;
+import net.causw.domain.model.locker.LockerDomainModel;
 import net.causw.domain.model.user.UserDomainModel;
 
 import java.time.LocalDateTime;
@@ -13,5 +14,7 @@ public interface LockerLogPort {
 
     void create(Long lockerNumber, String lockerLocationName, UserDomainModel user, LockerLogAction action, String message);
 
+    void createAll(List<LockerDomainModel> lockerDomainModelList, UserDomainModel user, LockerLogAction action, String message);
+
     Optional<LocalDateTime> whenRegister(UserDomainModel user);
 }
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Optional;
 
 public interface LockerPort {
+    Optional<LockerDomainModel> findById(String id);
+
     Optional<LockerDomainModel> findByIdForRead(String id);
 
     Optional<LockerDomainModel> findByIdForWrite(String id);
@@ -17,8 +19,12 @@ public interface LockerPort {
 
     LockerDomainModel create(LockerDomainModel lockerDomainModel);
 
+    void createAll(List<LockerDomainModel> lockerDomainModelList);
+
     Optional<LockerDomainModel> update(String id, LockerDomainModel lockerDomainModel);
 
+    Optional<LockerDomainModel> register(LockerDomainModel lockerDomainModel);
+
     Optional<LockerDomainModel> updateLocation(String id, LockerDomainModel lockerDomainModel);
 
     void delete(LockerDomainModel lockerDomainModel);
@@ -1,8 +1,13 @@
 package net.causw.application.spi;
 
+import net.causw.application.dto.post.PostsResponseDto;
 import net.causw.domain.model.post.PostDomainModel;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PostPort {
@@ -14,12 +19,16 @@ public interface PostPort {
 
     Optional<PostDomainModel> updatePost(String id, PostDomainModel postDomainModel);
 
-    Page<PostDomainModel> findAllPost(String boardId, Integer pageNum);
+    Page<PostsResponseDto> findAllPost(String boardId, Integer pageNum);
 
-    Page<PostDomainModel> findAllPost(String boardId, Integer pageNum, boolean isDeleted);
+    Page<PostsResponseDto> findAllPost(String boardId, Integer pageNum, boolean isDeleted);
 
     Page<PostDomainModel> findAllPost(String boardId, Integer pageNum, Integer pageSize);
 
+    Slice<PostsResponseDto> findAllPostByCursor(String boardId, LocalDateTime createdAt, String id);
+
+    Slice<PostsResponseDto> findAllPostByCursor(String boardId, LocalDateTime createdAt, String id, boolean isDeleted);
+
 
     Page<PostDomainModel> searchPost(String keyword, String boardId, Integer pageNum);
 
@@ -27,7 +36,15 @@ public interface PostPort {
 
     Optional<PostDomainModel> findLatestPost(String boardId);
 
+    Map<String, Page<PostDomainModel>> findLatestPosts(List<String> boardIds, Integer pageSize);
+
     Page<PostDomainModel> findPostByUserId(String userId, Integer pageNum);
 
     Optional<PostDomainModel> restorePost(String id, PostDomainModel postDomainModel);
+
+    void increaseNumComment(String id);
+
+    void decreaseNumComment(String id);
+
+    Integer reconcileNumComment();
 }
@@ -1,10 +1,13 @@
 package net.causw.application.spi;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface TextFieldPort {
     Optional<String> findByKey(String key);
 
+    Optional<LocalDateTime> findDateTimeByKey(String key);
+
     String create(String key, String value);
 
     Optional<String> update(String key, String value);
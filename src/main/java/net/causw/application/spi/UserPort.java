@@ -1,10 +1,12 @@
 package net.causw.application.spi;
 
+import net.causw.application.dto.user.UserResponseDto;
 import net.causw.domain.model.enums.Role;
 import net.causw.domain.model.user.UserDomainModel;
 import net.causw.domain.model.enums.UserState;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ public interface UserPort {
 
     List<UserDomainModel> findByName(String name);
 
+    List<UserDomainModel> findAllByIds(Collection<String> ids);
+
     Optional<UserDomainModel> findByEmail(String email);
 
     Optional<UserDomainModel> findByRefreshToken(String refreshToken);
@@ -30,7 +34,9 @@ public interface UserPort {
 
     List<UserDomainModel> findByRole(String role);
 
-    Page<UserDomainModel> findByStateAndName(String state, String name, Integer pageNum);
+    List<UserDomainModel> findByRoles(List<Role> roles);
+
+    Page<UserResponseDto> findByStateAndName(String state, String name, Integer pageNum);
 
     Optional<UserDomainModel> updatePassword(String id, String password);
 
@@ -1,12 +1,18 @@
 package net.causw.application.storage;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import lombok.RequiredArgsConstructor;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.InternalServerException;
+import net.causw.domain.exceptions.ServiceUnavailableException;
 import net.causw.domain.model.enums.ImageLocation;
 import net.causw.domain.model.util.S3Util;
+import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.ImageLocationTypeValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
@@ -17,12 +23,18 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class StorageService {
 
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+
+    // 동시에 진행하는 업로드 수 제한
+    private final Semaphore uploadPermit = new Semaphore(StaticValue.S3_MAX_CONCURRENT_UPLOAD);
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -37,17 +49,40 @@ public class StorageService {
         String fileName = S3Util.buildFileName(Objects.requireNonNull(multipartFile.getOriginalFilename()));
         String filePath = imageLocation.getValue() + "/" + fileName;
 
+        //길이를 알려 주지 않으면 SDK 가 길이를 계산하기 위해 파일 전체를 메모리에 올림
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(multipartFile.getContentType());
+        objectMetadata.setContentLength(multipartFile.getSize());
 
+        this.acquireUploadPermit();
         try (InputStream inputStream = multipartFile.getInputStream()) {
-            amazonS3Client.putObject(new PutObjectRequest(bucketName, filePath, inputStream, objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
-        } catch (IOException e) {
-            e.printStackTrace();
+            PutObjectRequest putObjectRequest = new PutObjectRequest(this.bucketName, filePath, inputStream, objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+            //재시도할 때 되돌아갈 수 있도록 part 하나만큼만 보관, 업로드 하나가 사용하는 메모리는 파일 크기와 관계없이 일정
+            putObjectRequest.getRequestClientOptions().setReadLimit(StaticValue.S3_MULTIPART_PART_SIZE.intValue() + 1);
+
+            this.transferManager.upload(putObjectRequest).waitForCompletion();
+        } catch (IOException | AmazonClientException e) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, "파일을 업로드할 수 없습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, "파일을 업로드할 수 없습니다.");
+        } finally {
+            this.uploadPermit.release();
         }
 
-        return amazonS3Client.getUrl(bucketName, filePath).toString().trim();
+        return this.amazonS3Client.getUrl(this.bucketName, filePath).toString().trim();
     }
 
+    private void acquireUploadPermit() {
+        try {
+            if (this.uploadPermit.tryAcquire(StaticValue.S3_UPLOAD_WAIT_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        throw new ServiceUnavailableException(ErrorCode.SERVICE_UNAVAILABLE, "업로드 요청이 많아 파일을 업로드할 수 없습니다.");
+    }
 }
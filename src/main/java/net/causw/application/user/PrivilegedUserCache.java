@@ -0,0 +1,146 @@
+package net.causw.application.user;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.application.dto.user.UserPrivilegedResponseDto;
+import net.causw.application.dto.user.UserResponseDto;
+import net.causw.application.spi.CirclePort;
+import net.causw.application.spi.UserPort;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.InternalServerException;
+import net.causw.domain.model.circle.CircleDomainModel;
+import net.causw.domain.model.enums.Role;
+import net.causw.domain.model.user.UserDomainModel;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 학생회, 학년대표, 동아리장, 동문회장 목록(권한 사용자 목록)을 메모리에 보관합니다.
+ * 권한을 가진 활성 사용자와 이들이 맡은 동아리를 권한 수와 관계없이 두 번의 조회로 읽고, 메모리에서 권한별로 나눕니다.
+ * 이 서버에서 권한 변경(UserService.updateUserRole), 사용자 정보 수정(UserService.update), 동아리 생성, 수정, 삭제(CircleService)가 커밋되면 직후 무효화되고,
+ * 다른 서버의 변경은 PRIVILEGED_USER_CACHE_TTL 이 지나면 반영됩니다.
+ * 탈퇴와 추방은 일반 사용자와 교수만 대상이므로 목록에 영향이 없어 무효화하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrivilegedUserCache {
+    private static final List<String> PRIVILEGED_ROLE_LIST = List.of(
+            "PRESIDENT",
+            "VICE_PRESIDENT",
+            "COUNCIL",
+            "LEADER_1",
+            "LEADER_2",
+            "LEADER_3",
+            "LEADER_4",
+            "LEADER_CIRCLE",
+            "LEADER_ALUMNI"
+    );
+
+    private final UserPort userPort;
+    private final CirclePort circlePort;
+
+    private final Object lock = new Object();
+    private volatile UserPrivilegedResponseDto userPrivilegedResponseDto;
+    private volatile long loadedAt;
+    private long version;
+
+    public UserPrivilegedResponseDto find() {
+        UserPrivilegedResponseDto cachedUserPrivilegedResponseDto = this.userPrivilegedResponseDto;
+        if (cachedUserPrivilegedResponseDto != null
+                && System.currentTimeMillis() - this.loadedAt < StaticValue.PRIVILEGED_USER_CACHE_TTL) {
+            return cachedUserPrivilegedResponseDto;
+        }
+
+        long loadVersion = this.currentVersion();
+        UserPrivilegedResponseDto loadedUserPrivilegedResponseDto = this.load();
+
+        synchronized (this.lock) {
+            if (this.version == loadVersion) {
+                this.userPrivilegedResponseDto = loadedUserPrivilegedResponseDto;
+                this.loadedAt = System.currentTimeMillis();
+            }
+        }
+
+        return loadedUserPrivilegedResponseDto;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPrivilegedUserChanged(PrivilegedUserChangedEvent privilegedUserChangedEvent) {
+        synchronized (this.lock) {
+            this.version++;
+            this.userPrivilegedResponseDto = null;
+        }
+    }
+
+    private UserPrivilegedResponseDto load() {
+        //권한 이름을 포함하는 모든 권한(겸직 포함)의 사용자를 한 번에 조회, 권한 순서대로 정렬
+        List<UserDomainModel> userDomainModelList = this.userPort.findByRoles(
+                Arrays.stream(Role.values())
+                        .filter(role -> PRIVILEGED_ROLE_LIST.stream().anyMatch(role.getValue()::contains))
+                        .collect(Collectors.toList())
+        )
+                .stream()
+                .sorted(Comparator.comparing(UserDomainModel::getRole))
+                .collect(Collectors.toList());
+
+        Map<String, List<CircleDomainModel>> ownCircleMap = this.circlePort.findByLeaderIds(
+                this.filterByRole(userDomainModelList, "LEADER_CIRCLE")
+                        .stream()
+                        .map(UserDomainModel::getId)
+                        .collect(Collectors.toList())
+        );
+
+        return UserPrivilegedResponseDto.from(
+                this.toUserResponseDtoList(userDomainModelList, "PRESIDENT"),
+                this.toUserResponseDtoList(userDomainModelList, "VICE_PRESIDENT"),
+                this.toUserResponseDtoList(userDomainModelList, "COUNCIL"),
+                this.toUserResponseDtoList(userDomainModelList, "LEADER_1"),
+                this.toUserResponseDtoList(userDomainModelList, "LEADER_2"),
+                this.toUserResponseDtoList(userDomainModelList, "LEADER_3"),
+                this.toUserResponseDtoList(userDomainModelList, "LEADER_4"),
+                this.filterByRole(userDomainModelList, "LEADER_CIRCLE")
+                        .stream()
+                        .map(userDomainModel -> {
+                            List<CircleDomainModel> ownCircles = ownCircleMap.getOrDefault(userDomainModel.getId(), List.of());
+                            if (ownCircles.isEmpty()) {
+                                throw new InternalServerException(
+                                        ErrorCode.INTERNAL_SERVER,
+                                        "해당 동아리장이 배정된 동아리가 없습니다."
+                                );
+                            }
+                            return UserResponseDto.from(
+                                    userDomainModel,
+                                    ownCircles.stream().map(CircleDomainModel::getId).collect(Collectors.toList()),
+                                    ownCircles.stream().map(CircleDomainModel::getName).collect(Collectors.toList())
+                            );
+                        })
+                        .collect(Collectors.toList()),
+                this.toUserResponseDtoList(userDomainModelList, "LEADER_ALUMNI")
+        );
+    }
+
+    private List<UserDomainModel> filterByRole(List<UserDomainModel> userDomainModelList, String role) {
+        return userDomainModelList.stream()
+                .filter(userDomainModel -> userDomainModel.getRole().getValue().contains(role))
+                .collect(Collectors.toList());
+    }
+
+    private List<UserResponseDto> toUserResponseDtoList(List<UserDomainModel> userDomainModelList, String role) {
+        return this.filterByRole(userDomainModelList, role)
+                .stream()
+                .map(UserResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private long currentVersion() {
+        synchronized (this.lock) {
+            return this.version;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package net.causw.application.user;
+
+public class PrivilegedUserChangedEvent {
+    private PrivilegedUserChangedEvent() {
+    }
+
+    public static PrivilegedUserChangedEvent of() {
+        return new PrivilegedUserChangedEvent();
+    }
+}
@@ -5,7 +5,6 @@ import net.causw.application.delegation.DelegationFactory;
 import net.causw.application.dto.duplicate.DuplicatedCheckResponseDto;
 import net.causw.application.dto.board.BoardResponseDto;
 import net.causw.application.dto.circle.CircleResponseDto;
-import net.causw.application.dto.comment.CommentsOfUserResponseDto;
 import net.causw.application.dto.user.*;
 import net.causw.application.spi.BoardPort;
 import net.causw.application.spi.CircleMemberPort;
@@ -28,7 +27,6 @@ import net.causw.domain.model.board.BoardDomainModel;
 import net.causw.domain.model.circle.CircleDomainModel;
 import net.causw.domain.model.board.FavoriteBoardDomainModel;
 import net.causw.domain.model.enums.*;
-import net.causw.domain.model.post.PostDomainModel;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.model.user.UserAdmissionDomainModel;
 import net.causw.domain.model.user.UserDomainModel;
@@ -48,6 +46,7 @@ import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
 import net.causw.infrastructure.GoogleMailSender;
 import net.causw.infrastructure.PasswordGenerator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -55,7 +54,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.validation.Validator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -78,6 +79,8 @@ public class UserService {
     private final PasswordGenerator passwordGenerator;
     private final PasswordEncoder passwordEncoder;
     private final Validator validator;
+    private final PrivilegedUserCache privilegedUserCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public UserResponseDto findPassword(
@@ -126,11 +129,12 @@ public class UserService {
                         "해당 동아리장이 배정된 동아리가 없습니다."
                 );
             }
-            boolean isMemberOfAnyCircle = ownCircles.stream()
-                    .anyMatch(circleDomainModel ->
-                            this.circleMemberPort.findByUserIdAndCircleId(targetUserId, circleDomainModel.getId())
-                                    .map(circleMemberDomainModel -> circleMemberDomainModel.getStatus() == CircleMemberStatus.MEMBER)
-                                    .orElse(false));
+            boolean isMemberOfAnyCircle = !this.circleMemberPort.findMemberCircleIds(
+                    List.of(targetUserId),
+                    ownCircles.stream().map(CircleDomainModel::getId).collect(Collectors.toList())
+            )
+                    .get(targetUserId)
+                    .isEmpty();
             if (!isMemberOfAnyCircle) {
                 throw new BadRequestException(ErrorCode.NOT_MEMBER, "해당 유저는 동아리 회원이 아닙니다.");
             }
@@ -200,7 +204,7 @@ public class UserService {
                         postDomainModel.getBoard().getName(),
                         postDomainModel.getBoard().getCircle().map(CircleDomainModel::getId).orElse(null),
                         postDomainModel.getBoard().getCircle().map(CircleDomainModel::getName).orElse(null),
-                        this.commentPort.countByPostId(postDomainModel.getId())
+                        postDomainModel.getNumComment()
                 ))
         );
     }
@@ -221,24 +225,7 @@ public class UserService {
 
         return UserCommentsResponseDto.from(
                 requestUser,
-                this.commentPort.findByUserId(loginUserId, pageNum).map(comment -> {
-                    PostDomainModel post = this.postPort.findPostById(comment.getPostId()).orElseThrow(
-                            () -> new BadRequestException(
-                                    ErrorCode.ROW_DOES_NOT_EXIST,
-                                    "게시글을 찾을 수 없습니다."
-                            )
-                    );
-
-                    return CommentsOfUserResponseDto.from(
-                            comment,
-                            post.getBoard().getId(),
-                            post.getBoard().getName(),
-                            post.getId(),
-                            post.getTitle(),
-                            post.getBoard().getCircle().map(CircleDomainModel::getId).orElse(null),
-                            post.getBoard().getCircle().map(CircleDomainModel::getName).orElse(null)
-                    );
-                })
+                this.commentPort.findByUserId(loginUserId, pageNum)
         );
     }
 
@@ -268,16 +255,20 @@ public class UserService {
                 );
             }
 
-            return this.userPort.findByName(name)
+            List<UserDomainModel> userDomainModelList = this.userPort.findByName(name)
                     .stream()
                     .filter(userDomainModel -> userDomainModel.getState().equals(UserState.ACTIVE))
-                    .filter(userDomainModel ->
-                            ownCircles.stream()
-                                    .anyMatch(circleDomainModel ->
-                                            this.circleMemberPort.findByUserIdAndCircleId(userDomainModel.getId(), circleDomainModel.getId())
-                                                    .map(circleMemberDomainModel ->
-                                                            circleMemberDomainModel.getStatus() == CircleMemberStatus.MEMBER)
-                                                    .orElse(false)))
+                    .collect(Collectors.toList());
+
+            //검색된 사용자가 동아리장의 동아리 회원인지 한 번에 조회
+            Map<String, Set<String>> memberCircleIdMap = this.circleMemberPort.findMemberCircleIds(
+                    userDomainModelList.stream().map(UserDomainModel::getId).collect(Collectors.toList()),
+                    ownCircles.stream().map(CircleDomainModel::getId).collect(Collectors.toList())
+            );
+
+            return userDomainModelList
+                    .stream()
+                    .filter(userDomainModel -> !memberCircleIdMap.get(userDomainModel.getId()).isEmpty())
                     .map(userDomainModel -> UserResponseDto.from(
                             userDomainModel,
                             ownCircles.stream().map(CircleDomainModel::getId).collect(Collectors.toList()),
@@ -307,57 +298,7 @@ public class UserService {
                 .consistOf(UserRoleValidator.of(user.getRole(), List.of()))
                 .validate();
 
-        return UserPrivilegedResponseDto.from(
-                this.userPort.findByRole("PRESIDENT")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("VICE_PRESIDENT")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("COUNCIL")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("LEADER_1")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("LEADER_2")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("LEADER_3")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("LEADER_4")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("LEADER_CIRCLE")
-                        .stream()
-                        .map(userDomainModel -> {
-                            List<CircleDomainModel> ownCircles = this.circlePort.findByLeaderId(userDomainModel.getId());
-                            if (ownCircles.isEmpty()) {
-                                throw new InternalServerException(
-                                        ErrorCode.INTERNAL_SERVER,
-                                        "해당 동아리장이 배정된 동아리가 없습니다."
-                                );
-                            }
-                            return UserResponseDto.from(
-                                    userDomainModel,
-                                    ownCircles.stream().map(CircleDomainModel::getId).collect(Collectors.toList()),
-                                    ownCircles.stream().map(CircleDomainModel::getName).collect(Collectors.toList())
-                            );
-                        })
-                        .collect(Collectors.toList()),
-                this.userPort.findByRole("LEADER_ALUMINI")
-                        .stream()
-                        .map(UserResponseDto::from)
-                        .collect(Collectors.toList())
-        );
+        return this.privilegedUserCache.find();
     }
 
     @Transactional(readOnly = true)
@@ -381,10 +322,20 @@ public class UserService {
                 .validate();
 
 
-        return this.userPort.findByStateAndName(state, name, pageNum)
-                .map(userDomainModel -> {
-                    if (userDomainModel.getRole().getValue().contains("LEADER_CIRCLE") && !state.equals("INACTIVE")) {
-                        List<CircleDomainModel> ownCircles = this.circlePort.findByLeaderId(userDomainModel.getId());
+        Page<UserResponseDto> userResponseDtoPage = this.userPort.findByStateAndName(state, name, pageNum);
+
+        //페이지의 동아리장들이 맡은 동아리를 한 번에 조회
+        Map<String, List<CircleDomainModel>> ownCircleMap = state.equals("INACTIVE")
+                ? Map.of()
+                : this.circlePort.findByLeaderIds(userResponseDtoPage.stream()
+                        .filter(userResponseDto -> userResponseDto.getRole().getValue().contains("LEADER_CIRCLE"))
+                        .map(UserResponseDto::getId)
+                        .collect(Collectors.toList()));
+
+        return userResponseDtoPage
+                .map(userResponseDto -> {
+                    if (userResponseDto.getRole().getValue().contains("LEADER_CIRCLE") && !state.equals("INACTIVE")) {
+                        List<CircleDomainModel> ownCircles = ownCircleMap.getOrDefault(userResponseDto.getId(), List.of());
                         if (ownCircles.isEmpty()) {
                             throw new InternalServerException(
                                     ErrorCode.INTERNAL_SERVER,
@@ -392,14 +343,11 @@ public class UserService {
                             );
                         }
 
-                        return UserResponseDto.from(
-                                userDomainModel,
-                                ownCircles.stream().map(CircleDomainModel::getId).collect(Collectors.toList()),
-                                ownCircles.stream().map(CircleDomainModel::getName).collect(Collectors.toList())
-                        );
-                    } else {
-                        return UserResponseDto.from(userDomainModel);
+                        userResponseDto.setCircleIdIfLeader(ownCircles.stream().map(CircleDomainModel::getId).collect(Collectors.toList()));
+                        userResponseDto.setCircleNameIfLeader(ownCircles.stream().map(CircleDomainModel::getName).collect(Collectors.toList()));
                     }
+
+                    return userResponseDto;
                 });
     }
 
@@ -579,6 +527,9 @@ public class UserService {
                 .consistOf(AdmissionYearValidator.of(userUpdateRequestDto.getAdmissionYear()))
                 .validate();
 
+        //권한 사용자 목록에 이름, 이메일, 프로필 이미지 등이 노출되므로 수정 시 목록 캐시를 무효화
+        this.applicationEventPublisher.publishEvent(PrivilegedUserChangedEvent.of());
+
         return UserResponseDto.from(this.userPort.update(loginUserId, userDomainModel).orElseThrow(
                 () -> new InternalServerException(
                         ErrorCode.INTERNAL_SERVER,
@@ -628,6 +579,9 @@ public class UserService {
                         grantee.getRole()
                 ))
                 .validate();
+
+        this.applicationEventPublisher.publishEvent(PrivilegedUserChangedEvent.of());
+
         /* 권한 위임
          * 1. 권한 위임자와 넘겨주는 권한이 같을 경우, 권한을 위임자가 동아리장일 경우 진행
          * 2. 넘겨받을 권한이 동아리장일 경우 넘겨받을 동아리 id 저장
@@ -1190,6 +1144,7 @@ public class UserService {
 
     public UserSignOutResponseDto signOut(UserSignOutRequestDto userSignOutRequestDto){
         userPort.signOut(userSignOutRequestDto.getRefreshToken(), userSignOutRequestDto.getAccessToken());
+        jwtTokenProvider.blacklistAccessToken(userSignOutRequestDto.getAccessToken());
         return UserSignOutResponseDto.builder()
                 .message("로그아웃 성공")
                 .build();
@@ -0,0 +1,33 @@
+package net.causw.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+    // MySQL 드라이버는 rewriteBatchedStatements 가 있어야 JDBC batch 를 여러 행의 INSERT 하나로 보냄 (사물함 일괄 생성, 감사 로그 저장)
+    // 설정 파일(application-*.yml)에 없어도 적용되도록 DataSource 를 만들 때 추가, MySQL 이 아닌 DB(테스트의 H2)에는 추가하지 않음
+    @Bean
+    public static BeanPostProcessor batchRewriteDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    DataSourceConfig.enableBatchRewrite((HikariDataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void enableBatchRewrite(HikariDataSource hikariDataSource) {
+        String jdbcUrl = hikariDataSource.getJdbcUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:mysql:") || jdbcUrl.contains("rewriteBatchedStatements")) {
+            return;
+        }
+
+        hikariDataSource.getDataSourceProperties().putIfAbsent("rewriteBatchedStatements", "true");
+    }
+}
@@ -1,11 +1,22 @@
 package net.causw.config.redis;
 
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import net.causw.adapter.persistence.port.cache.ConfigurationCache;
+import net.causw.application.locker.LockerEventStream;
+import net.causw.config.security.AccessTokenBlacklist;
+import net.causw.domain.model.util.StaticValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -16,9 +27,17 @@ public class RedisConfig {
     @Value("${spring.data.redis.host}")
     private String host;
 
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources clientResources() {
+        return DefaultClientResources.create();
+    }
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        return new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(host, port),
+                LettuceClientConfiguration.builder().clientResources(clientResources()).build()
+        );
     }
 
     @Bean
@@ -29,4 +48,31 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            AccessTokenBlacklist accessTokenBlacklist,
+            ConfigurationCache configurationCache,
+            LockerEventStream lockerEventStream
+    ) {
+        //Lettuce 는 끊긴 연결을 스스로 다시 연결하고 구독하므로, 그 사이에 놓친 로그아웃은 연결 이벤트로 알림
+        //어느 연결의 이벤트인지 구분할 수 없으므로 끊긴 경우만 처리하고, 구독 복구는 AccessTokenBlacklist 의 확인 메시지로만 판단
+        clientResources().eventBus().get()
+                .filter(ConnectionDeactivatedEvent.class::isInstance)
+                .subscribe(event -> accessTokenBlacklist.onSubscriptionLost());
+
+        //컨테이너가 구독에 실패한 경우, 연결 실패이면 잠시 후 다시 구독하고 그 외에는 구독을 중단
+        RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer() {
+            @Override
+            protected void handleSubscriptionException(Throwable ex) {
+                accessTokenBlacklist.onSubscriptionLost();
+                super.handleSubscriptionException(ex);
+            }
+        };
+        redisMessageListenerContainer.setConnectionFactory(redisConnectionFactory());
+        redisMessageListenerContainer.addMessageListener(accessTokenBlacklist, new ChannelTopic(StaticValue.JWT_BLACKLIST_CHANNEL));
+        redisMessageListenerContainer.addMessageListener(configurationCache, new ChannelTopic(StaticValue.CONFIGURATION_CHANNEL));
+        redisMessageListenerContainer.addMessageListener(lockerEventStream, new ChannelTopic(StaticValue.LOCKER_CHANGED_CHANNEL));
+        return redisMessageListenerContainer;
+    }
 }
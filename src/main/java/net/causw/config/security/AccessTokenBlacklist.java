@@ -0,0 +1,148 @@
+package net.causw.config.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 access token 을 메모리에 보관해 요청마다 Redis 를 조회하지 않도록 합니다.
+ * 토큰은 Redis pub/sub(JWT_BLACKLIST_CHANNEL)으로 모든 서버에 전달되며, 토큰 해시의 앞 8바이트만 보관하므로
+ * 메모리에서 찾은 경우에만 Redis 로 실제 블랙리스트 여부를 확인합니다.
+ * 구독은 채널로 보낸 확인 메시지(probe)가 이 서버로 돌아온 경우에만 확인된 것으로 보고, 확인되면 그 사이의 로그아웃을
+ * Redis(JWT_BLACKLIST_KEY)에서 다시 읽은 뒤 메모리 조회를 시작합니다.
+ * 구독이 확인되기 전, Redis 연결이 끊긴 뒤, 확인 메시지가 돌아오지 않은 뒤에는 다시 확인될 때까지 모든 토큰을 Redis 로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenBlacklist implements MessageListener {
+    private final RedisUtils redisUtils;
+
+    // token fingerprint -> 만료 시각(ms)
+    private final Map<Long, Long> fingerprintMap = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    private volatile boolean subscribed = false;
+    private volatile String pendingProbe;
+    private long version;
+
+    public boolean isBlacklisted(String token) {
+        if (!this.subscribed || this.mightContain(token)) {
+            return this.redisUtils.isTokenBlacklisted(token);
+        }
+
+        return false;
+    }
+
+    public void add(String token) {
+        this.add(token, System.currentTimeMillis() + StaticValue.JWT_ACCESS_TOKEN_VALID_TIME);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!body.startsWith(StaticValue.JWT_BLACKLIST_PROBE_PREFIX)) {
+            this.add(body);
+            return;
+        }
+
+        //다른 서버의 확인 메시지는 무시
+        if (body.equals(this.pendingProbe)) {
+            this.pendingProbe = null;
+            if (!this.subscribed) {
+                this.onSubscribed();
+            }
+        }
+    }
+
+    // 확인 메시지로 구독이 확인된 경우 호출, 구독이 끊긴 사이의 로그아웃을 Redis 에서 읽은 뒤 메모리 조회를 시작
+    public void onSubscribed() {
+        long subscribedVersion = this.currentVersion();
+
+        Map<String, Long> tokenMap;
+        try {
+            tokenMap = this.redisUtils.findBlacklistedTokens();
+        } catch (DataAccessException e) {
+            AccessTokenBlacklist.log.warn("Token blacklist could not be reloaded, Redis lookup is kept", e);
+            return;
+        }
+        tokenMap.forEach(this::add);
+
+        synchronized (this.lock) {
+            //다시 읽는 동안 구독이 끊긴 경우 다음 확인까지 기다림
+            if (this.version == subscribedVersion) {
+                this.subscribed = true;
+            }
+        }
+    }
+
+    // Redis 연결이 끊긴 경우 호출, 다시 구독할 때까지 전달되지 않은 로그아웃이 있을 수 있음
+    public void onSubscriptionLost() {
+        synchronized (this.lock) {
+            this.version++;
+            this.subscribed = false;
+            this.pendingProbe = null;
+        }
+    }
+
+    // 5초마다 확인 메시지 발행, 이전 확인 메시지가 돌아오지 않았으면 구독이 끊긴 것으로 처리
+    @Scheduled(fixedDelay = 1000L * 5)
+    public void checkSubscription() {
+        if (this.pendingProbe != null) {
+            this.onSubscriptionLost();
+        }
+
+        String probe = StaticValue.JWT_BLACKLIST_PROBE_PREFIX + UUID.randomUUID();
+        this.pendingProbe = probe;
+        try {
+            this.redisUtils.publishBlacklistProbe(probe);
+        } catch (DataAccessException e) {
+            this.onSubscriptionLost();
+        }
+    }
+
+    // 1분마다 만료된 토큰 정리
+    @Scheduled(fixedDelay = 1000L * 60)
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        this.fingerprintMap.values().removeIf(expiredAt -> expiredAt < now);
+    }
+
+    private void add(String token, Long expiredAt) {
+        this.fingerprintMap.merge(AccessTokenBlacklist.fingerprint(token), expiredAt, Math::max);
+    }
+
+    private long currentVersion() {
+        synchronized (this.lock) {
+            return this.version;
+        }
+    }
+
+    private boolean mightContain(String token) {
+        Long expiredAt = this.fingerprintMap.get(AccessTokenBlacklist.fingerprint(token));
+        return expiredAt != null && expiredAt >= System.currentTimeMillis();
+    }
+
+    private static long fingerprint(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package net.causw.config.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +8,6 @@ import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.enums.Role;
-import net.causw.domain.model.util.RedisUtils;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.model.enums.UserState;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +20,8 @@ import javax.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 @Component
@@ -30,7 +30,10 @@ public class JwtTokenProvider {
     @Value("${spring.jwt.secret}")
     private String secretKey;
 
-    private final RedisUtils redisUtils;
+    private final AccessTokenBlacklist accessTokenBlacklist;
+
+    // 서명을 검증한 access token 의 claims, 토큰 만료 시각까지 재사용합니다.
+    private final Map<String, Claims> claimsMap = new ConcurrentHashMap<>();
 
     @PostConstruct
     protected void init() {
@@ -59,8 +62,13 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    //로그아웃한 서버에서는 pub/sub 메시지를 기다리지 않고 바로 차단
+    public void blacklistAccessToken(String accessToken) {
+        this.accessTokenBlacklist.add(accessToken);
+    }
+
     public Authentication getAuthentication(String token) {
-        String userPk = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(token).getBody().getSubject();
+        String userPk = this.getClaims(token).getSubject();
         return new UsernamePasswordAuthenticationToken(userPk, null, new ArrayList<>());
     }
 
@@ -71,14 +79,14 @@ public class JwtTokenProvider {
     //ACCESS TOKEN만 Validate합니다.
     public boolean validateToken(String jwtToken) {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(jwtToken);
+            Claims claims = this.getClaims(jwtToken);
 
-            if (claims.getBody().getExpiration().before(new Date()) || redisUtils.isTokenBlacklisted(jwtToken)) {
+            if (claims.getExpiration().before(new Date()) || this.accessTokenBlacklist.isBlacklisted(jwtToken)) {
                 throw new UnauthorizedException(ErrorCode.INVALID_JWT, "만료된 토큰입니다.");
             }
 
-            if (claims.getBody().get("role").equals(Role.NONE.getValue()) ||
-                    !claims.getBody().get("state").equals(UserState.ACTIVE.getValue())) {
+            if (claims.get("role").equals(Role.NONE.getValue()) ||
+                    !claims.get("state").equals(UserState.ACTIVE.getValue())) {
                 throw new BadRequestException(ErrorCode.NEED_SIGN_IN, "다시 로그인 하세요.");
             }
             return true;
@@ -87,4 +95,33 @@ public class JwtTokenProvider {
             return false;
         }
     }
+
+    private Claims getClaims(String token) {
+        Claims cachedClaims = this.claimsMap.get(token);
+        if (cachedClaims != null) {
+            if (cachedClaims.getExpiration().after(new Date())) {
+                return cachedClaims;
+            }
+            this.claimsMap.remove(token);
+        }
+
+        Claims claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            if (this.claimsMap.size() >= StaticValue.JWT_CLAIMS_CACHE_MAX_SIZE) {
+                this.removeExpiredClaims();
+            }
+            this.claimsMap.put(token, claims);
+        }
+
+        return claims;
+    }
+
+    private void removeExpiredClaims() {
+        Date now = new Date();
+        this.claimsMap.values().removeIf(claims -> claims.getExpiration().before(now));
+
+        if (this.claimsMap.size() >= StaticValue.JWT_CLAIMS_CACHE_MAX_SIZE) {
+            this.claimsMap.clear();
+        }
+    }
 }
@@ -4,9 +4,15 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import net.causw.domain.model.util.StaticValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
 
 @Configuration
 public class StorageConfig {
@@ -26,4 +32,18 @@ public class StorageConfig {
             .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
             .build();
     }
+
+    // 큰 파일은 multipart 로 나누어 업로드, part 업로드 스레드 수는 고정
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+        return TransferManagerBuilder.standard()
+            .withS3Client(amazonS3Client)
+            .withMultipartUploadThreshold(StaticValue.S3_MULTIPART_UPLOAD_THRESHOLD)
+            .withMinimumUploadPartSize(StaticValue.S3_MULTIPART_PART_SIZE)
+            .withExecutorFactory(() -> Executors.newFixedThreadPool(
+                StaticValue.S3_UPLOAD_THREAD_COUNT,
+                new CustomizableThreadFactory("s3-upload-")
+            ))
+            .build();
+    }
 }
@@ -29,6 +29,7 @@ public class CommentDomainModel {
     @NotNull(message = "게시글이 입력되지 않았습니다.")
     private String postId;
     private List<CommentDomainModel> childCommentList;
+    private Long numChildComment;
 
     private CommentDomainModel(
             String id,
@@ -38,7 +39,8 @@ public class CommentDomainModel {
             LocalDateTime updatedAt,
             UserDomainModel writer,
             String postId,
-            List<CommentDomainModel> childCommentList
+            List<CommentDomainModel> childCommentList,
+            Long numChildComment
     ) {
         this.id = id;
         this.content = content;
@@ -48,6 +50,7 @@ public class CommentDomainModel {
         this.writer = writer;
         this.postId = postId;
         this.childCommentList = childCommentList;
+        this.numChildComment = numChildComment;
     }
 
     public static CommentDomainModel of(
@@ -63,7 +66,8 @@ public class CommentDomainModel {
                 null,
                 writer,
                 postId,
-                new ArrayList<>()
+                new ArrayList<>(),
+                0L
         );
     }
 
@@ -74,7 +78,8 @@ public class CommentDomainModel {
             LocalDateTime createdAt,
             LocalDateTime updatedAt,
             UserDomainModel writer,
-            String postId
+            String postId,
+            Long numChildComment
     ) {
         return new CommentDomainModel(
                 id,
@@ -84,7 +89,8 @@ public class CommentDomainModel {
                 updatedAt,
                 writer,
                 postId,
-                new ArrayList<>()
+                new ArrayList<>(),
+                numChildComment
         );
     }
 
@@ -96,7 +102,8 @@ public class CommentDomainModel {
             LocalDateTime updatedAt,
             UserDomainModel writer,
             String postId,
-            List<CommentDomainModel> childCommentList
+            List<CommentDomainModel> childCommentList,
+            Long numChildComment
     ) {
         return new CommentDomainModel(
                 id,
@@ -106,7 +113,8 @@ public class CommentDomainModel {
                 updatedAt,
                 writer,
                 postId,
-                childCommentList
+                childCommentList,
+                numChildComment
         );
     }
 
@@ -31,6 +31,7 @@ public class PostDomainModel {
     private BoardDomainModel board;
 
     private List<String> attachmentList;
+    private Long numComment;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -43,7 +44,8 @@ public class PostDomainModel {
             BoardDomainModel board,
             LocalDateTime createdAt,
             LocalDateTime updatedAt,
-            List<String> attachmentList
+            List<String> attachmentList,
+            Long numComment
     ) {
         this.id = id;
         this.title = title;
@@ -54,6 +56,7 @@ public class PostDomainModel {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.attachmentList = attachmentList;
+        this.numComment = numComment;
     }
 
     public static PostDomainModel of(
@@ -65,7 +68,8 @@ public class PostDomainModel {
             BoardDomainModel board,
             LocalDateTime createdAt,
             LocalDateTime updatedAt,
-            List<String> attachmentList
+            List<String> attachmentList,
+            Long numComment
     ) {
         return new PostDomainModel(
                 id,
@@ -76,7 +80,8 @@ public class PostDomainModel {
                 board,
                 createdAt,
                 updatedAt,
-                attachmentList
+                attachmentList,
+                numComment
         );
     }
 
@@ -96,7 +101,8 @@ public class PostDomainModel {
                 board,
                 null,
                 null,
-                attachmentList
+                attachmentList,
+                0L
         );
     }
 
@@ -1,9 +1,14 @@
 package net.causw.domain.model.util;
 
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class RedisUtils {
@@ -27,7 +32,46 @@ public class RedisUtils {
     }
 
     public void addToBlacklist(String token) {
-        redisTemplate.opsForValue().set(token, "BLACKLISTED", StaticValue.JWT_ACCESS_TOKEN_VALID_TIME, TimeUnit.SECONDS);
+        redisTemplate.opsForValue().set(token, "BLACKLISTED", StaticValue.JWT_ACCESS_TOKEN_VALID_TIME, TimeUnit.MILLISECONDS);
+        //구독이 끊겼던 서버가 다시 읽을 수 있도록 만료 시각과 함께 보관
+        redisTemplate.opsForZSet().add(
+                StaticValue.JWT_BLACKLIST_KEY,
+                token,
+                System.currentTimeMillis() + StaticValue.JWT_ACCESS_TOKEN_VALID_TIME
+        );
+        redisTemplate.convertAndSend(StaticValue.JWT_BLACKLIST_CHANNEL, token);
+    }
+
+    //만료되지 않은 블랙리스트 토큰과 만료 시각(ms), 만료된 토큰은 함께 정리
+    public Map<String, Long> findBlacklistedTokens() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(StaticValue.JWT_BLACKLIST_KEY, 0, now);
+
+        Set<ZSetOperations.TypedTuple<Object>> tokenSet = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(StaticValue.JWT_BLACKLIST_KEY, now, Double.MAX_VALUE);
+        if (tokenSet == null) {
+            return Map.of();
+        }
+
+        return tokenSet.stream()
+                .filter(token -> token.getValue() != null && token.getScore() != null)
+                .collect(Collectors.toMap(
+                        token -> Objects.toString(token.getValue()),
+                        token -> token.getScore().longValue(),
+                        Math::max
+                ));
+    }
+
+    public void publishBlacklistProbe(String probe) {
+        redisTemplate.convertAndSend(StaticValue.JWT_BLACKLIST_CHANNEL, probe);
+    }
+
+    public void publishConfigurationChanged(String key) {
+        redisTemplate.convertAndSend(StaticValue.CONFIGURATION_CHANNEL, key);
+    }
+
+    public void publishLockerChanged(String lockerId) {
+        redisTemplate.convertAndSend(StaticValue.LOCKER_CHANGED_CHANNEL, lockerId);
     }
 
     public boolean isTokenBlacklisted(String token) {
@@ -1,6 +1,7 @@
 package net.causw.domain.model.util;
 
 import java.util.List;
+import java.util.Map;
 
 public class StaticValue {
     public static final String CONTENT_DELETED_COMMENT = "삭제된 댓글입니다";
@@ -16,10 +17,36 @@ public class StaticValue {
     public static final Integer HOME_POST_PAGE_SIZE = 3;
     public final static Integer USER_LIST_PAGE_SIZE = 30;
 
+    // Cache
+    public static final Long HOME_PAGE_CACHE_TTL = 1000L * 60;    // 1min
+    public static final Long LOCKER_SUMMARY_CACHE_TTL = 1000L * 3;    // 3sec
+    public static final Long PRIVILEGED_USER_CACHE_TTL = 1000L * 60;    // 1min
+    public static final String CONFIGURATION_CHANNEL = "configuration-changed";
+
+    // Batch
+    public static final Integer JDBC_BATCH_SIZE = 500;
+    public static final Integer AUDIT_LOG_QUEUE_CAPACITY = 10000;
+    public static final Integer AUDIT_LOG_MAX_ATTEMPT = 5;
+
+    // Search
+    public static final Integer FULL_TEXT_NGRAM_TOKEN_SIZE = 2;    // MySQL ngram_token_size
+
+    // Mail
+    public static final Integer MAIL_QUEUE_CAPACITY = 1000;
+    public static final Integer MAIL_WORKER_COUNT = 2;
+    public static final Integer MAIL_BATCH_SIZE = 50;    // 한 번의 SMTP 연결로 보내는 최대 메일 수
+    public static final Integer MAIL_MAX_ATTEMPT = 3;
+    public static final Long MAIL_RETRY_BACKOFF = 1000L;    // 1sec, 재시도마다 2배
+    public static final Long MAIL_SHUTDOWN_TIMEOUT = 1000L * 10;    // 10sec
+
     // JWT Token
     public static final Long JWT_ACCESS_TOKEN_VALID_TIME = 1000L * 60 * 30;    // 30min
     public static final Long JWT_REFRESH_TOKEN_VALID_TIME = 1000L * 60 * 60 * 24 * 7;   // 7day
     public static final Integer JWT_ACCESS_THRESHOLD = 60 * 60 * 24;  // 1 day
+    public static final String JWT_BLACKLIST_CHANNEL = "jwt-blacklist";
+    public static final String JWT_BLACKLIST_KEY = "jwt-blacklist-tokens";
+    public static final String JWT_BLACKLIST_PROBE_PREFIX = "probe:";    // 구독 확인용 메시지, 토큰으로 보관하지 않음
+    public static final Integer JWT_CLAIMS_CACHE_MAX_SIZE = 10000;
 
     // Swagger configuration
     public static final String SWAGGER_API_NAME = "CAU_SW API";
@@ -30,6 +57,11 @@ public class StaticValue {
     // S3 Configuration
     public static final Long ATTACHMENT_LIMIT_SIZE = (long) (50 * 1024 * 1024);
     public static final Long IMAGE_LIMIT_SIZE = (long) (20 * 1024 * 1024);
+    public static final Long S3_MULTIPART_UPLOAD_THRESHOLD = (long) (10 * 1024 * 1024);
+    public static final Long S3_MULTIPART_PART_SIZE = (long) (5 * 1024 * 1024);    // S3 최소 part 크기
+    public static final Integer S3_UPLOAD_THREAD_COUNT = 4;
+    public static final Integer S3_MAX_CONCURRENT_UPLOAD = 8;
+    public static final Long S3_UPLOAD_WAIT_TIMEOUT = 1000L * 10;    // 10sec
     public static final String GCS_PUBLIC_LINK_PREFIX = "https://storage.googleapis.com/";
     public static final List<String> IMAGE_EXTENSION_LIST = List.of("JPEG", "JPG", "PNG");
 
@@ -41,9 +73,19 @@ public class StaticValue {
     public static final String DOMAIN_CHILD_COMMENT = "답글";
     public static final String DOMAIN_INQUIRY = "문의글";
 
+    // Locker
+    public static final String LOCKER_CHANGED_CHANNEL = "locker-changed";
+    public static final Long LOCKER_STREAM_TIMEOUT = 1000L * 60 * 30;    // 30min
+    public static final Map<String, Long> LOCKER_DEFAULT_LAYOUT = Map.of(
+            "402881cd8dcaaab2018dcab2d8820000", 136L,    // 2층
+            "402881cd8dcaaab2018dcab2fb980001", 168L,    // 3층
+            "402881cd8dcaaab2018dcab30ea90002", 32L     // 4층
+    );
+
     // Flag
     public static final String LOCKER_ACCESS = "LOCKER_ACCESS";
 
     // Text Field
     public static final String EXPIRED_AT = "EXPIRE_DATE";
+    public static final String TEXT_FIELD_DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm";
 }
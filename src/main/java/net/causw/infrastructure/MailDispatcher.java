@@ -0,0 +1,236 @@
+package net.causw.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.ServiceUnavailableException;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일을 요청 스레드에서 보내지 않고 큐에 넣어 두었다가 별도의 worker 스레드에서 전송합니다.
+ * 메일은 업무 트랜잭션이 커밋된 뒤에 큐에 들어가므로 롤백된 작업의 메일은 보내지 않고, SMTP 전송이 DB 연결을 붙잡지 않습니다.
+ * worker 는 큐에 쌓인 메일을 한 번의 SMTP 연결로 묶어 보내며, 실패한 메일은 간격을 늘려 가며 다시 시도합니다.
+ * 큐 자리는 요청 트랜잭션 안에서 미리 예약하므로, 자리가 없으면 커밋 전에 요청을 거절하고 커밋된 메일은 항상 큐에 들어갑니다.
+ * 정해진 횟수만큼 다시 시도해도 전송하지 못한 메일은 버리므로, 임시 비밀번호 메일의 경우 사용자는 비밀번호 찾기를 다시 요청해야 합니다.
+ * 정상 종료 시에는 남은 메일을 보낸 뒤 종료합니다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+    private final JavaMailSender javaMailSender;
+
+    private final BlockingQueue<MailJob> queue = new ArrayBlockingQueue<>(StaticValue.MAIL_QUEUE_CAPACITY);
+    // 큐 자리 예약, 큐에서 꺼낼 때 반환
+    private final Semaphore queuePermit = new Semaphore(StaticValue.MAIL_QUEUE_CAPACITY);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(
+            StaticValue.MAIL_WORKER_COUNT,
+            new CustomizableThreadFactory("mail-dispatcher-")
+    );
+    private volatile boolean running;
+
+    public MailDispatcher(JavaMailSender javaMailSender) {
+        this.javaMailSender = javaMailSender;
+    }
+
+    @PostConstruct
+    public void start() {
+        this.running = true;
+        for (int index = 0; index < StaticValue.MAIL_WORKER_COUNT; index++) {
+            this.executorService.execute(this::work);
+        }
+    }
+
+    public void dispatch(String from, String to, String title, String content) {
+        //커밋 이후에는 요청에 실패를 알릴 수 없으므로 큐 자리를 미리 예약
+        if (this.executorService.isShutdown() || !this.queuePermit.tryAcquire()) {
+            throw new ServiceUnavailableException(ErrorCode.SERVICE_UNAVAILABLE, "이메일을 전송할 수 없습니다.");
+        }
+
+        MailJob mailJob = new MailJob(from, to, title, content);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                        MailDispatcher.this.enqueue(mailJob);
+                    } else {
+                        MailDispatcher.this.queuePermit.release();
+                    }
+                }
+            });
+            return;
+        }
+
+        this.enqueue(mailJob);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.running = false;
+        this.executorService.shutdown();
+
+        try {
+            if (!this.executorService.awaitTermination(StaticValue.MAIL_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                this.executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            this.executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        int numRemaining = this.size();
+        if (numRemaining > 0) {
+            MailDispatcher.log.error("{} mails could not be sent before shutdown", numRemaining);
+        }
+    }
+
+    public int size() {
+        return this.queue.size();
+    }
+
+    // 예약한 자리에 넣으므로 실패하지 않음
+    private void enqueue(MailJob mailJob) {
+        if (!this.queue.offer(mailJob)) {
+            this.queuePermit.release();
+            MailDispatcher.log.error("Mail queue is full, mail dropped: {}", mailJob.getTitle());
+        }
+    }
+
+    private void work() {
+        while (this.running || !this.queue.isEmpty()) {
+            MailJob mailJob;
+            try {
+                mailJob = this.queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (mailJob == null) {
+                continue;
+            }
+
+            List<MailJob> mailJobList = new ArrayList<>();
+            mailJobList.add(mailJob);
+            this.queue.drainTo(mailJobList, StaticValue.MAIL_BATCH_SIZE - 1);
+            this.queuePermit.release(mailJobList.size());
+
+            this.sendWithRetry(mailJobList);
+        }
+    }
+
+    private void sendWithRetry(List<MailJob> mailJobList) {
+        List<MailJob> failedMailJobList = mailJobList;
+        long backoff = StaticValue.MAIL_RETRY_BACKOFF;
+
+        for (int attempt = 1; attempt <= StaticValue.MAIL_MAX_ATTEMPT; attempt++) {
+            failedMailJobList = this.send(failedMailJobList);
+            if (failedMailJobList.isEmpty()) {
+                return;
+            }
+
+            if (attempt < StaticValue.MAIL_MAX_ATTEMPT) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff *= 2;
+            }
+        }
+
+        MailDispatcher.log.error("Failed to send {} mails after retries", failedMailJobList.size());
+    }
+
+    // 전송하지 못한 메일을 반환
+    private List<MailJob> send(List<MailJob> mailJobList) {
+        List<MailJob> sendingMailJobList = new ArrayList<>();
+        List<MimeMessage> messageList = new ArrayList<>();
+        for (MailJob mailJob : mailJobList) {
+            try {
+                messageList.add(mailJob.toMimeMessage(this.javaMailSender));
+                sendingMailJobList.add(mailJob);
+            } catch (MessagingException e) {
+                //주소 형식 오류 등은 다시 시도해도 실패하므로 버림
+                MailDispatcher.log.error("Mail could not be created: " + mailJob.getTitle(), e);
+            }
+        }
+
+        if (messageList.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            this.javaMailSender.send(messageList.toArray(new MimeMessage[0]));
+            return List.of();
+        } catch (MailSendException e) {
+            MailDispatcher.log.warn("Failed to send mails, retry later", e);
+
+            Map<Object, Exception> failedMessageMap = e.getFailedMessages();
+            if (failedMessageMap.isEmpty()) {
+                return sendingMailJobList;
+            }
+
+            List<MailJob> failedMailJobList = new ArrayList<>();
+            for (int index = 0; index < messageList.size(); index++) {
+                if (failedMessageMap.containsKey(messageList.get(index))) {
+                    failedMailJobList.add(sendingMailJobList.get(index));
+                }
+            }
+            return failedMailJobList;
+        } catch (MailException e) {
+            MailDispatcher.log.warn("Failed to send mails, retry later", e);
+            return sendingMailJobList;
+        }
+    }
+
+    private static class MailJob {
+        private final String from;
+        private final String to;
+        private final String title;
+        private final String content;
+
+        private MailJob(String from, String to, String title, String content) {
+            this.from = from;
+            this.to = to;
+            this.title = title;
+            this.content = content;
+        }
+
+        private String getTitle() {
+            return this.title;
+        }
+
+        private MimeMessage toMimeMessage(JavaMailSender javaMailSender) throws MessagingException {
+            MimeMessage message = javaMailSender.createMimeMessage();
+            MimeMessageHelper messageHelper = new MimeMessageHelper(message, false, "UTF-8");
+            messageHelper.setFrom(this.from);
+            messageHelper.setSubject(this.title);
+            messageHelper.setText(this.content, true);
+            messageHelper.setTo(this.to);
+            return message;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package net.causw.infrastructure;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {{변수}} 를 포함한 HTML 메일 본문 템플릿입니다.
+ * 템플릿은 생성할 때 한 번만 고정 문자열과 변수로 나누어 두고, 메일을 보낼 때는 HTML escape 한 변수 값만 이어 붙입니다.
+ */
+public class MailTemplate {
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{\\s*(\\w+)\\s*}}");
+
+    // 고정 문자열은 변수보다 항상 하나 많음
+    private final List<String> literalList;
+    private final List<String> variableList;
+
+    private MailTemplate(List<String> literalList, List<String> variableList) {
+        this.literalList = literalList;
+        this.variableList = variableList;
+    }
+
+    public static MailTemplate compile(String source) {
+        List<String> literalList = new ArrayList<>();
+        List<String> variableList = new ArrayList<>();
+
+        Matcher matcher = VARIABLE_PATTERN.matcher(source);
+        int literalStart = 0;
+        while (matcher.find()) {
+            literalList.add(source.substring(literalStart, matcher.start()));
+            variableList.add(matcher.group(1));
+            literalStart = matcher.end();
+        }
+        literalList.add(source.substring(literalStart));
+
+        return new MailTemplate(List.copyOf(literalList), List.copyOf(variableList));
+    }
+
+    public static MailTemplate load(String path) {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return MailTemplate.compile(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Mail template could not be loaded: " + path, e);
+        }
+    }
+
+    public String render(Map<String, String> variableMap) {
+        StringBuilder content = new StringBuilder(this.literalList.get(0));
+        for (int index = 0; index < this.variableList.size(); index++) {
+            String variable = this.variableList.get(index);
+            String value = variableMap.get(variable);
+            if (value == null) {
+                throw new IllegalArgumentException("Mail template variable is missing: " + variable);
+            }
+
+            content.append(HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name()))
+                    .append(this.literalList.get(index + 1));
+        }
+
+        return content.toString();
+    }
+}
@@ -0,0 +1,192 @@
+package net.causw.application
+
+import net.causw.config.security.AccessTokenBlacklist
+import net.causw.domain.model.util.RedisUtils
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@ActiveProfiles(value = "test")
+class AccessTokenBlacklistTest extends Specification {
+    private RedisUtils redisUtils = Mock(RedisUtils.class)
+    private AccessTokenBlacklist accessTokenBlacklist = new AccessTokenBlacklist(this.redisUtils)
+
+    def message(String body) {
+        return new DefaultMessage("jwt-blacklist".getBytes(), body.getBytes(StandardCharsets.UTF_8))
+    }
+
+    // 확인 메시지를 발행하고 그대로 돌려받아 구독을 확인
+    def subscribe(Map<String, Long> blacklistedTokenMap) {
+        String probe = null
+        this.redisUtils.publishBlacklistProbe(_ as String) >> { String value -> probe = value }
+        this.redisUtils.findBlacklistedTokens() >> blacklistedTokenMap
+
+        this.accessTokenBlacklist.checkSubscription()
+        this.accessTokenBlacklist.onMessage(this.message(probe), null)
+    }
+
+    /**
+     * Test case for a token after the subscription is confirmed
+     * Redis should not be asked for a token which is not in the local blacklist
+     */
+    def "Access token blacklist local miss case"() {
+        given:
+        this.subscribe([:])
+
+        when:
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        0 * this.redisUtils.isTokenBlacklisted(_)
+        !isBlacklisted
+    }
+
+    /**
+     * Test case for a token published through the blacklist channel
+     */
+    def "Access token blacklist published token case"() {
+        given:
+        this.subscribe([:])
+        this.accessTokenBlacklist.onMessage(this.message("token"), null)
+
+        when:
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.isTokenBlacklisted("token") >> true
+        isBlacklisted
+    }
+
+    /**
+     * Test case for a token signed out on this server
+     * The token should be blocked without waiting for the published message
+     */
+    def "Access token blacklist signed out token case"() {
+        given:
+        this.subscribe([:])
+        this.accessTokenBlacklist.add("token")
+
+        when:
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.isTokenBlacklisted("token") >> true
+        isBlacklisted
+    }
+
+    /**
+     * Test case for the subscription check
+     * Every token should be checked in Redis until this server receives its own probe,
+     * and the sign outs stored in Redis should be reloaded before the local blacklist is used
+     */
+    def "Access token blacklist subscription confirmed case"() {
+        given:
+        String probe = null
+
+        when: "before the subscription is confirmed"
+        this.accessTokenBlacklist.checkSubscription()
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.publishBlacklistProbe({ it.startsWith("probe:") }) >> { String value -> probe = value }
+        1 * this.redisUtils.isTokenBlacklisted("token") >> false
+        !isBlacklisted
+
+        when: "a probe of another server is received"
+        this.accessTokenBlacklist.onMessage(this.message("probe:other"), null)
+        isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        0 * this.redisUtils.findBlacklistedTokens()
+        1 * this.redisUtils.isTokenBlacklisted("token") >> false
+        !isBlacklisted
+
+        when: "the probe of this server is received"
+        this.accessTokenBlacklist.onMessage(this.message(probe), null)
+        def isReloadedBlacklisted = this.accessTokenBlacklist.isBlacklisted("reloaded token")
+        isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.findBlacklistedTokens() >> ["reloaded token": System.currentTimeMillis() + 1000L * 60]
+        1 * this.redisUtils.isTokenBlacklisted("reloaded token") >> true
+        0 * this.redisUtils.isTokenBlacklisted("token")
+        isReloadedBlacklisted
+        !isBlacklisted
+    }
+
+    /**
+     * Test case for a lost connection
+     * Every token should be checked in Redis until a new probe is received
+     */
+    def "Access token blacklist subscription lost case"() {
+        given:
+        this.subscribe([:])
+
+        when:
+        this.accessTokenBlacklist.onSubscriptionLost()
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.isTokenBlacklisted("token") >> true
+        isBlacklisted
+    }
+
+    /**
+     * Test case for a probe which is not answered before the next check
+     * The subscription should be treated as lost
+     */
+    def "Access token blacklist unanswered probe case"() {
+        given:
+        this.subscribe([:])
+
+        when:
+        this.accessTokenBlacklist.checkSubscription()
+        this.accessTokenBlacklist.checkSubscription()
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.isTokenBlacklisted("token") >> true
+        isBlacklisted
+    }
+
+    /**
+     * Test case for a probe which could not be published
+     * The subscription should be treated as lost
+     */
+    def "Access token blacklist probe publish failure case"() {
+        given:
+        this.subscribe([:])
+
+        when:
+        this.accessTokenBlacklist.checkSubscription()
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.publishBlacklistProbe(_) >> { throw new RedisConnectionFailureException("connection refused") }
+        1 * this.redisUtils.isTokenBlacklisted("token") >> true
+        isBlacklisted
+    }
+
+    /**
+     * Test case for a blacklist which could not be reloaded
+     * The local blacklist should not be used even if the probe is received
+     */
+    def "Access token blacklist reload failure case"() {
+        given:
+        String probe = null
+
+        when:
+        this.accessTokenBlacklist.checkSubscription()
+        this.accessTokenBlacklist.onMessage(this.message(probe), null)
+        def isBlacklisted = this.accessTokenBlacklist.isBlacklisted("token")
+
+        then:
+        1 * this.redisUtils.publishBlacklistProbe(_) >> { String value -> probe = value }
+        1 * this.redisUtils.findBlacklistedTokens() >> { throw new RedisConnectionFailureException("connection refused") }
+        1 * this.redisUtils.isTokenBlacklisted("token") >> true
+        isBlacklisted
+    }
+}
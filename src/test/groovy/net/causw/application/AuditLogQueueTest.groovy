@@ -0,0 +1,130 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.port.log.AuditLogQueue
+import net.causw.domain.model.util.StaticValue
+import org.springframework.dao.DataAccessResourceFailureException
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.SimpleTransactionStatus
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class AuditLogQueueTest extends Specification {
+    private static final String INSERT_SQL = "INSERT INTO tb_locker_log (id) VALUES (?)"
+
+    private JdbcTemplate jdbcTemplate = Mock(JdbcTemplate.class)
+    private PlatformTransactionManager transactionManager = Stub(PlatformTransactionManager.class) {
+        getTransaction(_) >> new SimpleTransactionStatus()
+    }
+    private AuditLogQueue auditLogQueue = new AuditLogQueue(this.jdbcTemplate, this.transactionManager)
+
+    def cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    /**
+     * Test case for saving queued logs in batches
+     */
+    def "Audit log queue flush normal case"() {
+        given:
+        (0..<1200).each { index -> this.auditLogQueue.add(INSERT_SQL, ["log " + index] as Object[]) }
+
+        when:
+        this.auditLogQueue.flush()
+
+        then:
+        1 * this.jdbcTemplate.batchUpdate(INSERT_SQL, { it.size() == 500 })
+        1 * this.jdbcTemplate.batchUpdate(INSERT_SQL, { it.size() == 500 })
+        1 * this.jdbcTemplate.batchUpdate(INSERT_SQL, { it.size() == 200 })
+        this.auditLogQueue.size() == 0
+    }
+
+    /**
+     * Test case for a log written inside a transaction
+     * The log should be queued only after the transaction is committed
+     */
+    def "Audit log queue transaction case"() {
+        given:
+        TransactionSynchronizationManager.initSynchronization()
+
+        when:
+        this.auditLogQueue.add(INSERT_SQL, ["committed log"] as Object[])
+        def sizeBeforeCommit = this.auditLogQueue.size()
+        TransactionSynchronizationManager.getSynchronizations()*.afterCommit()
+
+        then:
+        sizeBeforeCommit == 0
+        this.auditLogQueue.size() == 1
+    }
+
+    /**
+     * Test case for a failed flush
+     * The logs should be kept and saved on shutdown
+     */
+    def "Audit log queue flush failed case"() {
+        given:
+        this.auditLogQueue.add(INSERT_SQL, ["log"] as Object[])
+
+        when:
+        this.auditLogQueue.flush()
+
+        then:
+        1 * this.jdbcTemplate.batchUpdate(INSERT_SQL, _) >> { throw new DataAccessResourceFailureException("down") }
+        this.auditLogQueue.size() == 1
+
+        when:
+        this.auditLogQueue.flushOnShutdown()
+
+        then:
+        1 * this.jdbcTemplate.batchUpdate(INSERT_SQL, { it.size() == 1 })
+        this.auditLogQueue.size() == 0
+    }
+
+    /**
+     * Test case for a batch with a log that can never be saved, such as a too long message
+     * The other logs should be saved row by row and only the bad log should be dropped
+     */
+    def "Audit log queue bad row case"() {
+        given:
+        (0..<5).each { index -> this.auditLogQueue.add(INSERT_SQL, ["log " + index] as Object[]) }
+
+        when:
+        this.auditLogQueue.flush()
+
+        then:
+        1 * this.jdbcTemplate.batchUpdate(INSERT_SQL, { it.size() == 5 }) >> { throw new DataIntegrityViolationException("too long") }
+        1 * this.jdbcTemplate.update(INSERT_SQL, ["log 2"] as Object[]) >> { throw new DataIntegrityViolationException("too long") }
+        4 * this.jdbcTemplate.update(INSERT_SQL, _ as Object[]) >> 1
+        this.auditLogQueue.size() == 0
+
+        when:
+        this.auditLogQueue.add(INSERT_SQL, ["next log"] as Object[])
+        this.auditLogQueue.flush()
+
+        then:
+        1 * this.jdbcTemplate.batchUpdate(INSERT_SQL, { it.size() == 1 })
+        this.auditLogQueue.size() == 0
+    }
+
+    /**
+     * Test case for a database that stays down
+     * The logs should be retried a limited number of times and then dropped
+     */
+    def "Audit log queue retry limit case"() {
+        given:
+        this.auditLogQueue.add(INSERT_SQL, ["log"] as Object[])
+
+        when:
+        (StaticValue.AUDIT_LOG_MAX_ATTEMPT + 1).times { this.auditLogQueue.flush() }
+
+        then:
+        StaticValue.AUDIT_LOG_MAX_ATTEMPT * this.jdbcTemplate.batchUpdate(INSERT_SQL, _) >> { throw new DataAccessResourceFailureException("down") }
+        0 * this.jdbcTemplate.update(_, _)
+        this.auditLogQueue.size() == 0
+    }
+}
@@ -0,0 +1,92 @@
+package net.causw.application
+
+import net.causw.application.circle.CircleService
+import net.causw.application.spi.*
+import net.causw.domain.model.circle.CircleDomainModel
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.user.UserDomainModel
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.validation.Validation
+import javax.validation.Validator
+
+@ActiveProfiles(value = "test")
+class CircleListMemberCountTest extends Specification {
+    private CirclePort circlePort = Mock(CirclePort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
+    private BoardPort boardPort = Mock(BoardPort.class)
+    private PostPort postPort = Mock(PostPort.class)
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
+    private ApplicationEventPublisher applicationEventPublisher = Mock(ApplicationEventPublisher.class)
+    private CircleService circleService = new CircleService(
+            this.circlePort,
+            this.userPort,
+            this.circleMemberPort,
+            this.boardPort,
+            this.postPort,
+            this.validator,
+            this.applicationEventPublisher
+    )
+
+    def mockAdminDomainModel
+
+    def setup() {
+        this.mockAdminDomainModel = UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.ADMIN,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+    }
+
+    def mockCircleList(int size) {
+        return (0..<size).collect { index ->
+            CircleDomainModel.of(
+                    "circle id " + index,
+                    "circle name " + index,
+                    null,
+                    "circle description " + index,
+                    false,
+                    (UserDomainModel) this.mockAdminDomainModel
+            )
+        }
+    }
+
+    /**
+     * Test case for the member counts of the circle list
+     * The member counts of all circles should be read with one grouped query
+     */
+    @Unroll
+    def "Circle find all reads member counts at once for #numCircle circles"() {
+        given:
+        def circleList = this.mockCircleList(numCircle)
+
+        this.userPort.findById("test") >> Optional.of(this.mockAdminDomainModel)
+        this.circleMemberPort.findCircleByUserId("test") >> Map.of()
+        this.circlePort.findAll() >> circleList
+
+        when:
+        def circlesResponseDtoList = this.circleService.findAll("test")
+
+        then:
+        1 * this.circleMemberPort.getNumMemberByCircleIds(circleList*.getId()) >> circleList.collectEntries {
+            [(it.getId()): (Long) circleList.indexOf(it)]
+        }
+        0 * this.circleMemberPort.getNumMember(_)
+        circlesResponseDtoList*.getNumMember() == (0..<numCircle).collect { (Long) it }
+
+        where:
+        numCircle << [1, 20, 100]
+    }
+}
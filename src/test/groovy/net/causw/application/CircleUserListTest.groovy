@@ -0,0 +1,121 @@
+package net.causw.application
+
+import net.causw.application.circle.CircleService
+import net.causw.application.spi.*
+import net.causw.domain.exceptions.BadRequestException
+import net.causw.domain.model.circle.CircleDomainModel
+import net.causw.domain.model.circle.CircleMemberDomainModel
+import net.causw.domain.model.enums.CircleMemberStatus
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.user.UserDomainModel
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import javax.validation.Validation
+import javax.validation.Validator
+
+@ActiveProfiles(value = "test")
+class CircleUserListTest extends Specification {
+    private CirclePort circlePort = Mock(CirclePort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
+    private BoardPort boardPort = Mock(BoardPort.class)
+    private PostPort postPort = Mock(PostPort.class)
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
+    private ApplicationEventPublisher applicationEventPublisher = Mock(ApplicationEventPublisher.class)
+    private CircleService circleService = new CircleService(
+            this.circlePort,
+            this.userPort,
+            this.circleMemberPort,
+            this.boardPort,
+            this.postPort,
+            this.validator,
+            this.applicationEventPublisher
+    )
+
+    def mockLeaderDomainModel
+    def mockCircleDomainModel
+
+    def setup() {
+        this.mockLeaderDomainModel = this.mockUser("leader", Role.LEADER_CIRCLE)
+
+        this.mockCircleDomainModel = CircleDomainModel.of(
+                "test circle id",
+                "test circle name",
+                null,
+                "test circle description",
+                false,
+                (UserDomainModel) this.mockLeaderDomainModel
+        )
+    }
+
+    def mockUser(String id, Role role) {
+        return UserDomainModel.of(
+                id,
+                id + "@cau.ac.kr",
+                id,
+                "test1234!",
+                "20210000",
+                2021,
+                role,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+    }
+
+    def mockCircleMember(UserDomainModel userDomainModel) {
+        return CircleMemberDomainModel.of(
+                "circle member id " + userDomainModel.getId(),
+                CircleMemberStatus.MEMBER,
+                (CircleDomainModel) this.mockCircleDomainModel,
+                userDomainModel.getId(),
+                userDomainModel.getName(),
+                null,
+                null
+        )
+    }
+
+    /**
+     * Test case for the member list of a large circle
+     * The users of all members should be read at once
+     */
+    def "Circle user list loads members at once normal case"() {
+        given:
+        def memberList = (0..<200).collect { index -> this.mockUser("member " + index, Role.COMMON) }
+        def memberIdSet = memberList*.getId().toSet()
+
+        this.userPort.findById("leader") >> Optional.of(this.mockLeaderDomainModel)
+        this.circlePort.findById("test circle id") >> Optional.of(this.mockCircleDomainModel)
+        this.circleMemberPort.findByCircleId("test circle id", CircleMemberStatus.MEMBER) >> memberList.collect { this.mockCircleMember(it) }
+
+        when:
+        def circleMemberResponseDtoList = this.circleService.getUserList("leader", "test circle id", CircleMemberStatus.MEMBER)
+
+        then:
+        1 * this.userPort.findAllByIds(memberIdSet) >> memberList
+        0 * this.userPort.findById({ it != "leader" })
+        circleMemberResponseDtoList*.getUser()*.getId() == memberList*.getId()
+    }
+
+    /**
+     * Test case for a member whose user does not exist
+     */
+    def "Circle user list member not found case"() {
+        given:
+        def member = this.mockUser("member", Role.COMMON)
+
+        this.userPort.findById("leader") >> Optional.of(this.mockLeaderDomainModel)
+        this.circlePort.findById("test circle id") >> Optional.of(this.mockCircleDomainModel)
+        this.circleMemberPort.findByCircleId("test circle id", CircleMemberStatus.MEMBER) >> List.of(this.mockCircleMember(member))
+        this.userPort.findAllByIds(_) >> List.of()
+
+        when:
+        this.circleService.getUserList("leader", "test circle id", CircleMemberStatus.MEMBER)
+
+        then:
+        thrown(BadRequestException)
+    }
+}
@@ -0,0 +1,149 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.board.Board
+import net.causw.adapter.persistence.comment.ChildComment
+import net.causw.adapter.persistence.comment.Comment
+import net.causw.adapter.persistence.post.Post
+import net.causw.adapter.persistence.repository.ChildCommentRepository
+import net.causw.adapter.persistence.repository.CommentRepository
+import net.causw.adapter.persistence.repository.PostRepository
+import net.causw.adapter.persistence.user.User
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+/**
+ * 댓글 수, 답글 수를 바꾸는 쿼리(삭제 처리, 증감, 재계산)를 실제 DB 에서 실행해 확인합니다.
+ */
+@ActiveProfiles(value = "test")
+@DataJpaTest
+class CommentCountQueryTest extends Specification {
+    @Autowired
+    private TestEntityManager testEntityManager
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate
+
+    @Autowired
+    private PostRepository postRepository
+
+    @Autowired
+    private CommentRepository commentRepository
+
+    @Autowired
+    private ChildCommentRepository childCommentRepository
+
+    def writer
+    def post
+    def emptyPost
+    def comment
+    def deletedComment
+    def childComment
+
+    def setup() {
+        this.writer = this.testEntityManager.persist(User.of(
+                "writer@cau.ac.kr",
+                "writer",
+                "test1234!",
+                null,
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        ))
+        def board = this.testEntityManager.persist(Board.of("board", "description", "ADMIN", "category", false, null))
+        this.post = this.testEntityManager.persist(Post.of("title", "content", this.writer, false, board, null))
+        this.emptyPost = this.testEntityManager.persist(Post.of("empty", "content", this.writer, false, board, null))
+        this.comment = this.testEntityManager.persist(Comment.of("comment", false, this.writer, this.post))
+        this.deletedComment = this.testEntityManager.persist(Comment.of("deleted comment", true, this.writer, this.post))
+        this.childComment = this.testEntityManager.persist(ChildComment.of("child comment", false, null, null, this.writer, this.comment))
+        this.testEntityManager.persist(ChildComment.of("deleted child comment", true, null, null, this.writer, this.comment))
+
+        this.testEntityManager.flush()
+        this.testEntityManager.clear()
+    }
+
+    def numComment(String postId) {
+        return this.jdbcTemplate.queryForObject("SELECT num_comment FROM tb_post WHERE id = ?", Long.class, postId)
+    }
+
+    def numChildComment(String commentId) {
+        return this.jdbcTemplate.queryForObject("SELECT num_child_comment FROM tb_comment WHERE id = ?", Long.class, commentId)
+    }
+
+    /**
+     * Test case for soft delete of comments and child comments
+     * Only the first delete of a row should change it
+     */
+    def "Comment soft delete once case"() {
+        expect:
+        this.commentRepository.softDeleteById(this.comment.getId()) == 1
+        this.commentRepository.softDeleteById(this.comment.getId()) == 0
+        this.commentRepository.softDeleteById(this.deletedComment.getId()) == 0
+        this.commentRepository.findById(this.comment.getId()).get().getIsDeleted()
+
+        this.childCommentRepository.softDeleteById(this.childComment.getId()) == 1
+        this.childCommentRepository.softDeleteById(this.childComment.getId()) == 0
+        this.childCommentRepository.findById(this.childComment.getId()).get().getIsDeleted()
+    }
+
+    /**
+     * Test case for the comment count decrement
+     * The counts should not go below zero
+     */
+    def "Comment count decrease floor case"() {
+        when:
+        def numDecreasedPost = this.postRepository.decreaseNumComment(this.emptyPost.getId())
+        def numDecreasedComment = this.commentRepository.decreaseNumChildComment(this.comment.getId())
+
+        then:
+        numDecreasedPost == 0
+        numDecreasedComment == 0
+        this.numComment(this.emptyPost.getId()) == 0L
+        this.numChildComment(this.comment.getId()) == 0L
+
+        when:
+        this.postRepository.increaseNumComment(this.post.getId())
+        this.postRepository.decreaseNumComment(this.post.getId())
+        this.postRepository.decreaseNumComment(this.post.getId())
+
+        then:
+        this.numComment(this.post.getId()) == 0L
+    }
+
+    /**
+     * Test case for the nightly reconcile
+     * Drifted counts should be set to the number of comments not deleted, and correct counts should not be touched
+     */
+    def "Comment count reconcile case"() {
+        given:
+        this.jdbcTemplate.update("UPDATE tb_post SET num_comment = 5 WHERE id = ?", this.post.getId())
+        this.jdbcTemplate.update("UPDATE tb_post SET num_comment = 3 WHERE id = ?", this.emptyPost.getId())
+        this.jdbcTemplate.update("UPDATE tb_comment SET num_child_comment = 7 WHERE id = ?", this.comment.getId())
+
+        when:
+        def numReconciledPost = this.postRepository.reconcileNumComment()
+        def numReconciledComment = this.commentRepository.reconcileNumChildComment()
+
+        then:
+        numReconciledPost == 2
+        numReconciledComment == 1
+        this.numComment(this.post.getId()) == 1L
+        this.numComment(this.emptyPost.getId()) == 0L
+        this.numChildComment(this.comment.getId()) == 1L
+        this.numChildComment(this.deletedComment.getId()) == 0L
+
+        when:
+        numReconciledPost = this.postRepository.reconcileNumComment()
+        numReconciledComment = this.commentRepository.reconcileNumChildComment()
+
+        then:
+        numReconciledPost == 0
+        numReconciledComment == 0
+    }
+}
@@ -0,0 +1,245 @@
+package net.causw.application
+
+import net.causw.application.comment.ChildCommentService
+import net.causw.application.comment.CommentCountScheduler
+import net.causw.application.comment.CommentService
+import net.causw.application.dto.comment.ChildCommentCreateRequestDto
+import net.causw.application.dto.comment.CommentCreateRequestDto
+import net.causw.application.spi.*
+import net.causw.domain.exceptions.BadRequestException
+import net.causw.domain.exceptions.ErrorCode
+import net.causw.domain.model.board.BoardDomainModel
+import net.causw.domain.model.comment.ChildCommentDomainModel
+import net.causw.domain.model.comment.CommentDomainModel
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.post.PostDomainModel
+import net.causw.domain.model.user.UserDomainModel
+import org.springframework.boot.SpringApplication
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.annotation.AnnotationConfigApplicationContext
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import javax.validation.Validation
+import javax.validation.Validator
+import java.time.LocalDateTime
+import java.util.function.Supplier
+
+/**
+ * 댓글, 답글 생성과 삭제가 게시글의 댓글 수와 댓글의 답글 수를 정확히 한 번씩만 바꾸는지, 시작 직후 기존 수를 채우는지 확인합니다.
+ */
+@ActiveProfiles(value = "test")
+class CommentCountTest extends Specification {
+    private CommentPort commentPort = Mock(CommentPort.class)
+    private ChildCommentPort childCommentPort = Mock(ChildCommentPort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private PostPort postPort = Mock(PostPort.class)
+    private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
+    private CommentService commentService = new CommentService(
+            this.commentPort,
+            this.userPort,
+            this.postPort,
+            this.circleMemberPort,
+            this.validator
+    )
+    private ChildCommentService childCommentService = new ChildCommentService(
+            this.childCommentPort,
+            this.commentPort,
+            this.userPort,
+            this.circleMemberPort,
+            this.postPort,
+            this.validator
+    )
+
+    def mockAdminDomainModel
+    def mockPostDomainModel
+    def mockCommentDomainModel
+    def mockChildCommentDomainModel
+
+    def setup() {
+        this.mockAdminDomainModel = UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.ADMIN,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+
+        def mockBoardDomainModel = BoardDomainModel.of(
+                "test board id",
+                "test board name",
+                "test board description",
+                new ArrayList<String>(List.of("ADMIN", "PRESIDENT")),
+                "category",
+                false,
+                null
+        )
+
+        this.mockPostDomainModel = PostDomainModel.of(
+                "test post id",
+                "test post title",
+                "test post content",
+                (UserDomainModel) this.mockAdminDomainModel,
+                false,
+                mockBoardDomainModel,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                List.of(),
+                1L
+        )
+
+        this.mockCommentDomainModel = this.mockComment(false)
+        this.mockChildCommentDomainModel = this.mockChildComment(false)
+
+        this.userPort.findById("test") >> Optional.of(this.mockAdminDomainModel)
+        this.postPort.findPostById("test post id") >> Optional.of(this.mockPostDomainModel)
+        this.commentPort.findById("test comment id") >> Optional.of(this.mockCommentDomainModel)
+        this.childCommentPort.findById("test child comment id") >> Optional.of(this.mockChildCommentDomainModel)
+    }
+
+    def mockComment(boolean isDeleted) {
+        return CommentDomainModel.of(
+                "test comment id",
+                "test comment content",
+                isDeleted,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                (UserDomainModel) this.mockAdminDomainModel,
+                "test post id",
+                1L
+        )
+    }
+
+    def mockChildComment(boolean isDeleted) {
+        return ChildCommentDomainModel.of(
+                "test child comment id",
+                "test child comment content",
+                isDeleted,
+                null,
+                null,
+                (UserDomainModel) this.mockAdminDomainModel,
+                (CommentDomainModel) this.mockCommentDomainModel,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        )
+    }
+
+    /**
+     * Test case for comment create
+     * The comment count of the post should be increased once
+     */
+    def "Comment create count case"() {
+        when:
+        this.commentService.createComment("test", new CommentCreateRequestDto("test comment content", "test post id"))
+
+        then:
+        1 * this.commentPort.create(_, _) >> this.mockCommentDomainModel
+        1 * this.postPort.increaseNumComment("test post id")
+        0 * this.postPort.decreaseNumComment(_)
+    }
+
+    /**
+     * Test case for comment delete
+     * The comment count of the post should be decreased once
+     */
+    def "Comment delete count case"() {
+        when:
+        this.commentService.deleteComment("test", "test comment id")
+
+        then:
+        1 * this.commentPort.delete("test comment id") >> Optional.of(this.mockComment(true))
+        1 * this.postPort.decreaseNumComment("test post id")
+        0 * this.postPort.increaseNumComment(_)
+    }
+
+    /**
+     * Test case for comment delete raced by another delete
+     * When the soft delete changed no row, the comment count should not be decreased
+     */
+    def "Comment delete already deleted count case"() {
+        when:
+        this.commentService.deleteComment("test", "test comment id")
+
+        then:
+        1 * this.commentPort.delete("test comment id") >> Optional.empty()
+        0 * this.postPort.decreaseNumComment(_)
+        def exception = thrown(BadRequestException)
+        exception.getErrorCode() == ErrorCode.TARGET_DELETED
+    }
+
+    /**
+     * Test case for child comment create
+     * The child comment count of the parent comment should be increased once
+     */
+    def "Child comment create count case"() {
+        when:
+        this.childCommentService.createChildComment(
+                "test",
+                new ChildCommentCreateRequestDto("test child comment content", "test comment id", null)
+        )
+
+        then:
+        1 * this.childCommentPort.create(_, _) >> this.mockChildCommentDomainModel
+        1 * this.commentPort.increaseNumChildComment("test comment id")
+        0 * this.commentPort.decreaseNumChildComment(_)
+    }
+
+    /**
+     * Test case for child comment delete
+     * The child comment count of the parent comment should be decreased once
+     */
+    def "Child comment delete count case"() {
+        when:
+        this.childCommentService.deleteChildComment("test", "test child comment id")
+
+        then:
+        1 * this.childCommentPort.delete("test child comment id") >> Optional.of(this.mockChildComment(true))
+        1 * this.commentPort.decreaseNumChildComment("test comment id")
+        0 * this.commentPort.increaseNumChildComment(_)
+    }
+
+    /**
+     * Test case for child comment delete raced by another delete
+     * When the soft delete changed no row, the child comment count should not be decreased
+     */
+    def "Child comment delete already deleted count case"() {
+        when:
+        this.childCommentService.deleteChildComment("test", "test child comment id")
+
+        then:
+        1 * this.childCommentPort.delete("test child comment id") >> Optional.empty()
+        0 * this.commentPort.decreaseNumChildComment(_)
+        def exception = thrown(BadRequestException)
+        exception.getErrorCode() == ErrorCode.TARGET_DELETED
+    }
+
+    /**
+     * Test case for the reconcile after the application starts
+     * The counts of existing posts and comments should be filled without waiting for the nightly run
+     */
+    def "Comment count startup reconcile case"() {
+        given:
+        def applicationContext = new AnnotationConfigApplicationContext()
+        applicationContext.registerBean(PostPort.class, { this.postPort } as Supplier<PostPort>)
+        applicationContext.registerBean(CommentPort.class, { this.commentPort } as Supplier<CommentPort>)
+        applicationContext.register(CommentCountScheduler.class)
+        applicationContext.refresh()
+
+        when:
+        applicationContext.publishEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], applicationContext))
+
+        then:
+        1 * this.postPort.reconcileNumComment() >> 10
+        1 * this.commentPort.reconcileNumChildComment() >> 3
+
+        cleanup:
+        applicationContext.close()
+    }
+}
@@ -0,0 +1,137 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.port.cache.ConfigurationCache
+import net.causw.domain.model.util.RedisUtils
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionSynchronizationUtils
+import spock.lang.Specification
+
+import java.util.function.Supplier
+
+@ActiveProfiles(value = "test")
+class ConfigurationCacheTest extends Specification {
+    private RedisUtils redisUtils = Mock(RedisUtils.class)
+    private ConfigurationCache configurationCache = new ConfigurationCache(this.redisUtils)
+    private Supplier<Optional<Boolean>> loader = Mock(Supplier.class)
+
+    /**
+     * Test case for reading a configuration value from memory
+     */
+    def "Configuration cache hit normal case"() {
+        when:
+        def first = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+        def second = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+
+        then:
+        1 * this.loader.get() >> Optional.of(true)
+        first == Optional.of(true)
+        second == Optional.of(true)
+    }
+
+    /**
+     * Test case for reloading a value after it was changed
+     * The change should be published to the other servers
+     */
+    def "Configuration cache evict normal case"() {
+        given:
+        this.loader.get() >> Optional.of(false)
+        this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+
+        when:
+        this.configurationCache.evict(List.of(ConfigurationCache.FLAG + "LOCKER_ACCESS"))
+        def value = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+
+        then:
+        1 * this.redisUtils.publishConfigurationChanged(ConfigurationCache.FLAG + "LOCKER_ACCESS")
+        1 * this.loader.get() >> Optional.of(true)
+        value == Optional.of(true)
+    }
+
+    /**
+     * Test case for a value evicted while it was being loaded
+     * The stale value should not be kept
+     */
+    def "Configuration cache evicted while loading case"() {
+        when:
+        def staleValue = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+        def value = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+
+        then:
+        1 * this.loader.get() >> {
+            this.configurationCache.evict(List.of(ConfigurationCache.FLAG + "LOCKER_ACCESS"))
+            return Optional.of(false)
+        }
+
+        then:
+        1 * this.loader.get() >> Optional.of(true)
+        staleValue == Optional.of(false)
+        value == Optional.of(true)
+    }
+
+    // 값을 변경하는 트랜잭션 안에서 실행하고 주어진 상태로 종료
+    def inTransaction(int status, Closure closure) {
+        TransactionSynchronizationManager.initSynchronization()
+        TransactionSynchronizationManager.setActualTransactionActive(true)
+        try {
+            closure.call()
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), status)
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization()
+            TransactionSynchronizationManager.setActualTransactionActive(false)
+        }
+    }
+
+    /**
+     * Test case for a value read in the transaction that changed it, and the transaction is rolled back
+     * The uncommitted value should not be kept, and the rollback should not be published
+     */
+    def "Configuration cache read in rolled back transaction case"() {
+        given:
+        this.loader.get() >> Optional.of(false)
+        this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+        def uncommittedValue = null
+
+        when:
+        this.inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK) {
+            this.configurationCache.evict(List.of(ConfigurationCache.FLAG + "LOCKER_ACCESS"))
+            uncommittedValue = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+        }
+        def value = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+
+        then:
+        1 * this.loader.get() >> Optional.of(true)
+
+        then:
+        1 * this.loader.get() >> Optional.of(false)
+        0 * this.redisUtils.publishConfigurationChanged(_)
+        uncommittedValue == Optional.of(true)
+        value == Optional.of(false)
+    }
+
+    /**
+     * Test case for a value changed in a committed transaction
+     * The value should be reloaded after the commit, and the change should be published to the other servers
+     */
+    def "Configuration cache evict in committed transaction case"() {
+        given:
+        this.loader.get() >> Optional.of(false)
+        this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+
+        when:
+        this.inTransaction(TransactionSynchronization.STATUS_COMMITTED) {
+            this.configurationCache.evict(List.of(ConfigurationCache.FLAG + "LOCKER_ACCESS"))
+            this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+        }
+        def value = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+        def cachedValue = this.configurationCache.get(ConfigurationCache.FLAG + "LOCKER_ACCESS", this.loader)
+
+        then:
+        2 * this.loader.get() >> Optional.of(true)
+        1 * this.redisUtils.publishConfigurationChanged(ConfigurationCache.FLAG + "LOCKER_ACCESS")
+        value == Optional.of(true)
+        cachedValue == Optional.of(true)
+        !TransactionSynchronizationManager.hasResource(this.configurationCache)
+    }
+}
@@ -0,0 +1,35 @@
+package net.causw.application
+
+import com.zaxxer.hikari.HikariDataSource
+import net.causw.config.datasource.DataSourceConfig
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class DataSourceBatchRewriteTest extends Specification {
+    def process(String jdbcUrl) {
+        def hikariDataSource = new HikariDataSource()
+        hikariDataSource.setJdbcUrl(jdbcUrl)
+        DataSourceConfig.batchRewriteDataSourcePostProcessor().postProcessBeforeInitialization(hikariDataSource, "dataSource")
+        return hikariDataSource
+    }
+
+    /**
+     * Test case for the MySQL data source
+     * Batch rewrite should be enabled so that the bulk inserts are sent as multi-row statements
+     */
+    def "Data source batch rewrite mysql case"() {
+        expect:
+        this.process("jdbc:mysql://localhost:3306/causw").getDataSourceProperties().getProperty("rewriteBatchedStatements") == "true"
+    }
+
+    /**
+     * Test case for data sources which should not be changed
+     * Other databases do not know the option, and an option already in the url should be kept
+     */
+    def "Data source batch rewrite other case"() {
+        expect:
+        this.process("jdbc:h2:mem:testdb").getDataSourceProperties().isEmpty()
+        this.process("jdbc:mysql://localhost:3306/causw?rewriteBatchedStatements=false").getDataSourceProperties().isEmpty()
+    }
+}
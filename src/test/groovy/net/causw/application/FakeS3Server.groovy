@@ -0,0 +1,153 @@
+package net.causw.application
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+/**
+ * 파일 업로드 테스트에 사용하는 로컬 S3 호환 서버입니다.
+ * path-style 요청의 단일 PUT 과 multipart 업로드(시작, part 업로드, 완료, 중단)만 지원하며,
+ * 저장한 객체와 요청 기록(단일 PUT 의 content length, part 크기)을 제공합니다.
+ */
+class FakeS3Server {
+    private final HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+    private final Map<String, byte[]> objectMap = new ConcurrentHashMap<>()
+    // upload id -> part number -> 내용
+    private final Map<String, Map<Integer, byte[]>> uploadMap = new ConcurrentHashMap<>()
+    private final List<Long> putContentLengthList = new CopyOnWriteArrayList<>()
+    private final List<Integer> partSizeList = new CopyOnWriteArrayList<>()
+
+    FakeS3Server() {
+        this.httpServer.createContext("/") { HttpExchange exchange ->
+            try {
+                this.handle(exchange)
+            } catch (Exception e) {
+                this.reply(exchange, 500, e.toString())
+            } finally {
+                exchange.close()
+            }
+        }
+        this.httpServer.setExecutor(Executors.newCachedThreadPool())
+        this.httpServer.start()
+    }
+
+    String getEndpoint() {
+        return "http://localhost:" + this.httpServer.getAddress().getPort()
+    }
+
+    Map<String, byte[]> getObjectMap() {
+        return this.objectMap
+    }
+
+    List<Long> getPutContentLengthList() {
+        return this.putContentLengthList
+    }
+
+    List<Integer> getPartSizeList() {
+        return this.partSizeList
+    }
+
+    void close() {
+        this.httpServer.stop(0)
+    }
+
+    private void handle(HttpExchange exchange) {
+        String method = exchange.getRequestMethod()
+        String path = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8.name())
+        String bucket = path.substring(1, path.indexOf("/", 1))
+        String key = path.substring(path.indexOf("/", 1) + 1)
+        Map<String, String> queryMap = (exchange.getRequestURI().getRawQuery() ?: "").split("&").findAll { it }.collectEntries {
+            def pair = it.split("=", 2)
+            [(pair[0]): pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8.name()) : ""]
+        }
+
+        if (method == "POST" && queryMap.containsKey("uploads")) {
+            String uploadId = UUID.randomUUID().toString()
+            this.uploadMap.put(uploadId, new ConcurrentHashMap<>())
+            this.reply(exchange, 200, "<InitiateMultipartUploadResult>" +
+                    "<Bucket>" + bucket + "</Bucket><Key>" + key + "</Key><UploadId>" + uploadId + "</UploadId>" +
+                    "</InitiateMultipartUploadResult>")
+        } else if (method == "PUT" && queryMap.containsKey("uploadId")) {
+            byte[] content = this.readBody(exchange)
+            this.uploadMap.get(queryMap.get("uploadId")).put(Integer.valueOf(queryMap.get("partNumber")), content)
+            this.partSizeList.add(content.length)
+            this.replyETag(exchange, content)
+        } else if (method == "POST" && queryMap.containsKey("uploadId")) {
+            this.readBody(exchange)
+            def partMap = this.uploadMap.remove(queryMap.get("uploadId"))
+            def output = new ByteArrayOutputStream()
+            partMap.keySet().sort().each { output.write(partMap.get(it)) }
+            this.objectMap.put(key, output.toByteArray())
+            this.reply(exchange, 200, "<CompleteMultipartUploadResult>" +
+                    "<Location>" + this.getEndpoint() + path + "</Location>" +
+                    "<Bucket>" + bucket + "</Bucket><Key>" + key + "</Key><ETag>\"" + this.md5(output.toByteArray()) + "-" + partMap.size() + "\"</ETag>" +
+                    "</CompleteMultipartUploadResult>")
+        } else if (method == "DELETE" && queryMap.containsKey("uploadId")) {
+            this.uploadMap.remove(queryMap.get("uploadId"))
+            exchange.sendResponseHeaders(204, -1)
+        } else if (method == "PUT") {
+            String decodedContentLength = exchange.getRequestHeaders().getFirst("x-amz-decoded-content-length")
+                    ?: exchange.getRequestHeaders().getFirst("Content-Length")
+            this.putContentLengthList.add(Long.valueOf(decodedContentLength))
+
+            byte[] content = this.readBody(exchange)
+            this.objectMap.put(key, content)
+            this.replyETag(exchange, content)
+        } else {
+            this.reply(exchange, 501, "not supported")
+        }
+    }
+
+    // 평문 HTTP 요청은 SDK 가 aws-chunked 로 서명해 보내므로 chunk 를 풀어서 읽음
+    private byte[] readBody(HttpExchange exchange) {
+        def inputStream = new DataInputStream(exchange.getRequestBody())
+        def output = new ByteArrayOutputStream()
+        if (!(exchange.getRequestHeaders().getFirst("x-amz-content-sha256") ?: "").startsWith("STREAMING-")) {
+            output << inputStream
+            return output.toByteArray()
+        }
+
+        while (true) {
+            def header = new StringBuilder()
+            int value
+            while ((value = inputStream.read()) != '\n' as char) {
+                if (value < 0) {
+                    return output.toByteArray()
+                }
+                if (value != '\r' as char) {
+                    header.append((char) value)
+                }
+            }
+
+            int size = Integer.parseInt(header.toString().split(";")[0], 16)
+            byte[] chunk = new byte[size]
+            inputStream.readFully(chunk)
+            output.write(chunk)
+            inputStream.skipBytes(2)
+            if (size == 0) {
+                return output.toByteArray()
+            }
+        }
+    }
+
+    private void replyETag(HttpExchange exchange, byte[] content) {
+        exchange.getResponseHeaders().add("ETag", "\"" + this.md5(content) + "\"")
+        exchange.sendResponseHeaders(200, -1)
+    }
+
+    private void reply(HttpExchange exchange, int status, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8)
+        exchange.getResponseHeaders().add("Content-Type", "application/xml")
+        exchange.sendResponseHeaders(status, bytes.length)
+        exchange.getResponseBody().write(bytes)
+    }
+
+    private String md5(byte[] content) {
+        return MessageDigest.getInstance("MD5").digest(content).encodeHex().toString()
+    }
+}
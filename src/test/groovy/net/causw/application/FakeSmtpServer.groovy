@@ -0,0 +1,89 @@
+package net.causw.application
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 메일 전송 테스트에 사용하는 로컬 SMTP 서버입니다.
+ * 받은 메일의 수신자와 본문, 연결 수를 기록하며, 처음 몇 번의 연결을 421 로 거절해 재시도를 확인할 수 있습니다.
+ */
+class FakeSmtpServer {
+    private final ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())
+    private final AtomicInteger connectionCounter = new AtomicInteger()
+    private final AtomicInteger rejectCounter
+    private final List<String> recipientList = new CopyOnWriteArrayList<>()
+    private final List<String> messageList = new CopyOnWriteArrayList<>()
+
+    FakeSmtpServer(int numRejectConnection = 0) {
+        this.rejectCounter = new AtomicInteger(numRejectConnection)
+        Thread.start("fake-smtp") {
+            while (!this.serverSocket.isClosed()) {
+                Socket socket
+                try {
+                    socket = this.serverSocket.accept()
+                } catch (IOException ignored) {
+                    return
+                }
+                Thread.start("fake-smtp-session") { this.handle(socket) }
+            }
+        }
+    }
+
+    int getPort() {
+        return this.serverSocket.getLocalPort()
+    }
+
+    int getNumConnection() {
+        return this.connectionCounter.get()
+    }
+
+    List<String> getRecipientList() {
+        return this.recipientList
+    }
+
+    List<String> getMessageList() {
+        return this.messageList
+    }
+
+    void close() {
+        this.serverSocket.close()
+    }
+
+    private void handle(Socket socket) {
+        socket.withCloseable {
+            def reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+            def writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)
+            def reply = { String line -> writer.print(line + "\r\n"); writer.flush() }
+
+            this.connectionCounter.incrementAndGet()
+            if (this.rejectCounter.getAndDecrement() > 0) {
+                reply("421 service not available")
+                return
+            }
+
+            reply("220 localhost fake SMTP")
+            String line
+            while ((line = reader.readLine()) != null) {
+                def command = line.toUpperCase()
+                if (command.startsWith("RCPT TO:")) {
+                    this.recipientList.add(line.substring(8).trim().replaceAll("[<>]", ""))
+                    reply("250 OK")
+                } else if (command == "DATA") {
+                    reply("354 end data with <CR><LF>.<CR><LF>")
+                    def message = new StringBuilder()
+                    while ((line = reader.readLine()) != null && line != ".") {
+                        message.append(line.startsWith("..") ? line.substring(1) : line).append("\n")
+                    }
+                    this.messageList.add(message.toString())
+                    reply("250 OK")
+                } else if (command == "QUIT") {
+                    reply("221 bye")
+                    return
+                } else {
+                    reply("250 OK")
+                }
+            }
+        }
+    }
+}
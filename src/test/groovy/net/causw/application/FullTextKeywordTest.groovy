@@ -0,0 +1,31 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.search.FullTextKeyword
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class FullTextKeywordTest extends Specification {
+    /**
+     * Test case for the full-text keyword of a user name search
+     * Every term should be required, and operators of the boolean mode should be removed
+     */
+    def "Full text keyword normal case"() {
+        expect:
+        FullTextKeyword.of("홍길동") == Optional.of("+\"홍길동\"")
+        FullTextKeyword.of("길동 +홍*") == Optional.of("+\"길동\"")
+        FullTextKeyword.of("  hong  gildong ") == Optional.of("+\"hong\" +\"gildong\"")
+    }
+
+    /**
+     * Test case for a keyword that can not be searched with the ngram index
+     * The caller should fall back to the LIKE search
+     */
+    def "Full text keyword short term case"() {
+        expect:
+        FullTextKeyword.of(null) == Optional.empty()
+        FullTextKeyword.of("") == Optional.empty()
+        FullTextKeyword.of("홍") == Optional.empty()
+        FullTextKeyword.of("a *") == Optional.empty()
+    }
+}
@@ -0,0 +1,146 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.page.PageableFactory
+import net.causw.adapter.persistence.port.cache.RequestLookupCache
+import net.causw.adapter.persistence.port.post.PostPortImpl
+import net.causw.adapter.persistence.port.user.UserAdmissionPortImpl
+import net.causw.adapter.persistence.port.user.UserPortImpl
+import net.causw.adapter.persistence.repository.PostRepository
+import net.causw.adapter.persistence.repository.UserAdmissionRepository
+import net.causw.adapter.persistence.repository.UserRepository
+import net.causw.adapter.persistence.search.FullTextIndexStatus
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.util.RedisUtils
+import org.springframework.data.domain.Page
+import org.springframework.jdbc.CannotGetJdbcConnectionException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+/**
+ * FULLTEXT 인덱스가 확인되기 전에는 MATCH 쿼리 대신 LIKE 쿼리로 검색하는지 확인합니다.
+ */
+@ActiveProfiles(value = "test")
+class FullTextSearchFallbackTest extends Specification {
+    private JdbcTemplate jdbcTemplate = Mock(JdbcTemplate.class)
+    private PostRepository postRepository = Mock(PostRepository.class)
+    private UserRepository userRepository = Mock(UserRepository.class)
+    private UserAdmissionRepository userAdmissionRepository = Mock(UserAdmissionRepository.class)
+    private FullTextIndexStatus fullTextIndexStatus = new FullTextIndexStatus(this.jdbcTemplate)
+    private PostPortImpl postPort = new PostPortImpl(this.postRepository, new PageableFactory(), this.fullTextIndexStatus)
+    private UserPortImpl userPort = new UserPortImpl(
+            this.userRepository,
+            new PageableFactory(),
+            Mock(RedisUtils.class),
+            Mock(RequestLookupCache.class),
+            this.fullTextIndexStatus
+    )
+    private UserAdmissionPortImpl userAdmissionPort = new UserAdmissionPortImpl(
+            this.userAdmissionRepository,
+            new PageableFactory(),
+            this.fullTextIndexStatus
+    )
+
+    def readyIndexes(List<String> indexNameList) {
+        this.jdbcTemplate.queryForList(_ as String, String.class) >> indexNameList
+        this.fullTextIndexStatus.refresh()
+    }
+
+    /**
+     * Test case for the index status
+     * Only the indexes found in the schema should be ready, and a failed check should disable all of them
+     */
+    def "Full text index status case"() {
+        expect: "before the first check"
+        !this.fullTextIndexStatus.isReady(FullTextIndexStatus.POST_TITLE)
+
+        when:
+        this.fullTextIndexStatus.refresh()
+
+        then:
+        1 * this.jdbcTemplate.queryForList(_ as String, String.class) >> [FullTextIndexStatus.POST_TITLE, FullTextIndexStatus.POST_TITLE_CONTENT]
+        this.fullTextIndexStatus.isReady(FullTextIndexStatus.POST_TITLE, FullTextIndexStatus.POST_TITLE_CONTENT)
+        !this.fullTextIndexStatus.isReady(FullTextIndexStatus.POST_TITLE, FullTextIndexStatus.USER_NAME)
+
+        when: "the check fails"
+        this.fullTextIndexStatus.refresh()
+
+        then:
+        1 * this.jdbcTemplate.queryForList(_ as String, String.class) >> { throw new CannotGetJdbcConnectionException("connection refused") }
+        !this.fullTextIndexStatus.isReady(FullTextIndexStatus.POST_TITLE)
+    }
+
+    /**
+     * Test case for a post search before the indexes are created
+     * The LIKE query should be used
+     */
+    def "Post search without index case"() {
+        given:
+        this.readyIndexes([FullTextIndexStatus.POST_TITLE])
+
+        when:
+        this.postPort.searchPost("검색어", "test board id", 0)
+        this.postPort.searchPost("검색어", "test board id", 0, false)
+
+        then:
+        1 * this.postRepository.searchByTitle("검색어", "test board id", _) >> Page.empty()
+        1 * this.postRepository.searchByTitle("검색어", "test board id", _, false) >> Page.empty()
+        0 * this.postRepository.searchByFullText(*_)
+    }
+
+    /**
+     * Test case for a post search after the indexes are created
+     * The full-text query should be used
+     */
+    def "Post search with index case"() {
+        given:
+        this.readyIndexes([FullTextIndexStatus.POST_TITLE, FullTextIndexStatus.POST_TITLE_CONTENT])
+
+        when:
+        this.postPort.searchPost("검색어", "test board id", 0)
+        this.postPort.searchPost("검색어", "test board id", 0, false)
+
+        then:
+        1 * this.postRepository.searchByFullText("+\"검색어\"", "test board id", _) >> Page.empty()
+        1 * this.postRepository.searchByFullText("+\"검색어\"", "test board id", _, false) >> Page.empty()
+        0 * this.postRepository.searchByTitle(*_)
+    }
+
+    /**
+     * Test case for a user name search before the index is created
+     * The LIKE query should be used for users and admissions
+     */
+    def "User search without index case"() {
+        given:
+        this.readyIndexes([FullTextIndexStatus.POST_TITLE, FullTextIndexStatus.POST_TITLE_CONTENT])
+
+        when:
+        this.userPort.findByStateAndName("ACTIVE", "홍길동", 0)
+        this.userAdmissionPort.findAll(UserState.AWAIT, "홍길동", 0)
+
+        then:
+        1 * this.userRepository.findSummaryByStateInAndName([UserState.ACTIVE], "홍길동", _) >> Page.empty()
+        1 * this.userAdmissionRepository.findAllWithName("AWAIT", "홍길동", _) >> Page.empty()
+        0 * this.userRepository.searchIdsByStateInAndFullTextName(*_)
+        0 * this.userAdmissionRepository.searchByFullTextName(*_)
+    }
+
+    /**
+     * Test case for a user name search after the index is created
+     * The full-text query should be used for users and admissions
+     */
+    def "User search with index case"() {
+        given:
+        this.readyIndexes([FullTextIndexStatus.USER_NAME])
+
+        when:
+        this.userPort.findByStateAndName("ACTIVE", "홍길동", 0)
+        this.userAdmissionPort.findAll(UserState.AWAIT, "홍길동", 0)
+
+        then:
+        1 * this.userRepository.searchIdsByStateInAndFullTextName(["ACTIVE"], "+\"홍길동\"", _) >> Page.empty()
+        1 * this.userAdmissionRepository.searchByFullTextName("AWAIT", "+\"홍길동\"", _) >> Page.empty()
+        0 * this.userRepository.findSummaryByStateInAndName(*_)
+        0 * this.userAdmissionRepository.findAllWithName(*_)
+    }
+}
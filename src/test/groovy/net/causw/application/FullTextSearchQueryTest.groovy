@@ -0,0 +1,130 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.board.Board
+import net.causw.adapter.persistence.post.Post
+import net.causw.adapter.persistence.repository.PostRepository
+import net.causw.adapter.persistence.repository.UserRepository
+import net.causw.adapter.persistence.search.FullTextKeyword
+import net.causw.adapter.persistence.user.User
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.core.io.FileSystemResource
+import org.springframework.data.domain.PageRequest
+import org.springframework.jdbc.datasource.init.ScriptUtils
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.context.TestPropertySource
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Requires
+import spock.lang.Specification
+
+import javax.persistence.EntityManager
+import javax.persistence.PersistenceContext
+import javax.sql.DataSource
+
+/**
+ * scripts/search-index.sql 로 만든 ngram FULLTEXT 인덱스에서 영문 이름, 제목이 검색되는지 실제 MySQL 에서 확인합니다.
+ * 테스트 DB(H2)는 MATCH AGAINST 를 지원하지 않으므로 CAUSW_TEST_MYSQL_URL 이 지정된 경우에만 실행합니다.
+ * InnoDB FULLTEXT 인덱스는 커밋된 행만 검색하므로 테스트 데이터를 커밋한 뒤 검색합니다.
+ */
+@Requires({ System.getenv("CAUSW_TEST_MYSQL_URL") != null })
+@ActiveProfiles(value = "test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = [
+        "spring.datasource.url=\${CAUSW_TEST_MYSQL_URL}",
+        "spring.datasource.username=\${CAUSW_TEST_MYSQL_USERNAME:root}",
+        "spring.datasource.password=\${CAUSW_TEST_MYSQL_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+])
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FullTextSearchQueryTest extends Specification {
+    @PersistenceContext
+    private EntityManager entityManager
+
+    @Autowired
+    private PlatformTransactionManager transactionManager
+
+    @Autowired
+    private DataSource dataSource
+
+    @Autowired
+    private PostRepository postRepository
+
+    @Autowired
+    private UserRepository userRepository
+
+    private TransactionTemplate transactionTemplate
+
+    def board
+
+    def setup() {
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager)
+
+        //배포 시 실행하는 스크립트를 그대로 실행, stopword 설정이 같은 세션에 적용되도록 한 연결에서 실행
+        def connection = this.dataSource.getConnection()
+        try {
+            ScriptUtils.executeSqlScript(connection, new FileSystemResource("scripts/search-index.sql"))
+        } finally {
+            connection.close()
+        }
+
+        this.transactionTemplate.execute {
+            def writer = User.of("kim@cau.ac.kr", "Kim", "test1234!", null, 2021, Role.COMMON, null, UserState.ACTIVE)
+            this.entityManager.persist(writer)
+            this.entityManager.persist(User.of("lee@cau.ac.kr", "Lee", "test1234!", null, 2021, Role.COMMON, null, UserState.ACTIVE))
+
+            this.board = Board.of("board", "description", "ADMIN", "category", false, null)
+            this.entityManager.persist(this.board)
+            this.entityManager.persist(Post.of("Spring Boot guide", "content", writer, false, this.board, null))
+            this.entityManager.persist(Post.of("Android guide", "content", writer, false, this.board, null))
+        }
+    }
+
+    def cleanup() {
+        this.transactionTemplate.execute {
+            this.entityManager.createQuery("DELETE FROM Post").executeUpdate()
+            this.entityManager.createQuery("DELETE FROM Board").executeUpdate()
+            this.entityManager.createQuery("DELETE FROM User").executeUpdate()
+        }
+    }
+
+    /**
+     * Test case for an ASCII user name
+     * Every bigram of "Kim" contains the stopword "i", so the name should be found only if the index is built without stopwords
+     */
+    def "Full text user name ascii case"() {
+        when:
+        def userIdPage = this.userRepository.searchIdsByStateInAndFullTextName(
+                [UserState.ACTIVE.getValue()],
+                FullTextKeyword.of("Kim").get(),
+                PageRequest.of(0, 10)
+        )
+
+        then:
+        userIdPage.getTotalElements() == 1L
+        this.userRepository.findById(userIdPage.getContent().get(0)).get().getName() == "Kim"
+    }
+
+    /**
+     * Test case for an ASCII post title
+     * "Spring" contains the stopword bigram "in", so the title should be found only if the index is built without stopwords
+     */
+    def "Full text post title ascii case"() {
+        when:
+        def postPage = this.postRepository.searchByFullText(
+                FullTextKeyword.of("Spring").get(),
+                this.board.getId(),
+                PageRequest.of(0, 10),
+                false
+        )
+
+        then:
+        postPage.getContent()*.getTitle() == ["Spring Boot guide"]
+    }
+}
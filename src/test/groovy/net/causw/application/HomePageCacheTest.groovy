@@ -0,0 +1,98 @@
+package net.causw.application
+
+import net.causw.application.homepage.HomePageCache
+import net.causw.application.homepage.HomePageChangedEvent
+import net.causw.application.spi.BoardPort
+import net.causw.application.spi.PostPort
+import net.causw.domain.model.board.BoardDomainModel
+import net.causw.domain.model.post.PostDomainModel
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.PageImpl
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class HomePageCacheTest extends Specification {
+    private BoardPort boardPort = Mock(BoardPort.class)
+    private PostPort postPort = Mock(PostPort.class)
+    private HomePageCache homePageCache = new HomePageCache(
+            this.boardPort,
+            this.postPort
+    )
+
+    def mockBoardDomainModelList
+
+    def setup() {
+        this.mockBoardDomainModelList = ["board1", "board2"].collect { boardId ->
+            BoardDomainModel.of(
+                    boardId,
+                    boardId + " name",
+                    "description",
+                    new ArrayList<String>(List.of("ADMIN")),
+                    "category",
+                    false,
+                    null
+            )
+        }
+    }
+
+    def emptyPages(List<String> boardIds) {
+        return boardIds.collectEntries { boardId -> [(boardId): new PageImpl<PostDomainModel>([])] } as Map<String, Page<PostDomainModel>>
+    }
+
+    /**
+     * Test case for serving the home page from memory
+     */
+    def "Home page cache hit normal case"() {
+        when:
+        this.homePageCache.findAllBoard()
+        this.homePageCache.findLatestPosts(["board1", "board2"])
+        this.homePageCache.findAllBoard()
+        this.homePageCache.findLatestPosts(["board1", "board2"])
+
+        then:
+        1 * this.boardPort.findAllBoard(false) >> this.mockBoardDomainModelList
+        1 * this.postPort.findLatestPosts(["board1", "board2"], _) >> this.emptyPages(["board1", "board2"])
+    }
+
+    /**
+     * Test case for reloading only the board whose post was changed
+     */
+    def "Home page cache post changed case"() {
+        given:
+        this.boardPort.findAllBoard(false) >> this.mockBoardDomainModelList
+        this.postPort.findLatestPosts(["board1", "board2"], _) >> this.emptyPages(["board1", "board2"])
+        this.homePageCache.findAllBoard()
+        this.homePageCache.findLatestPosts(["board1", "board2"])
+
+        when:
+        this.homePageCache.onHomePageChanged(HomePageChangedEvent.ofBoard("board2"))
+        this.homePageCache.findAllBoard()
+        def postsMap = this.homePageCache.findLatestPosts(["board1", "board2"])
+
+        then:
+        0 * this.boardPort.findAllBoard(_)
+        1 * this.postPort.findLatestPosts(["board2"], _) >> this.emptyPages(["board2"])
+        postsMap.keySet() == ["board1", "board2"] as Set
+    }
+
+    /**
+     * Test case for reloading everything when a board was changed
+     */
+    def "Home page cache board changed case"() {
+        given:
+        this.postPort.findLatestPosts(_, _) >> this.emptyPages(["board1", "board2"])
+        this.boardPort.findAllBoard(false) >> this.mockBoardDomainModelList
+        this.homePageCache.findAllBoard()
+        this.homePageCache.findLatestPosts(["board1", "board2"])
+
+        when:
+        this.homePageCache.onHomePageChanged(HomePageChangedEvent.ofAllBoards())
+        this.homePageCache.findAllBoard()
+        this.homePageCache.findLatestPosts(["board1", "board2"])
+
+        then:
+        1 * this.boardPort.findAllBoard(false) >> this.mockBoardDomainModelList
+        1 * this.postPort.findLatestPosts(["board1", "board2"], _) >> this.emptyPages(["board1", "board2"])
+    }
+}
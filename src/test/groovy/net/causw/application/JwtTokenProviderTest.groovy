@@ -0,0 +1,40 @@
+package net.causw.application
+
+import net.causw.config.security.AccessTokenBlacklist
+import net.causw.config.security.JwtTokenProvider
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class JwtTokenProviderTest extends Specification {
+    private AccessTokenBlacklist accessTokenBlacklist = Mock(AccessTokenBlacklist.class)
+    private JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(this.accessTokenBlacklist)
+
+    def setup() {
+        this.jwtTokenProvider.secretKey = "test secret key"
+        this.jwtTokenProvider.init()
+    }
+
+    /**
+     * Test case for sharing the verified claims between validation and authentication
+     * Once verified, the token should not be verified again with the signing key
+     */
+    def "Jwt token provider verified claims cache case"() {
+        given:
+        def token = this.jwtTokenProvider.createAccessToken("test", Role.COMMON, UserState.ACTIVE)
+        this.accessTokenBlacklist.isBlacklisted(token) >> false
+
+        when:
+        def isValid = this.jwtTokenProvider.validateToken(token)
+        this.jwtTokenProvider.secretKey = "changed secret key"
+        def authentication = this.jwtTokenProvider.getAuthentication(token)
+
+        then:
+        isValid
+        authentication.getPrincipal() == "test"
+        this.jwtTokenProvider.validateToken(token)
+        !this.jwtTokenProvider.validateToken(this.jwtTokenProvider.createAccessToken("other", Role.COMMON, UserState.ACTIVE) + "x")
+    }
+}
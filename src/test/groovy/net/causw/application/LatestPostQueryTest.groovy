@@ -0,0 +1,100 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.board.Board
+import net.causw.adapter.persistence.page.PageableFactory
+import net.causw.adapter.persistence.port.post.PostPortImpl
+import net.causw.adapter.persistence.post.Post
+import net.causw.adapter.persistence.search.FullTextIndexStatus
+import net.causw.adapter.persistence.user.User
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.context.annotation.Import
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+/**
+ * 게시판별 최신 게시글 랭킹 쿼리(ROW_NUMBER, COUNT OVER)를 실제 DB 에서 실행해 게시판별 목록 조회 결과와 비교합니다.
+ */
+@ActiveProfiles(value = "test")
+@DataJpaTest
+@Import([PageableFactory, FullTextIndexStatus, PostPortImpl])
+class LatestPostQueryTest extends Specification {
+    private static final int PAGE_SIZE = 3
+
+    @Autowired
+    private TestEntityManager testEntityManager
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate
+
+    @Autowired
+    private PostPortImpl postPort
+
+    def board
+    def otherBoard
+    def emptyBoard
+
+    def setup() {
+        def writer = this.testEntityManager.persist(User.of(
+                "writer@cau.ac.kr",
+                "writer",
+                "test1234!",
+                null,
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        ))
+        this.board = this.testEntityManager.persist(Board.of("board", "description", "ADMIN", "category", false, null))
+        this.otherBoard = this.testEntityManager.persist(Board.of("other board", "description", "ADMIN", "category", false, null))
+        this.emptyBoard = this.testEntityManager.persist(Board.of("empty board", "description", "ADMIN", "category", false, null))
+
+        def postList = (0..<5).collect { index ->
+            this.testEntityManager.persist(Post.of("title " + index, "content", writer, false, this.board, null))
+        }
+        postList.add(this.testEntityManager.persist(Post.of("deleted", "content", writer, true, this.board, null)))
+        postList.add(this.testEntityManager.persist(Post.of("other", "content", writer, false, this.otherBoard, null)))
+        postList.add(this.testEntityManager.persist(Post.of("deleted", "content", writer, true, this.emptyBoard, null)))
+
+        this.testEntityManager.flush()
+        this.testEntityManager.clear()
+
+        //작성 시각이 겹치지 않도록 게시글마다 다른 시각을 지정
+        postList.eachWithIndex { post, index ->
+            this.jdbcTemplate.update("UPDATE tb_post SET created_at = ? WHERE id = ?", LocalDateTime.of(2021, 3, 2, 9, index), post.getId())
+        }
+    }
+
+    /**
+     * Test case for the latest posts of boards
+     * Each board should get the same posts and total as its own first page, and a board without posts should get an empty page
+     */
+    def "Latest posts query case"() {
+        when:
+        def postPageMap = this.postPort.findLatestPosts(
+                [this.board.getId(), this.otherBoard.getId(), this.emptyBoard.getId()],
+                PAGE_SIZE
+        )
+
+        then:
+        postPageMap.get(this.board.getId()).getContent()*.getTitle() == ["title 4", "title 3", "title 2"]
+        postPageMap.get(this.board.getId()).getTotalElements() == 5L
+        postPageMap.get(this.otherBoard.getId()).getContent().size() == 1
+        postPageMap.get(this.otherBoard.getId()).getTotalElements() == 1L
+        postPageMap.get(this.emptyBoard.getId()).getContent().isEmpty()
+        postPageMap.get(this.emptyBoard.getId()).getTotalElements() == 0L
+
+        [this.board, this.otherBoard, this.emptyBoard].each { targetBoard ->
+            def postPage = this.postPort.findAllPost(targetBoard.getId(), 0, PAGE_SIZE)
+
+            assert postPageMap.get(targetBoard.getId()).getContent()*.getId() == postPage.getContent()*.getId()
+            assert postPageMap.get(targetBoard.getId()).getTotalElements() == postPage.getTotalElements()
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.board.Board
+import net.causw.adapter.persistence.page.PageableFactory
+import net.causw.adapter.persistence.port.post.PostPortImpl
+import net.causw.adapter.persistence.post.Post
+import net.causw.adapter.persistence.repository.PostRepository
+import net.causw.adapter.persistence.search.FullTextIndexStatus
+import net.causw.adapter.persistence.user.User
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+/**
+ * 게시판별 최신 게시글 조회가 랭킹 쿼리 결과를 게시판별 페이지로 나누고, 전체 게시글 수를 그대로 전달하는지 확인합니다.
+ */
+@ActiveProfiles(value = "test")
+class LatestPostsTest extends Specification {
+    private PostRepository postRepository = Mock(PostRepository.class)
+    private PostPortImpl postPort = new PostPortImpl(
+            this.postRepository,
+            new PageableFactory(),
+            new FullTextIndexStatus(Mock(JdbcTemplate.class))
+    )
+
+    def writer = User.of("test writer id", "test@cau.ac.kr", "test", "test1234!", "20210000", 2021, Role.COMMON, null, UserState.ACTIVE)
+    def board = Board.of("test board id", "board", "description", "ADMIN", "category", false, null)
+    def otherBoard = Board.of("other board id", "other board", "description", "ADMIN", "category", false, null)
+
+    def mockPost(String id, Board board) {
+        return Post.of(id, "title", "content", (User) this.writer, false, board, null)
+    }
+
+    /**
+     * Test case for the latest posts of boards
+     * Each board should get only its own ranked posts, with the total number of posts of the board
+     */
+    def "Latest posts per board case"() {
+        when:
+        def postPageMap = this.postPort.findLatestPosts(["test board id", "other board id"], 2)
+
+        then:
+        1 * this.postRepository.findLatestPostIdsByBoardIds(["test board id", "other board id"], 2) >> [
+                ["post 1", "test board id", 5L] as Object[],
+                ["post 2", "other board id", 1L] as Object[],
+                ["post 3", "test board id", 5L] as Object[]
+        ]
+        1 * this.postRepository.findAllByIdIn(["post 1", "post 2", "post 3"]) >> [
+                this.mockPost("post 1", (Board) this.board),
+                this.mockPost("post 2", (Board) this.otherBoard),
+                this.mockPost("post 3", (Board) this.board)
+        ]
+
+        postPageMap.keySet() == ["test board id", "other board id"] as Set
+        postPageMap.get("test board id").getContent()*.getId() == ["post 1", "post 3"]
+        postPageMap.get("test board id").getSize() == 2
+        postPageMap.get("test board id").getTotalElements() == 5L
+        postPageMap.get("test board id").getTotalPages() == 3
+        postPageMap.get("other board id").getContent()*.getId() == ["post 2"]
+        postPageMap.get("other board id").getTotalElements() == 1L
+    }
+
+    /**
+     * Test case for a board without posts
+     * The board should get an empty page with no total, and the posts should not be loaded when no board has a post
+     */
+    def "Latest posts empty board case"() {
+        when:
+        def postPageMap = this.postPort.findLatestPosts(["test board id", "test board id"], 2)
+
+        then:
+        1 * this.postRepository.findLatestPostIdsByBoardIds(_, 2) >> []
+        0 * this.postRepository.findAllByIdIn(_)
+
+        postPageMap.keySet() == ["test board id"] as Set
+        postPageMap.get("test board id").getContent().isEmpty()
+        postPageMap.get("test board id").getTotalElements() == 0L
+
+        when: "no board is requested"
+        postPageMap = this.postPort.findLatestPosts([], 2)
+
+        then:
+        0 * this.postRepository._
+        postPageMap.isEmpty()
+    }
+}
@@ -0,0 +1,174 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.board.Board
+import net.causw.adapter.persistence.circle.Circle
+import net.causw.adapter.persistence.circle.CircleMember
+import net.causw.adapter.persistence.comment.Comment
+import net.causw.adapter.persistence.locker.Locker
+import net.causw.adapter.persistence.locker.LockerLocation
+import net.causw.adapter.persistence.page.PageableFactory
+import net.causw.adapter.persistence.port.cache.RequestLookupCache
+import net.causw.adapter.persistence.port.circle.CircleMemberPortImpl
+import net.causw.adapter.persistence.port.comment.CommentPortImpl
+import net.causw.adapter.persistence.port.locker.LockerPortImpl
+import net.causw.adapter.persistence.port.post.PostPortImpl
+import net.causw.adapter.persistence.post.Post
+import net.causw.adapter.persistence.search.FullTextIndexStatus
+import net.causw.adapter.persistence.user.User
+import net.causw.domain.model.enums.CircleMemberStatus
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import org.hibernate.SessionFactory
+import org.hibernate.stat.Statistics
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.context.annotation.Import
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import javax.persistence.EntityManagerFactory
+
+/**
+ * 목록 조회 한 번에 실행되는 SQL 수가 목록 크기와 관계없이 정해진 예산을 넘지 않는지 확인합니다.
+ * 작성자, 게시판, 소모임장 등 즉시 로딩 연관관계를 행마다 따로 조회하면 예산을 넘어 실패합니다.
+ */
+@ActiveProfiles(value = "test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import([PageableFactory, RequestLookupCache, FullTextIndexStatus, PostPortImpl, CommentPortImpl, LockerPortImpl, CircleMemberPortImpl])
+class ListQueryBudgetTest extends Specification {
+    private static final int NUM_ROW = 20
+
+    @Autowired
+    private TestEntityManager testEntityManager
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory
+
+    @Autowired
+    private PostPortImpl postPort
+
+    @Autowired
+    private CommentPortImpl commentPort
+
+    @Autowired
+    private LockerPortImpl lockerPort
+
+    @Autowired
+    private CircleMemberPortImpl circleMemberPort
+
+    private Statistics statistics
+
+    def circle
+    def board
+    def post
+    def lockerLocation
+
+    def setup() {
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+
+        def leader = this.persistUser("leader")
+        this.circle = this.testEntityManager.persist(Circle.of("circle", null, "description", false, leader))
+        this.board = this.testEntityManager.persist(Board.of("board", "description", "ADMIN", "category", false, this.circle))
+        this.lockerLocation = this.testEntityManager.persist(LockerLocation.of("location"))
+
+        (0..<NUM_ROW).each { index ->
+            def writer = this.persistUser("writer" + index)
+            def post = this.testEntityManager.persist(Post.of("title " + index, "content", writer, false, this.board, null))
+            this.post = this.post ?: post
+            this.testEntityManager.persist(Comment.of("comment " + index, false, writer, this.post))
+            this.testEntityManager.persist(Locker.of((Long) index, false, writer, this.lockerLocation))
+            this.testEntityManager.persist(CircleMember.of(CircleMemberStatus.MEMBER, this.circle, writer))
+        }
+
+        this.testEntityManager.flush()
+        this.testEntityManager.clear()
+        this.statistics.clear()
+    }
+
+    def persistUser(String name) {
+        return this.testEntityManager.persist(User.of(
+                name + "@cau.ac.kr",
+                name,
+                "test1234!",
+                null,
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        ))
+    }
+
+    /**
+     * Test case for the post list of a board
+     * Page query and count query only
+     */
+    def "Post list query budget case"() {
+        when:
+        def postPage = this.postPort.findAllPost(this.board.getId(), 0)
+
+        then:
+        postPage.getContent().size() == NUM_ROW
+        this.statistics.getPrepareStatementCount() <= 2
+    }
+
+    /**
+     * Test case for the comment list of a post
+     * Page query and count query only
+     */
+    def "Comment list query budget case"() {
+        when:
+        def commentPage = this.commentPort.findByPostId(this.post.getId(), 0)
+
+        then:
+        commentPage.getContent().size() == NUM_ROW
+        this.statistics.getPrepareStatementCount() <= 2
+    }
+
+    /**
+     * Test case for the locker list of a location
+     */
+    def "Locker list query budget case"() {
+        when:
+        def lockerList = this.lockerPort.findByLocationId(this.lockerLocation.getId())
+
+        then:
+        lockerList.size() == NUM_ROW
+        this.statistics.getPrepareStatementCount() <= 1
+    }
+
+    /**
+     * Test case for the member list of a circle
+     */
+    def "Circle member list query budget case"() {
+        when:
+        def circleMemberList = this.circleMemberPort.findByCircleId(this.circle.getId(), CircleMemberStatus.MEMBER)
+
+        then:
+        circleMemberList.size() == NUM_ROW
+        this.statistics.getPrepareStatementCount() <= 1
+    }
+
+    /**
+     * Test case for the comment list of a user
+     * The post, board and circle of each comment are read with the page, not per comment
+     */
+    def "User comment list query budget case"() {
+        given:
+        def commenter = this.persistUser("commenter")
+        this.testEntityManager.getEntityManager().createQuery("SELECT p FROM Post p", Post.class).getResultList().each { post ->
+            this.testEntityManager.persist(Comment.of("comment", false, commenter, post))
+        }
+        this.testEntityManager.flush()
+        this.testEntityManager.clear()
+        this.statistics.clear()
+
+        when:
+        def commentPage = this.commentPort.findByUserId(commenter.getId(), 0)
+
+        then:
+        commentPage.getContent().size() == NUM_ROW
+        commentPage.getContent().every { it.getPostName() != null && it.getCircleId() == this.circle.getId() }
+        this.statistics.getPrepareStatementCount() <= 2
+    }
+}
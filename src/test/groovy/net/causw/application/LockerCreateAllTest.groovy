@@ -0,0 +1,121 @@
+package net.causw.application
+
+import net.causw.application.dto.locker.LockerLayoutRequestDto
+import net.causw.application.locker.LockerActionFactory
+import net.causw.application.locker.LockerChangedEvent
+import net.causw.application.locker.LockerEventStream
+import net.causw.application.locker.LockerLocationSummaryCache
+import net.causw.application.locker.LockerService
+import net.causw.application.spi.*
+import net.causw.domain.exceptions.BadRequestException
+import net.causw.domain.model.enums.LockerLogAction
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.locker.LockerDomainModel
+import net.causw.domain.model.locker.LockerLocationDomainModel
+import net.causw.domain.model.user.UserDomainModel
+import net.causw.domain.model.util.StaticValue
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import spock.lang.Specification
+
+import javax.validation.Validation
+
+@ActiveProfiles(value = "test")
+class LockerCreateAllTest extends Specification {
+    private LockerPort lockerPort = Mock(LockerPort.class)
+    private LockerLocationPort lockerLocationPort = Mock(LockerLocationPort.class)
+    private LockerLogPort lockerLogPort = Mock(LockerLogPort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private ApplicationEventPublisher applicationEventPublisher = Mock(ApplicationEventPublisher.class)
+    private LockerService lockerService = new LockerService(
+            this.lockerPort,
+            this.lockerLocationPort,
+            this.lockerLogPort,
+            this.userPort,
+            Mock(FlagPort.class),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new LockerActionFactory(this.applicationEventPublisher),
+            Mock(TextFieldPort.class),
+            Mock(LockerLocationSummaryCache.class),
+            Mock(LockerEventStream.class),
+            this.applicationEventPublisher,
+            Mock(PlatformTransactionManager.class)
+    )
+
+    def mockPresidentDomainModel
+
+    def setup() {
+        this.mockPresidentDomainModel = UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.PRESIDENT,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById("test") >> Optional.of(this.mockPresidentDomainModel)
+        this.lockerLocationPort.findById(_ as String) >> { String id -> Optional.of(LockerLocationDomainModel.of(id, id + " name")) }
+    }
+
+    /**
+     * Test case for creating lockers of the given layout
+     * Lockers and their logs should be saved with one bulk call each
+     */
+    def "Locker create all normal case"() {
+        given:
+        def lockerLayoutRequestDtoList = [
+                new LockerLayoutRequestDto("location 1", 3L),
+                new LockerLayoutRequestDto("location 2", 2L)
+        ]
+
+        when:
+        this.lockerService.createAllLockers("test", lockerLayoutRequestDtoList)
+
+        then:
+        1 * this.lockerPort.createAll({ List<LockerDomainModel> lockerList ->
+            lockerList.collect { it.getLockerLocation().getId() + ":" + it.getLockerNumber() } ==
+                    ["location 1:1", "location 1:2", "location 1:3", "location 2:1", "location 2:2"]
+        })
+        1 * this.lockerLogPort.createAll({ it.size() == 5 }, this.mockPresidentDomainModel, LockerLogAction.ENABLE, _)
+        0 * this.lockerPort.create(_)
+        0 * this.lockerLogPort.create(_, _, _, _, _)
+        1 * this.applicationEventPublisher.publishEvent(_ as LockerChangedEvent)
+    }
+
+    /**
+     * Test case for creating lockers without a layout
+     * The default layout should be used
+     */
+    def "Locker create all default layout case"() {
+        when:
+        this.lockerService.createAllLockers("test", null)
+
+        then:
+        1 * this.lockerPort.createAll({ it.size() == StaticValue.LOCKER_DEFAULT_LAYOUT.values().sum() })
+    }
+
+    /**
+     * Test case for an invalid layout
+     */
+    def "Locker create all invalid layout case"() {
+        when:
+        this.lockerService.createAllLockers("test", lockerLayoutRequestDtoList)
+
+        then:
+        thrown(BadRequestException)
+        0 * this.lockerPort.createAll(_)
+
+        where:
+        lockerLayoutRequestDtoList << [
+                [new LockerLayoutRequestDto("location 1", 0L)],
+                [new LockerLayoutRequestDto("location 1", 1L), new LockerLayoutRequestDto("location 1", 2L)]
+        ]
+    }
+}
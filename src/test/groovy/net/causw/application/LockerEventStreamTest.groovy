@@ -0,0 +1,142 @@
+package net.causw.application
+
+import net.causw.application.dto.locker.LockersResponseDto
+import net.causw.application.locker.LockerChangedEvent
+import net.causw.application.locker.LockerEventStream
+import net.causw.application.spi.LockerPort
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.locker.LockerDomainModel
+import net.causw.domain.model.locker.LockerLocationDomainModel
+import net.causw.domain.model.user.UserDomainModel
+import net.causw.domain.model.util.RedisUtils
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@ActiveProfiles(value = "test")
+class LockerEventStreamTest extends Specification {
+    private LockerPort lockerPort = Mock(LockerPort.class)
+    private RedisUtils redisUtils = Mock(RedisUtils.class)
+    private LockerEventStream lockerEventStream = new LockerEventStream(this.lockerPort, this.redisUtils)
+
+    def mockUserDomainModel
+    def mockLockerDomainModel
+
+    def setup() {
+        this.mockUserDomainModel = UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.mockLockerDomainModel = LockerDomainModel.of(
+                "locker id",
+                1L,
+                true,
+                null,
+                null,
+                null,
+                LockerLocationDomainModel.of("location 1", "location 1 name")
+        )
+    }
+
+    def message(String lockerId) {
+        return new DefaultMessage(
+                "locker-changed".getBytes(StandardCharsets.UTF_8),
+                lockerId.getBytes(StandardCharsets.UTF_8)
+        )
+    }
+
+    // 연결 전에 보낸 이벤트 이름 목록
+    def sentEventNames(SseEmitter sseEmitter) {
+        def earlySendAttempts = ResponseBodyEmitter.class.getDeclaredField("earlySendAttempts")
+        earlySendAttempts.setAccessible(true)
+
+        return earlySendAttempts.get(sseEmitter)*.data
+                .findAll { it instanceof String && it.startsWith("event:") }
+                .collect { it.substring("event:".length(), it.indexOf("\n")) }
+    }
+
+    /**
+     * Test case for sending the snapshot and then only the changed locker
+     * Subscribers of other locations should not receive the change
+     */
+    def "Locker event stream normal case"() {
+        given:
+        def sseEmitter = this.lockerEventStream.subscribe("location 1", this.mockUserDomainModel, {
+            LockersResponseDto.of("location 1 name", [])
+        })
+        def otherSseEmitter = this.lockerEventStream.subscribe("location 2", this.mockUserDomainModel, {
+            LockersResponseDto.of("location 2 name", [])
+        })
+
+        when:
+        this.lockerEventStream.onMessage(this.message("locker id"), null)
+
+        then:
+        1 * this.lockerPort.findById("locker id") >> Optional.of(this.mockLockerDomainModel)
+        this.sentEventNames(sseEmitter) == ["snapshot", "locker"]
+        this.sentEventNames(otherSseEmitter) == ["snapshot"]
+    }
+
+    /**
+     * Test case for a locker changed while the snapshot was being loaded
+     * The change should be sent after the snapshot
+     */
+    def "Locker event stream changed while loading snapshot case"() {
+        given:
+        this.lockerPort.findById("locker id") >> Optional.of(this.mockLockerDomainModel)
+
+        when:
+        def sseEmitter = this.lockerEventStream.subscribe("location 1", this.mockUserDomainModel, {
+            this.lockerEventStream.onMessage(this.message("locker id"), null)
+            return LockersResponseDto.of("location 1 name", [])
+        })
+
+        then:
+        this.sentEventNames(sseEmitter) == ["snapshot", "locker"]
+    }
+
+    /**
+     * Test case for lockers added, removed or moved
+     * Every subscriber should be asked to reload without loading any locker
+     */
+    def "Locker event stream reload case"() {
+        given:
+        def sseEmitter = this.lockerEventStream.subscribe("location 1", this.mockUserDomainModel, {
+            LockersResponseDto.of("location 1 name", [])
+        })
+
+        when:
+        this.lockerEventStream.onMessage(this.message("*"), null)
+
+        then:
+        0 * this.lockerPort.findById(_)
+        this.sentEventNames(sseEmitter) == ["snapshot", "reload"]
+    }
+
+    /**
+     * Test case for propagating a committed change to every server
+     */
+    def "Locker event stream publish case"() {
+        when:
+        this.lockerEventStream.onLockerChanged(LockerChangedEvent.ofLocker("locker id"))
+        this.lockerEventStream.onLockerChanged(LockerChangedEvent.ofAllLockers())
+
+        then:
+        1 * this.redisUtils.publishLockerChanged("locker id")
+        1 * this.redisUtils.publishLockerChanged("*")
+    }
+}
@@ -0,0 +1,57 @@
+package net.causw.application
+
+import net.causw.application.dto.locker.LockerLocationResponseDto
+import net.causw.application.locker.LockerChangedEvent
+import net.causw.application.locker.LockerLocationSummaryCache
+import net.causw.application.spi.LockerLocationPort
+import net.causw.domain.model.locker.LockerLocationDomainModel
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class LockerLocationSummaryCacheTest extends Specification {
+    private LockerLocationPort lockerLocationPort = Mock(LockerLocationPort.class)
+    private LockerLocationSummaryCache lockerLocationSummaryCache = new LockerLocationSummaryCache(this.lockerLocationPort)
+
+    def mockLockerLocationResponseDtoList(Long enableLockerCount) {
+        return ["location 1", "location 2"].collect { locationId ->
+            LockerLocationResponseDto.from(
+                    LockerLocationDomainModel.of(locationId, locationId + " name"),
+                    enableLockerCount,
+                    10L
+            )
+        }
+    }
+
+    /**
+     * Test case for serving the locker counts of every location from memory
+     * Only the grouped count query should be used, without counting per location
+     */
+    def "Locker location summary cache hit normal case"() {
+        when:
+        this.lockerLocationSummaryCache.findAll()
+        def lockerLocationResponseDtoList = this.lockerLocationSummaryCache.findAll()
+
+        then:
+        1 * this.lockerLocationPort.findAllWithLockerCount() >> this.mockLockerLocationResponseDtoList(10L)
+        0 * this.lockerLocationPort.findAll()
+        lockerLocationResponseDtoList*.getEnableLockerCount() == [10L, 10L]
+    }
+
+    /**
+     * Test case for reloading the locker counts after a locker was changed
+     */
+    def "Locker location summary cache locker changed case"() {
+        given:
+        this.lockerLocationPort.findAllWithLockerCount() >> this.mockLockerLocationResponseDtoList(10L)
+        this.lockerLocationSummaryCache.findAll()
+
+        when:
+        this.lockerLocationSummaryCache.onLockerChanged(LockerChangedEvent.ofAllLockers())
+        def lockerLocationResponseDtoList = this.lockerLocationSummaryCache.findAll()
+
+        then:
+        1 * this.lockerLocationPort.findAllWithLockerCount() >> this.mockLockerLocationResponseDtoList(9L)
+        lockerLocationResponseDtoList*.getEnableLockerCount() == [9L, 9L]
+    }
+}
@@ -0,0 +1,222 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.locker.Locker
+import net.causw.adapter.persistence.locker.LockerLocation
+import net.causw.adapter.persistence.port.locker.LockerPortImpl
+import net.causw.adapter.persistence.repository.LockerRepository
+import net.causw.adapter.persistence.user.User
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.locker.LockerDomainModel
+import net.causw.domain.model.locker.LockerLocationDomainModel
+import net.causw.domain.model.user.UserDomainModel
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+
+import javax.persistence.EntityManager
+import javax.persistence.PersistenceContext
+import java.time.LocalDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 사물함 신청의 조건부 UPDATE(LockerRepository.registerIfNoLocker, register)를 실제 DB 에서 동시에 실행해, 한 사물함이 한 명에게만, 학생에게는 한 사물함만 배정되는지 확인합니다.
+ * 각 신청이 별도의 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고, 만든 데이터는 테스트가 끝나면 지웁니다.
+ */
+@ActiveProfiles(value = "test")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import([LockerPortImpl])
+class LockerRegisterConcurrencyTest extends Specification {
+    private static final int NUM_STUDENT = 16
+    private static final LocalDateTime EXPIRE_DATE = LocalDateTime.of(2099, 12, 31, 23, 59)
+
+    @PersistenceContext
+    private EntityManager entityManager
+
+    @Autowired
+    private PlatformTransactionManager transactionManager
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate
+
+    @Autowired
+    private LockerRepository lockerRepository
+
+    @Autowired
+    private LockerPortImpl lockerPort
+
+    private TransactionTemplate transactionTemplate
+
+    def location
+    def studentList
+
+    def setup() {
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager)
+        //동시에 같은 행을 갱신하는 트랜잭션이 잠금 대기 중 실패하지 않도록 대기 시간을 늘림
+        this.jdbcTemplate.execute("SET DEFAULT_LOCK_TIMEOUT 10000")
+
+        this.transactionTemplate.execute {
+            this.location = LockerLocation.of("location")
+            this.entityManager.persist(this.location)
+
+            this.studentList = (0..<NUM_STUDENT).collect { index ->
+                def student = User.of("student" + index + "@cau.ac.kr", "student" + index, "test1234!", null, 2024, Role.COMMON, null, UserState.ACTIVE)
+                this.entityManager.persist(student)
+                return student
+            }
+        }
+    }
+
+    def cleanup() {
+        this.transactionTemplate.execute {
+            this.entityManager.createQuery("DELETE FROM Locker").executeUpdate()
+            this.entityManager.createQuery("DELETE FROM User").executeUpdate()
+            this.entityManager.createQuery("DELETE FROM LockerLocation").executeUpdate()
+        }
+    }
+
+    def persistLocker(Long lockerNumber, Boolean isActive, User user) {
+        return this.transactionTemplate.execute {
+            def locker = Locker.of(lockerNumber, isActive, user, this.location)
+            this.entityManager.persist(locker)
+            return locker.getId()
+        }
+    }
+
+    def registerRequest(String lockerId, User student) {
+        return LockerDomainModel.of(
+                lockerId,
+                1L,
+                true,
+                EXPIRE_DATE,
+                null,
+                UserDomainModel.of(
+                        student.getId(),
+                        student.getEmail(),
+                        student.getName(),
+                        student.getPassword(),
+                        student.getStudentId(),
+                        student.getAdmissionYear(),
+                        student.getRole(),
+                        null,
+                        null,
+                        student.getState()
+                ),
+                LockerLocationDomainModel.of(this.location.getId(), this.location.getName())
+        )
+    }
+
+    /**
+     * Test case for students applying for the same locker at the same time
+     * Exactly one conditional update should change the row, the others should see it already taken
+     */
+    def "Locker register concurrent case"() {
+        given:
+        def lockerId = this.persistLocker(1L, true, null)
+        def executorService = Executors.newFixedThreadPool(NUM_STUDENT)
+        def startLatch = new CountDownLatch(1)
+        def futureList = this.studentList.collect { student ->
+            executorService.submit({
+                startLatch.await()
+                return this.transactionTemplate.execute {
+                    this.lockerRepository.registerIfNoLocker(lockerId, ((User) student).getId(), EXPIRE_DATE, LocalDateTime.now())
+                }
+            } as Callable<Integer>)
+        }
+
+        when:
+        startLatch.countDown()
+        def numUpdatedList = futureList.collect { it.get(30, TimeUnit.SECONDS) }
+        executorService.shutdown()
+
+        then:
+        numUpdatedList.count { it == 1 } == 1
+        numUpdatedList.count { it == 0 } == NUM_STUDENT - 1
+        this.transactionTemplate.execute { this.lockerRepository.findById(lockerId).get().getUser() } != null
+    }
+
+    /**
+     * Test case for applying for a locker another student already uses
+     */
+    def "Locker register occupied case"() {
+        given:
+        def lockerId = this.persistLocker(1L, true, this.studentList[0])
+
+        when:
+        def result = this.transactionTemplate.execute {
+            this.lockerPort.register(this.registerRequest(lockerId, this.studentList[1]))
+        }
+
+        then:
+        result.isEmpty()
+    }
+
+    /**
+     * Test case for applying for a disabled locker
+     */
+    def "Locker register inactive case"() {
+        given:
+        def lockerId = this.persistLocker(1L, false, null)
+
+        when:
+        def result = this.transactionTemplate.execute {
+            this.lockerPort.register(this.registerRequest(lockerId, this.studentList[0]))
+        }
+
+        then:
+        result.isEmpty()
+    }
+
+    /**
+     * Test case for a student who already uses a locker applying for another one
+     * The second locker should not be assigned
+     */
+    def "Locker register second locker case"() {
+        given:
+        this.persistLocker(1L, false, this.studentList[0])
+        def lockerId = this.persistLocker(2L, true, null)
+
+        when:
+        def result = this.transactionTemplate.execute {
+            this.lockerPort.register(this.registerRequest(lockerId, this.studentList[0]))
+        }
+
+        then:
+        result.isEmpty()
+        this.transactionTemplate.execute { this.lockerRepository.findById(lockerId).get().getUser() } == null
+    }
+
+    /**
+     * Test case for an admin who already uses a locker applying for another one
+     * Admins may use several lockers, so the second locker should be assigned
+     */
+    def "Locker register admin second locker case"() {
+        given:
+        def admin = this.transactionTemplate.execute {
+            def admin = User.of("admin@cau.ac.kr", "admin", "test1234!", null, 2024, Role.ADMIN, null, UserState.ACTIVE)
+            this.entityManager.persist(admin)
+            return admin
+        }
+        this.persistLocker(1L, false, admin)
+        def lockerId = this.persistLocker(2L, true, null)
+
+        when:
+        def result = this.transactionTemplate.execute {
+            this.lockerPort.register(this.registerRequest(lockerId, admin))
+        }
+
+        then:
+        result.isPresent()
+    }
+}
@@ -0,0 +1,123 @@
+package net.causw.application
+
+import net.causw.application.dto.locker.LockerUpdateRequestDto
+import net.causw.application.locker.LockerActionFactory
+import net.causw.application.locker.LockerChangedEvent
+import net.causw.application.locker.LockerEventStream
+import net.causw.application.locker.LockerLocationSummaryCache
+import net.causw.application.locker.LockerService
+import net.causw.application.spi.*
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.locker.LockerDomainModel
+import net.causw.domain.model.locker.LockerLocationDomainModel
+import net.causw.domain.model.user.UserDomainModel
+import net.causw.domain.model.util.StaticValue
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import spock.lang.Specification
+
+import javax.validation.Validation
+import java.time.LocalDateTime
+
+/**
+ * 사물함 신청 시 신청한 사물함과 자동 반납된 기존 사물함의 변경 이벤트가 기존 사물함을 다시 조회하지 않고 발행되는지 확인합니다.
+ */
+@ActiveProfiles(value = "test")
+class LockerRegisterEventTest extends Specification {
+    private LockerPort lockerPort = Mock(LockerPort.class)
+    private LockerLogPort lockerLogPort = Mock(LockerLogPort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private FlagPort flagPort = Mock(FlagPort.class)
+    private TextFieldPort textFieldPort = Mock(TextFieldPort.class)
+    private ApplicationEventPublisher applicationEventPublisher = Mock(ApplicationEventPublisher.class)
+    private LockerService lockerService = new LockerService(
+            this.lockerPort,
+            Mock(LockerLocationPort.class),
+            this.lockerLogPort,
+            this.userPort,
+            this.flagPort,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new LockerActionFactory(this.applicationEventPublisher),
+            this.textFieldPort,
+            Mock(LockerLocationSummaryCache.class),
+            Mock(LockerEventStream.class),
+            this.applicationEventPublisher,
+            Mock(PlatformTransactionManager.class)
+    )
+
+    def lockerLocation = LockerLocationDomainModel.of("test location id", "test location")
+
+    def setup() {
+        this.flagPort.findByKey(StaticValue.LOCKER_ACCESS) >> Optional.of(true)
+        this.textFieldPort.findDateTimeByKey(StaticValue.EXPIRED_AT) >> Optional.of(LocalDateTime.of(2099, 12, 31, 23, 59))
+        this.lockerPort.findById("test locker id") >> Optional.of(this.mockLocker("test locker id", null))
+        this.lockerPort.register(_ as LockerDomainModel) >> { LockerDomainModel locker -> Optional.of(locker) }
+    }
+
+    def mockUser(Role role) {
+        def user = UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                role,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+        this.userPort.findById("test") >> Optional.of(user)
+        return user
+    }
+
+    def mockLocker(String id, UserDomainModel user) {
+        return LockerDomainModel.of(
+                id,
+                1L,
+                true,
+                user == null ? null : LocalDateTime.of(2099, 12, 31, 23, 59),
+                LocalDateTime.now(),
+                user,
+                (LockerLocationDomainModel) this.lockerLocation
+        )
+    }
+
+    /**
+     * Test case for a register of a user who already has a locker
+     * The previous locker should be read once, and both lockers should be published
+     */
+    def "Locker register previous locker event case"() {
+        given:
+        def user = this.mockUser(Role.COMMON)
+
+        when:
+        this.lockerService.update("test", "test locker id", new LockerUpdateRequestDto("REGISTER", null))
+
+        then:
+        1 * this.lockerPort.findByUserId("test") >> Optional.of(this.mockLocker("previous locker id", (UserDomainModel) user))
+        1 * this.lockerPort.update("previous locker id", _) >> { String id, LockerDomainModel locker -> Optional.of(locker) }
+        1 * this.applicationEventPublisher.publishEvent({ it instanceof LockerChangedEvent && it.getLockerId() == Optional.of("test locker id") })
+        1 * this.applicationEventPublisher.publishEvent({ it instanceof LockerChangedEvent && it.getLockerId() == Optional.of("previous locker id") })
+        0 * this.applicationEventPublisher.publishEvent(_)
+    }
+
+    /**
+     * Test case for a register of an admin
+     * The previous locker of an admin is not returned, so it should be neither read nor published
+     */
+    def "Locker register admin event case"() {
+        given:
+        this.mockUser(Role.ADMIN)
+
+        when:
+        this.lockerService.update("test", "test locker id", new LockerUpdateRequestDto("REGISTER", null))
+
+        then:
+        0 * this.lockerPort.findByUserId(_)
+        1 * this.applicationEventPublisher.publishEvent({ it instanceof LockerChangedEvent && it.getLockerId() == Optional.of("test locker id") })
+        0 * this.applicationEventPublisher.publishEvent(_)
+    }
+}
@@ -0,0 +1,223 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.locker.Locker
+import net.causw.adapter.persistence.locker.LockerLocation
+import net.causw.adapter.persistence.port.locker.LockerPortImpl
+import net.causw.adapter.persistence.user.User
+import net.causw.application.locker.LockerActionRegister
+import net.causw.application.spi.FlagPort
+import net.causw.application.spi.LockerLogPort
+import net.causw.application.spi.TextFieldPort
+import net.causw.domain.exceptions.BadRequestException
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.user.UserDomainModel
+import net.causw.domain.model.util.StaticValue
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.context.annotation.Import
+import org.springframework.dao.ConcurrencyFailureException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+
+import javax.persistence.EntityManager
+import javax.persistence.PersistenceContext
+import java.time.LocalDateTime
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 여러 학생이 정해진 시간 동안 여러 사물함을 계속 신청(기존 사물함 자동 반납 포함)하는 부하를 실제 DB 에 주고,
+ * 한 사물함이 두 명에게 배정되거나 한 학생이 두 사물함을 배정받지 않는지 확인한 뒤 초당 신청 완료 수를 기록합니다.
+ * 테스트 DB(H2)는 UPDATE 의 서브쿼리를 잠그지 않으므로, 같은 학생의 신청은 한 스레드에서만 보냅니다.
+ */
+@ActiveProfiles(value = "test")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import([LockerPortImpl])
+class LockerRegisterLoadTest extends Specification {
+    private static final Logger log = LoggerFactory.getLogger(LockerRegisterLoadTest.class)
+
+    private static final int NUM_LOCKER = 50
+    private static final int NUM_STUDENT = 200
+    private static final int NUM_THREAD = 16
+    private static final long LOAD_DURATION = 1000L * 5
+    private static final LocalDateTime EXPIRE_DATE = LocalDateTime.of(2099, 12, 31, 23, 59)
+
+    @PersistenceContext
+    private EntityManager entityManager
+
+    @Autowired
+    private PlatformTransactionManager transactionManager
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate
+
+    @Autowired
+    private LockerPortImpl lockerPort
+
+    private FlagPort flagPort = Stub(FlagPort.class)
+    private TextFieldPort textFieldPort = Stub(TextFieldPort.class)
+    private LockerLogPort lockerLogPort = Stub(LockerLogPort.class)
+    private LockerActionRegister lockerActionRegister = new LockerActionRegister(Stub(ApplicationEventPublisher.class))
+
+    private TransactionTemplate transactionTemplate
+
+    def lockerIdList
+    def studentList
+
+    def setup() {
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager)
+        //반납과 신청이 서로의 사물함을 기다리는 경우 오래 멈추지 않도록 짧게 대기하고 실패한 신청은 충돌로 집계
+        this.jdbcTemplate.execute("SET DEFAULT_LOCK_TIMEOUT 1000")
+
+        this.flagPort.findByKey(StaticValue.LOCKER_ACCESS) >> Optional.of(true)
+        this.textFieldPort.findDateTimeByKey(StaticValue.EXPIRED_AT) >> Optional.of(EXPIRE_DATE)
+
+        this.transactionTemplate.execute {
+            def location = LockerLocation.of("location")
+            this.entityManager.persist(location)
+
+            this.lockerIdList = (0..<NUM_LOCKER).collect { index ->
+                def locker = Locker.of((Long) index, true, null, location)
+                this.entityManager.persist(locker)
+                return locker.getId()
+            }
+
+            this.studentList = (0..<NUM_STUDENT).collect { index ->
+                def student = User.of("student" + index + "@cau.ac.kr", "student" + index, "test1234!", null, 2024, Role.COMMON, null, UserState.ACTIVE)
+                this.entityManager.persist(student)
+                return UserDomainModel.of(
+                        student.getId(),
+                        student.getEmail(),
+                        student.getName(),
+                        student.getPassword(),
+                        student.getStudentId(),
+                        student.getAdmissionYear(),
+                        student.getRole(),
+                        null,
+                        null,
+                        student.getState()
+                )
+            }
+        }
+    }
+
+    def cleanup() {
+        this.transactionTemplate.execute {
+            this.entityManager.createQuery("DELETE FROM Locker").executeUpdate()
+            this.entityManager.createQuery("DELETE FROM User").executeUpdate()
+            this.entityManager.createQuery("DELETE FROM LockerLocation").executeUpdate()
+        }
+    }
+
+    // LockerService.update(REGISTER) 와 같이 사물함을 읽고 신청, 커밋된 경우 자동 반납된 사물함 id 와 함께 반환
+    def register(UserDomainModel student, String lockerId) {
+        return this.transactionTemplate.execute {
+            def previousLockerId = this.lockerPort.findByUserId(student.getId()).map { it.getId() }.orElse(null)
+            def locker = this.lockerPort.findById(lockerId).get()
+
+            this.lockerActionRegister.updateLockerDomainModel(
+                    locker,
+                    student,
+                    this.lockerPort,
+                    this.lockerLogPort,
+                    this.flagPort,
+                    this.textFieldPort
+            )
+            return previousLockerId
+        }
+    }
+
+    /**
+     * Test case for students registering lockers for a fixed time
+     * No locker should be assigned twice, no student should hold two lockers,
+     * and every committed registration should be reflected in the final assignment
+     */
+    def "Locker register load case"() {
+        given:
+        def executorService = Executors.newFixedThreadPool(NUM_THREAD)
+        def startLatch = new CountDownLatch(1)
+        def numRegistered = new AtomicInteger()
+        def numRejected = new AtomicInteger()
+        def numConflicted = new AtomicInteger()
+        def unexpectedErrorQueue = new ConcurrentLinkedQueue<Throwable>()
+        // locker id -> 커밋된 신청 수 - 커밋된 자동 반납 수, 마지막으로 배정받은 학생
+        def balanceMap = new ConcurrentHashMap<String, AtomicInteger>()
+        def ownerMap = new ConcurrentHashMap<String, String>()
+
+        (0..<NUM_THREAD).each { threadIndex ->
+            //같은 학생의 신청이 동시에 실행되지 않도록 학생을 스레드별로 나눔
+            def threadStudentList = this.studentList.findAll { this.studentList.indexOf(it) % NUM_THREAD == threadIndex }
+            executorService.submit {
+                startLatch.await()
+                long deadline = System.currentTimeMillis() + LOAD_DURATION
+                while (System.currentTimeMillis() < deadline) {
+                    def random = ThreadLocalRandom.current()
+                    def student = (UserDomainModel) threadStudentList[random.nextInt(threadStudentList.size())]
+                    def lockerId = (String) this.lockerIdList[random.nextInt(NUM_LOCKER)]
+                    try {
+                        def previousLockerId = this.register(student, lockerId)
+                        if (previousLockerId != null) {
+                            balanceMap.computeIfAbsent(previousLockerId, { new AtomicInteger() }).decrementAndGet()
+                        }
+                        balanceMap.computeIfAbsent(lockerId, { new AtomicInteger() }).incrementAndGet()
+                        ownerMap.put(lockerId, student.getId())
+                        numRegistered.incrementAndGet()
+                    } catch (BadRequestException e) {
+                        numRejected.incrementAndGet()
+                    } catch (ConcurrencyFailureException e) {
+                        numConflicted.incrementAndGet()
+                    } catch (Throwable e) {
+                        unexpectedErrorQueue.add(e)
+                    }
+                }
+            }
+        }
+
+        when:
+        long startedAt = System.currentTimeMillis()
+        startLatch.countDown()
+        executorService.shutdown()
+        executorService.awaitTermination(LOAD_DURATION + 1000L * 30, TimeUnit.MILLISECONDS)
+        double elapsedSeconds = (System.currentTimeMillis() - startedAt) / 1000d
+
+        log.info(String.format(
+                "Locker register load: %d registered, %d rejected, %d lock conflicts in %.1f s (%.0f registrations/s)",
+                numRegistered.get(),
+                numRejected.get(),
+                numConflicted.get(),
+                elapsedSeconds,
+                numRegistered.get() / elapsedSeconds
+        ))
+
+        def assignmentList = this.jdbcTemplate.queryForList("SELECT id, user_id FROM tb_locker WHERE user_id IS NOT NULL")
+
+        then:
+        unexpectedErrorQueue.isEmpty()
+        numRegistered.get() > 0
+
+        this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT user_id FROM tb_locker WHERE user_id IS NOT NULL GROUP BY user_id HAVING COUNT(*) > 1) AS duplicated",
+                Long.class
+        ) == 0L
+        balanceMap.every { lockerId, balance -> balance.get() == 0 || balance.get() == 1 }
+        assignmentList.size() == balanceMap.count { lockerId, balance -> balance.get() == 1 }
+        assignmentList.every { assignment ->
+            balanceMap.get(assignment.get("id"))?.get() == 1 && ownerMap.get(assignment.get("id")) == assignment.get("user_id")
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package net.causw.application
+
+import net.causw.application.dto.locker.LockersResponseDto
+import net.causw.application.locker.LockerActionFactory
+import net.causw.application.locker.LockerEventStream
+import net.causw.application.locker.LockerLocationSummaryCache
+import net.causw.application.locker.LockerService
+import net.causw.application.spi.*
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.locker.LockerDomainModel
+import net.causw.domain.model.locker.LockerLocationDomainModel
+import net.causw.domain.model.user.UserDomainModel
+import net.causw.domain.model.util.RedisUtils
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.SimpleTransactionStatus
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter
+import spock.lang.Specification
+
+import javax.validation.Validation
+import java.nio.charset.StandardCharsets
+import java.time.LocalDateTime
+
+/**
+ * 사물함 위치 구독 시 snapshot 을 구독자 등록 이후의 새 트랜잭션에서 읽어, 등록 전에 커밋된 변경을 놓치지 않는지 확인합니다.
+ */
+@ActiveProfiles(value = "test")
+class LockerSubscribeTest extends Specification {
+    private LockerPort lockerPort = Mock(LockerPort.class)
+    private LockerLocationPort lockerLocationPort = Mock(LockerLocationPort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private PlatformTransactionManager transactionManager = Mock(PlatformTransactionManager.class)
+    private LockerEventStream lockerEventStream = new LockerEventStream(this.lockerPort, Mock(RedisUtils.class))
+    private LockerService lockerService = new LockerService(
+            this.lockerPort,
+            this.lockerLocationPort,
+            Mock(LockerLogPort.class),
+            this.userPort,
+            Mock(FlagPort.class),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new LockerActionFactory(Mock(ApplicationEventPublisher.class)),
+            Mock(TextFieldPort.class),
+            Mock(LockerLocationSummaryCache.class),
+            this.lockerEventStream,
+            Mock(ApplicationEventPublisher.class),
+            this.transactionManager
+    )
+
+    def lockerLocation = LockerLocationDomainModel.of("test location id", "test location")
+    def user = UserDomainModel.of(
+            "test",
+            "test@cau.ac.kr",
+            "test",
+            "test1234!",
+            "20210000",
+            2021,
+            Role.COMMON,
+            null,
+            null,
+            UserState.ACTIVE
+    )
+
+    def mockLocker(UserDomainModel user) {
+        return LockerDomainModel.of(
+                "test locker id",
+                1L,
+                true,
+                user == null ? null : LocalDateTime.of(2099, 12, 31, 23, 59),
+                LocalDateTime.now(),
+                user,
+                (LockerLocationDomainModel) this.lockerLocation
+        )
+    }
+
+    // 연결 전에 보낸 snapshot
+    def sentSnapshot(ResponseBodyEmitter sseEmitter) {
+        def earlySendAttempts = ResponseBodyEmitter.class.getDeclaredField("earlySendAttempts")
+        earlySendAttempts.setAccessible(true)
+
+        return earlySendAttempts.get(sseEmitter)*.data.find { it instanceof LockersResponseDto }
+    }
+
+    /**
+     * Test case for a locker change committed after the user and location are read, but before the subscriber is registered
+     * The change message arrives before the subscriber exists, so the snapshot should be read after the registration
+     * in a new read committed transaction, and should include the change
+     */
+    def "Locker subscribe change committed before registration case"() {
+        given:
+        def registeredUser = null
+        def inSnapshotTransaction = false
+        this.userPort.findById("test") >> Optional.of(this.user)
+        this.lockerLocationPort.findById("test location id") >> {
+            //위치를 확인한 직후 다른 요청이 사물함 신청을 커밋하고 변경 메시지를 발행
+            registeredUser = this.user
+            this.lockerEventStream.onMessage(new DefaultMessage(
+                    "locker-changed".getBytes(StandardCharsets.UTF_8),
+                    "test locker id".getBytes(StandardCharsets.UTF_8)
+            ), null)
+            return Optional.of(this.lockerLocation)
+        }
+
+        when:
+        def sseEmitter = this.lockerService.subscribeByLocation("test location id", "test")
+
+        then:
+        0 * this.lockerPort.findById(_)
+        1 * this.transactionManager.getTransaction({ TransactionDefinition definition ->
+            definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW &&
+                    definition.getIsolationLevel() == TransactionDefinition.ISOLATION_READ_COMMITTED &&
+                    definition.isReadOnly()
+        }) >> {
+            assert this.lockerEventStream.countSubscriber("test location id") == 1
+            inSnapshotTransaction = true
+            return new SimpleTransactionStatus()
+        }
+        1 * this.lockerPort.findByLocationId("test location id") >> {
+            assert inSnapshotTransaction
+            return [this.mockLocker((UserDomainModel) registeredUser)]
+        }
+        1 * this.transactionManager.commit(_)
+
+        def snapshot = this.sentSnapshot(sseEmitter)
+        snapshot.getLockerList().size() == 1
+        snapshot.getLockerList().get(0).getIsMine()
+    }
+}
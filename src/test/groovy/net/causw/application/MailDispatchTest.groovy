@@ -0,0 +1,190 @@
+package net.causw.application
+
+import net.causw.domain.exceptions.ServiceUnavailableException
+import net.causw.domain.model.util.StaticValue
+import net.causw.infrastructure.GoogleMailSender
+import net.causw.infrastructure.MailDispatcher
+import net.causw.infrastructure.MailTemplate
+import org.springframework.mail.javamail.JavaMailSenderImpl
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+
+import javax.mail.Session
+import javax.mail.internet.MimeMessage
+import java.nio.charset.StandardCharsets
+
+@ActiveProfiles(value = "test")
+class MailDispatchTest extends Specification {
+    private FakeSmtpServer fakeSmtpServer
+    private MailDispatcher mailDispatcher
+
+    def cleanup() {
+        this.mailDispatcher?.shutdown()
+        this.fakeSmtpServer?.close()
+    }
+
+    def createMailDispatcher(FakeSmtpServer fakeSmtpServer) {
+        def javaMailSender = new JavaMailSenderImpl()
+        javaMailSender.setHost("localhost")
+        javaMailSender.setPort(fakeSmtpServer.getPort())
+        javaMailSender.getJavaMailProperties().setProperty("mail.smtp.connectiontimeout", "1000")
+        javaMailSender.getJavaMailProperties().setProperty("mail.smtp.timeout", "1000")
+
+        return new MailDispatcher(javaMailSender)
+    }
+
+    def await(Closure<Boolean> condition) {
+        def deadline = System.currentTimeMillis() + 1000L * 10
+        while (!condition() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50)
+        }
+        return condition()
+    }
+
+    /**
+     * Test case for the new password mail
+     * The mail should be queued and sent by the worker with the rendered template
+     */
+    def "Mail dispatch new password normal case"() {
+        given:
+        this.fakeSmtpServer = new FakeSmtpServer()
+        this.mailDispatcher = this.createMailDispatcher(this.fakeSmtpServer)
+        this.mailDispatcher.start()
+
+        def googleMailSender = new GoogleMailSender(this.mailDispatcher)
+        googleMailSender.from = "causw@cau.ac.kr"
+
+        when:
+        googleMailSender.sendNewPasswordMail("test@cau.ac.kr", "<pw1234>")
+
+        then:
+        this.await { this.fakeSmtpServer.getMessageList().size() == 1 }
+        this.fakeSmtpServer.getRecipientList() == ["test@cau.ac.kr"]
+        def message = new MimeMessage(
+                Session.getInstance(new Properties()),
+                new ByteArrayInputStream(this.fakeSmtpServer.getMessageList()[0].getBytes(StandardCharsets.UTF_8))
+        )
+        message.getContent().toString().contains("[&lt;pw1234&gt;]")
+    }
+
+    /**
+     * Test case for mails queued at once
+     * The queued mails should share SMTP connections instead of opening one per mail
+     */
+    def "Mail dispatch batch case"() {
+        given:
+        this.fakeSmtpServer = new FakeSmtpServer()
+        this.mailDispatcher = this.createMailDispatcher(this.fakeSmtpServer)
+
+        when:
+        (0..<10).each { index ->
+            this.mailDispatcher.dispatch("causw@cau.ac.kr", "test" + index + "@cau.ac.kr", "title", "content")
+        }
+        this.mailDispatcher.start()
+
+        then:
+        this.await { this.fakeSmtpServer.getMessageList().size() == 10 }
+        this.fakeSmtpServer.getRecipientList().toSet() == (0..<10).collect { "test" + it + "@cau.ac.kr" }.toSet()
+        this.fakeSmtpServer.getNumConnection() <= StaticValue.MAIL_WORKER_COUNT
+    }
+
+    /**
+     * Test case for a temporary SMTP failure
+     * The mail should be sent again after the backoff
+     */
+    def "Mail dispatch retry case"() {
+        given:
+        this.fakeSmtpServer = new FakeSmtpServer(1)
+        this.mailDispatcher = this.createMailDispatcher(this.fakeSmtpServer)
+        this.mailDispatcher.start()
+
+        when:
+        this.mailDispatcher.dispatch("causw@cau.ac.kr", "test@cau.ac.kr", "title", "content")
+
+        then:
+        this.await { this.fakeSmtpServer.getMessageList().size() == 1 }
+        this.fakeSmtpServer.getNumConnection() == 2
+        this.fakeSmtpServer.getRecipientList() == ["test@cau.ac.kr"]
+    }
+
+    /**
+     * Test case for a full mail queue
+     * The request should be rejected instead of waiting for the queue
+     */
+    def "Mail dispatch queue full case"() {
+        given:
+        this.fakeSmtpServer = new FakeSmtpServer()
+        this.mailDispatcher = this.createMailDispatcher(this.fakeSmtpServer)
+        StaticValue.MAIL_QUEUE_CAPACITY.times {
+            this.mailDispatcher.dispatch("causw@cau.ac.kr", "test@cau.ac.kr", "title", "content")
+        }
+
+        when:
+        this.mailDispatcher.dispatch("causw@cau.ac.kr", "test@cau.ac.kr", "title", "content")
+
+        then:
+        thrown(ServiceUnavailableException)
+        this.mailDispatcher.size() == StaticValue.MAIL_QUEUE_CAPACITY
+    }
+
+    /**
+     * Test case for mails dispatched in transactions that are not committed yet
+     * The queue slots should be reserved before the commit, and given back when the transaction rolls back
+     */
+    def "Mail dispatch reserve before commit case"() {
+        given:
+        this.fakeSmtpServer = new FakeSmtpServer()
+        this.mailDispatcher = this.createMailDispatcher(this.fakeSmtpServer)
+        TransactionSynchronizationManager.initSynchronization()
+
+        when: "the queue is reserved by transactions not committed yet"
+        StaticValue.MAIL_QUEUE_CAPACITY.times {
+            this.mailDispatcher.dispatch("causw@cau.ac.kr", "test@cau.ac.kr", "title", "content")
+        }
+        this.mailDispatcher.dispatch("causw@cau.ac.kr", "test@cau.ac.kr", "title", "content")
+
+        then:
+        thrown(ServiceUnavailableException)
+        this.mailDispatcher.size() == 0
+
+        when: "one transaction rolls back and the others commit"
+        def synchronizationList = TransactionSynchronizationManager.getSynchronizations()
+        TransactionSynchronizationManager.clearSynchronization()
+        synchronizationList.first().afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK)
+        synchronizationList.tail().each { it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED) }
+
+        then:
+        this.mailDispatcher.size() == StaticValue.MAIL_QUEUE_CAPACITY - 1
+
+        when: "the slot of the rolled back mail is used again"
+        this.mailDispatcher.dispatch("causw@cau.ac.kr", "test@cau.ac.kr", "title", "content")
+
+        then:
+        this.mailDispatcher.size() == StaticValue.MAIL_QUEUE_CAPACITY
+
+        cleanup:
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    /**
+     * Test case for the mail template
+     * Variables should be escaped, and a missing variable should not be rendered silently
+     */
+    def "Mail template render case"() {
+        given:
+        def mailTemplate = MailTemplate.compile("<p>{{ name }}</p><p>{{password}}</p>")
+
+        expect:
+        mailTemplate.render(Map.of("name", "홍길동", "password", "a&b")) == "<p>홍길동</p><p>a&amp;b</p>"
+
+        when:
+        mailTemplate.render(Map.of("name", "홍길동"))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
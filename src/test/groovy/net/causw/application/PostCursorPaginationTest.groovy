@@ -0,0 +1,143 @@
+package net.causw.application
+
+import net.causw.application.dto.post.PostsResponseDto
+import net.causw.application.post.PostCursor
+import net.causw.application.post.PostService
+import net.causw.application.spi.*
+import net.causw.domain.exceptions.BadRequestException
+import net.causw.domain.model.board.BoardDomainModel
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.user.UserDomainModel
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import javax.validation.Validation
+import javax.validation.Validator
+import java.time.LocalDateTime
+
+@ActiveProfiles(value = "test")
+class PostCursorPaginationTest extends Specification {
+    private PostPort postPort = Mock(PostPort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private BoardPort boardPort = Mock(BoardPort.class)
+    private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
+    private CommentPort commentPort = Mock(CommentPort.class)
+    private FavoriteBoardPort favoriteBoardPort = Mock(FavoriteBoardPort.class)
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
+    private ApplicationEventPublisher applicationEventPublisher = Mock(ApplicationEventPublisher.class)
+    private PostService postService = new PostService(
+            this.postPort,
+            this.userPort,
+            this.boardPort,
+            this.circleMemberPort,
+            this.commentPort,
+            this.favoriteBoardPort,
+            this.validator,
+            this.applicationEventPublisher
+    )
+
+    def mockAdminDomainModel
+    def mockBoardDomainModel
+
+    def setup() {
+        this.mockAdminDomainModel = UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.ADMIN,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.mockBoardDomainModel = BoardDomainModel.of(
+                "test board id",
+                "test board name",
+                "test board description",
+                new ArrayList<String>(List.of("ADMIN", "PRESIDENT")),
+                "category",
+                false,
+                null
+        )
+    }
+
+    def mockPostList(int size) {
+        return (0..<size).collect { index ->
+            new PostsResponseDto(
+                    "post id " + index,
+                    "post title " + index,
+                    ((UserDomainModel) this.mockAdminDomainModel).getName(),
+                    ((UserDomainModel) this.mockAdminDomainModel).getAdmissionYear(),
+                    (Long) index,
+                    LocalDateTime.of(2024, 1, 26, 18, 40).minusMinutes(index),
+                    LocalDateTime.of(2024, 1, 26, 18, 40).minusMinutes(index),
+                    false
+            )
+        }
+    }
+
+    /**
+     * Test case for the first page of a cursor based post list
+     */
+    def "Post find all by cursor first page normal case"() {
+        given:
+        def postList = this.mockPostList(20)
+
+        this.userPort.findById("test") >> Optional.of(this.mockAdminDomainModel)
+        this.boardPort.findById("test board id") >> Optional.of(this.mockBoardDomainModel)
+        this.favoriteBoardPort.findByUserId("test") >> List.of()
+
+        when:
+        def boardPostsCursorResponseDto = this.postService.findAllPostByCursor("test", "test board id", null)
+
+        then:
+        1 * this.postPort.findAllPostByCursor("test board id", null, null) >> new SliceImpl<PostsResponseDto>(postList, PageRequest.of(0, 20), true)
+        0 * this.postPort.findAllPost(*_)
+        boardPostsCursorResponseDto.getPost().getContent().size() == 20
+        boardPostsCursorResponseDto.getNextCursor() == PostCursor.of(postList[19]).encode()
+    }
+
+    /**
+     * Test case for the next page of a cursor based post list
+     */
+    def "Post find all by cursor next page normal case"() {
+        given:
+        def postList = this.mockPostList(25)
+        def cursor = PostCursor.of(postList[19]).encode()
+
+        this.userPort.findById("test") >> Optional.of(this.mockAdminDomainModel)
+        this.boardPort.findById("test board id") >> Optional.of(this.mockBoardDomainModel)
+        this.favoriteBoardPort.findByUserId("test") >> List.of()
+
+        when:
+        def boardPostsCursorResponseDto = this.postService.findAllPostByCursor("test", "test board id", cursor)
+
+        then:
+        1 * this.postPort.findAllPostByCursor("test board id", postList[19].getCreatedAt(), "post id 19") >> new SliceImpl<PostsResponseDto>(postList.drop(20), PageRequest.of(0, 20), false)
+        boardPostsCursorResponseDto.getPost().getContent()*.getId() == postList.drop(20)*.id
+        boardPostsCursorResponseDto.getNextCursor() == null
+    }
+
+    /**
+     * Test case for a malformed cursor
+     */
+    def "Post find all by cursor invalid cursor case"() {
+        given:
+        this.userPort.findById("test") >> Optional.of(this.mockAdminDomainModel)
+        this.boardPort.findById("test board id") >> Optional.of(this.mockBoardDomainModel)
+
+        when:
+        this.postService.findAllPostByCursor("test", "test board id", "not a cursor")
+
+        then:
+        thrown(BadRequestException)
+        0 * this.postPort.findAllPostByCursor(*_)
+    }
+}
@@ -0,0 +1,114 @@
+package net.causw.application
+
+import net.causw.application.dto.post.PostsResponseDto
+import net.causw.application.post.PostService
+import net.causw.application.spi.*
+import net.causw.domain.model.board.BoardDomainModel
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.post.PostDomainModel
+import net.causw.domain.model.user.UserDomainModel
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.domain.PageImpl
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.validation.Validation
+import javax.validation.Validator
+import java.time.LocalDateTime
+
+@ActiveProfiles(value = "test")
+class PostListCommentCountTest extends Specification {
+    private PostPort postPort = Mock(PostPort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private BoardPort boardPort = Mock(BoardPort.class)
+    private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
+    private CommentPort commentPort = Mock(CommentPort.class)
+    private FavoriteBoardPort favoriteBoardPort = Mock(FavoriteBoardPort.class)
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
+    private ApplicationEventPublisher applicationEventPublisher = Mock(ApplicationEventPublisher.class)
+    private PostService postService = new PostService(
+            this.postPort,
+            this.userPort,
+            this.boardPort,
+            this.circleMemberPort,
+            this.commentPort,
+            this.favoriteBoardPort,
+            this.validator,
+            this.applicationEventPublisher
+    )
+
+    def mockAdminDomainModel
+    def mockBoardDomainModel
+
+    def setup() {
+        this.mockAdminDomainModel = UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.ADMIN,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.mockBoardDomainModel = BoardDomainModel.of(
+                "test board id",
+                "test board name",
+                "test board description",
+                new ArrayList<String>(List.of("ADMIN", "PRESIDENT")),
+                "category",
+                false,
+                null
+        )
+    }
+
+    def mockPostList(int size) {
+        return (0..<size).collect { index ->
+            PostDomainModel.of(
+                    "post id " + index,
+                    "post title " + index,
+                    "post content " + index,
+                    (UserDomainModel) this.mockAdminDomainModel,
+                    false,
+                    (BoardDomainModel) this.mockBoardDomainModel,
+                    LocalDateTime.now(),
+                    LocalDateTime.now(),
+                    List.of(),
+                    (Long) index
+            )
+        }
+    }
+
+    /**
+     * Test case for the comment counts of a post list page
+     * The comment counts should be read from the posts without any comment query
+     */
+    @Unroll
+    def "Post find all reads comment counts from posts for page size #pageSize"() {
+        given:
+        def postList = this.mockPostList(pageSize)
+
+        this.userPort.findById("test") >> Optional.of(this.mockAdminDomainModel)
+        this.boardPort.findById("test board id") >> Optional.of(this.mockBoardDomainModel)
+        this.favoriteBoardPort.findByUserId("test") >> List.of()
+        this.postPort.findAllPost("test board id", 0) >> new PageImpl<PostsResponseDto>(postList.collect {
+            PostsResponseDto.from(it, it.getNumComment())
+        })
+
+        when:
+        def boardPostsResponseDto = this.postService.findAllPost("test", "test board id", 0)
+
+        then:
+        0 * this.commentPort._
+        boardPostsResponseDto.getPost().getContent().size() == pageSize
+        boardPostsResponseDto.getPost().getContent()*.getNumComment() == (0..<pageSize).collect { (Long) it }
+
+        where:
+        pageSize << [1, 20, 100]
+    }
+}
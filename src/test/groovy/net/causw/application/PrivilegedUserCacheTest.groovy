@@ -0,0 +1,106 @@
+package net.causw.application
+
+import net.causw.application.spi.CirclePort
+import net.causw.application.spi.UserPort
+import net.causw.application.user.PrivilegedUserCache
+import net.causw.application.user.PrivilegedUserChangedEvent
+import net.causw.domain.exceptions.InternalServerException
+import net.causw.domain.model.circle.CircleDomainModel
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.user.UserDomainModel
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class PrivilegedUserCacheTest extends Specification {
+    private UserPort userPort = Mock(UserPort.class)
+    private CirclePort circlePort = Mock(CirclePort.class)
+    private PrivilegedUserCache privilegedUserCache = new PrivilegedUserCache(this.userPort, this.circlePort)
+
+    def mockUser(String id, Role role) {
+        return UserDomainModel.of(
+                id,
+                id + "@cau.ac.kr",
+                id,
+                "test1234!",
+                "20210000",
+                2021,
+                role,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+    }
+
+    def mockCircle(String id, UserDomainModel leader) {
+        return CircleDomainModel.of(
+                id,
+                id + " name",
+                null,
+                id + " description",
+                false,
+                leader
+        )
+    }
+
+    /**
+     * Test case for the privileged user directory
+     * Users of every privileged role and their circles should be read at once, and served from memory afterwards
+     */
+    def "Privileged user cache single query normal case"() {
+        given:
+        def president = this.mockUser("president", Role.PRESIDENT)
+        def council = this.mockUser("council", Role.COUNCIL_N_LEADER_CIRCLE)
+        def leader = this.mockUser("leader", Role.LEADER_2)
+        def alumni = this.mockUser("alumni", Role.LEADER_ALUMNI)
+
+        when:
+        this.privilegedUserCache.find()
+        def userPrivilegedResponseDto = this.privilegedUserCache.find()
+
+        then:
+        1 * this.userPort.findByRoles({ !it.contains(Role.ADMIN) && !it.contains(Role.COMMON) && it.contains(Role.LEADER_2_N_LEADER_CIRCLE) }) >> List.of(alumni, leader, council, president)
+        1 * this.circlePort.findByLeaderIds(["council"]) >> Map.of("council", List.of(this.mockCircle("circle", council)))
+        0 * this.userPort.findByRole(_)
+        0 * this.circlePort.findByLeaderId(_)
+        userPrivilegedResponseDto.getPresidentUser()*.getId() == ["president"]
+        userPrivilegedResponseDto.getCouncilUsers()*.getId() == ["council"]
+        userPrivilegedResponseDto.getLeaderGradeUsers()*.getId() == ["leader"]
+        userPrivilegedResponseDto.getLeaderCircleUsers()*.getId() == ["council"]
+        userPrivilegedResponseDto.getLeaderCircleUsers()[0].getCircleIdIfLeader() == ["circle"]
+        userPrivilegedResponseDto.getLeaderAlumni()*.getId() == ["alumni"]
+    }
+
+    /**
+     * Test case for reloading the directory after a role was changed
+     */
+    def "Privileged user cache role changed case"() {
+        given:
+        this.userPort.findByRoles(_) >> List.of(this.mockUser("president", Role.PRESIDENT))
+        this.privilegedUserCache.find()
+
+        when:
+        this.privilegedUserCache.onPrivilegedUserChanged(PrivilegedUserChangedEvent.of())
+        def userPrivilegedResponseDto = this.privilegedUserCache.find()
+
+        then:
+        1 * this.userPort.findByRoles(_) >> List.of(this.mockUser("new president", Role.PRESIDENT))
+        userPrivilegedResponseDto.getPresidentUser()*.getId() == ["new president"]
+    }
+
+    /**
+     * Test case for a circle leader without any circle
+     */
+    def "Privileged user cache leader without circle case"() {
+        given:
+        this.userPort.findByRoles(_) >> List.of(this.mockUser("leader", Role.LEADER_CIRCLE))
+        this.circlePort.findByLeaderIds(["leader"]) >> Map.of()
+
+        when:
+        this.privilegedUserCache.find()
+
+        then:
+        thrown(InternalServerException)
+    }
+}
@@ -0,0 +1,75 @@
+package net.causw.application
+
+import net.causw.adapter.persistence.port.cache.RequestLookupCache
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.ServletRequestAttributes
+import spock.lang.Specification
+
+import java.util.function.Supplier
+
+@ActiveProfiles(value = "test")
+class RequestLookupCacheTest extends Specification {
+    private RequestLookupCache requestLookupCache = new RequestLookupCache()
+    private Supplier<Optional<String>> loader = Mock(Supplier.class)
+
+    def cleanup() {
+        RequestContextHolder.resetRequestAttributes()
+    }
+
+    def startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()))
+    }
+
+    /**
+     * Test case for loading the same key once per request
+     */
+    def "Request lookup cache same request normal case"() {
+        given:
+        this.startRequest()
+
+        when:
+        def first = this.requestLookupCache.get(RequestLookupCache.USER, "test", this.loader)
+        def second = this.requestLookupCache.get(RequestLookupCache.USER, "test", this.loader)
+
+        then:
+        1 * this.loader.get() >> Optional.of("test user")
+        first == Optional.of("test user")
+        second == Optional.of("test user")
+        this.requestLookupCache.getHitCount(RequestLookupCache.USER) == 1
+        this.requestLookupCache.getMissCount(RequestLookupCache.USER) == 1
+        this.requestLookupCache.getHitRate(RequestLookupCache.USER) == 0.5d
+    }
+
+    /**
+     * Test case for not sharing values between requests and after eviction
+     */
+    def "Request lookup cache new request and evict case"() {
+        given:
+        this.startRequest()
+        this.requestLookupCache.get(RequestLookupCache.USER, "test", this.loader)
+
+        when:
+        this.requestLookupCache.evict(RequestLookupCache.USER)
+        this.requestLookupCache.get(RequestLookupCache.USER, "test", this.loader)
+        this.startRequest()
+        this.requestLookupCache.get(RequestLookupCache.USER, "test", this.loader)
+
+        then:
+        2 * this.loader.get() >> Optional.of("test user")
+    }
+
+    /**
+     * Test case for lookups outside of a request such as scheduled jobs
+     */
+    def "Request lookup cache without request case"() {
+        when:
+        this.requestLookupCache.get(RequestLookupCache.USER, "test", this.loader)
+        this.requestLookupCache.get(RequestLookupCache.USER, "test", this.loader)
+
+        then:
+        2 * this.loader.get() >> Optional.empty()
+        this.requestLookupCache.getMissCount(RequestLookupCache.USER) == 0
+    }
+}
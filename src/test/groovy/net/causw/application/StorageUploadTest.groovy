@@ -0,0 +1,121 @@
+package net.causw.application
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider
+import com.amazonaws.auth.BasicAWSCredentials
+import com.amazonaws.client.builder.AwsClientBuilder
+import com.amazonaws.services.s3.AmazonS3Client
+import com.amazonaws.services.s3.AmazonS3ClientBuilder
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder
+import groovy.transform.CompileStatic
+import net.causw.application.storage.StorageService
+import net.causw.domain.model.util.StaticValue
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.web.multipart.MultipartFile
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+class StorageUploadTest extends Specification {
+    private FakeS3Server fakeS3Server = new FakeS3Server()
+    private StorageService storageService
+
+    def setup() {
+        def amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(this.fakeS3Server.getEndpoint(), "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .build()
+        def transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(StaticValue.S3_MULTIPART_UPLOAD_THRESHOLD)
+                .withMinimumUploadPartSize(StaticValue.S3_MULTIPART_PART_SIZE)
+                .build()
+
+        this.storageService = new StorageService(amazonS3Client, transferManager)
+        this.storageService.bucketName = "causw"
+    }
+
+    def cleanup() {
+        this.fakeS3Server.close()
+    }
+
+    // 내용을 미리 만들어 두지 않고 읽을 때 생성하는 파일
+    def mockFile(String name, long size) {
+        def multipartFile = Stub(MultipartFile)
+        multipartFile.getOriginalFilename() >> name
+        multipartFile.getContentType() >> "image/png"
+        multipartFile.getSize() >> size
+        multipartFile.getInputStream() >> new GeneratedInputStream(size)
+        return multipartFile
+    }
+
+    def expectedContent(long size) {
+        return new GeneratedInputStream(size).getBytes()
+    }
+
+    /**
+     * Test case for a file smaller than the multipart threshold
+     * The file should be sent in one request with its content length
+     */
+    def "Storage upload single request case"() {
+        given:
+        long size = 1024 * 1024
+
+        when:
+        def url = this.storageService.uploadFile(this.mockFile("image.png", size), "POST")
+
+        then:
+        url.startsWith(this.fakeS3Server.getEndpoint() + "/causw/POST/image_")
+        this.fakeS3Server.getPutContentLengthList() == [size]
+        this.fakeS3Server.getPartSizeList().isEmpty()
+        Arrays.equals(this.fakeS3Server.getObjectMap().values().first(), this.expectedContent(size))
+    }
+
+    /**
+     * Test case for a file larger than the multipart threshold
+     * The file should be streamed in parts of the configured size
+     */
+    def "Storage upload multipart case"() {
+        given:
+        long size = StaticValue.S3_MULTIPART_UPLOAD_THRESHOLD + 2 * 1024 * 1024
+        long partSize = StaticValue.S3_MULTIPART_PART_SIZE
+
+        when:
+        this.storageService.uploadFile(this.mockFile("attachment.png", size), "POST")
+
+        then:
+        this.fakeS3Server.getPutContentLengthList().isEmpty()
+        this.fakeS3Server.getPartSizeList() == [partSize, partSize, size - 2 * partSize]
+        Arrays.equals(this.fakeS3Server.getObjectMap().values().first(), this.expectedContent(size))
+    }
+
+    @CompileStatic
+    private static class GeneratedInputStream extends InputStream {
+        private final long size
+        private long position
+
+        GeneratedInputStream(long size) {
+            this.size = size
+        }
+
+        @Override
+        int read() {
+            if (this.position >= this.size) {
+                return -1
+            }
+            return (int) (this.position++ % 251)
+        }
+
+        @Override
+        int read(byte[] buffer, int offset, int length) {
+            if (this.position >= this.size) {
+                return -1
+            }
+
+            int numRead = (int) Math.min(length, this.size - this.position)
+            for (int index = 0; index < numRead; index++) {
+                buffer[offset + index] = (byte) (this.position++ % 251)
+            }
+            return numRead
+        }
+    }
+}
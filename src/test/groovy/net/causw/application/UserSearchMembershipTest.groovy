@@ -0,0 +1,129 @@
+package net.causw.application
+
+import net.causw.application.dto.user.UserResponseDto
+import net.causw.application.spi.*
+import net.causw.application.storage.StorageService
+import net.causw.application.user.PrivilegedUserCache
+import net.causw.application.user.UserService
+import net.causw.config.security.JwtTokenProvider
+import net.causw.domain.model.circle.CircleDomainModel
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.user.UserDomainModel
+import net.causw.infrastructure.GoogleMailSender
+import net.causw.infrastructure.PasswordGenerator
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.domain.PageImpl
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import javax.validation.Validation
+import javax.validation.Validator
+
+@ActiveProfiles(value = "test")
+class UserSearchMembershipTest extends Specification {
+    private UserPort userPort = Mock(UserPort.class)
+    private CirclePort circlePort = Mock(CirclePort.class)
+    private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
+    private UserService userService = new UserService(
+            this.userPort,
+            Mock(BoardPort.class),
+            Mock(PostPort.class),
+            Mock(UserAdmissionPort.class),
+            Mock(UserAdmissionLogPort.class),
+            this.circlePort,
+            this.circleMemberPort,
+            Mock(CommentPort.class),
+            Mock(FavoriteBoardPort.class),
+            Mock(LockerPort.class),
+            Mock(LockerLogPort.class),
+            Mock(JwtTokenProvider.class),
+            Mock(StorageService.class),
+            Mock(GoogleMailSender.class),
+            Mock(PasswordGenerator.class),
+            Mock(PasswordEncoder.class),
+            this.validator,
+            Mock(PrivilegedUserCache.class),
+            Mock(ApplicationEventPublisher.class)
+    )
+
+    def mockLeaderDomainModel
+    def mockCircleList
+
+    def setup() {
+        this.mockLeaderDomainModel = this.mockUser("leader", Role.LEADER_CIRCLE)
+        this.mockCircleList = (0..<3).collect { index ->
+            CircleDomainModel.of(
+                    "circle id " + index,
+                    "circle name " + index,
+                    null,
+                    "circle description " + index,
+                    false,
+                    (UserDomainModel) this.mockLeaderDomainModel
+            )
+        }
+    }
+
+    def mockUser(String id, Role role) {
+        return UserDomainModel.of(
+                id,
+                id + "@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                role,
+                null,
+                null,
+                UserState.ACTIVE
+        )
+    }
+
+    /**
+     * Test case for the user search of a circle leader
+     * The memberships of all found users in all circles of the leader should be read at once
+     */
+    def "User find by name leader membership normal case"() {
+        given:
+        def userList = (0..<30).collect { index -> this.mockUser("user " + index, Role.COMMON) }
+
+        this.userPort.findById("leader") >> Optional.of(this.mockLeaderDomainModel)
+        this.circlePort.findByLeaderId("leader") >> this.mockCircleList
+        this.userPort.findByName("test") >> userList
+
+        when:
+        def userResponseDtoList = this.userService.findByName("leader", "test")
+
+        then:
+        1 * this.circleMemberPort.findMemberCircleIds(userList*.getId(), this.mockCircleList*.getId()) >> userList.collectEntries {
+            [(it.getId()): userList.indexOf(it) % 2 == 0 ? Set.of("circle id 0") : Set.of()]
+        }
+        0 * this.circleMemberPort.findByUserIdAndCircleId(_, _)
+        userResponseDtoList*.getId() == userList.findAll { userList.indexOf(it) % 2 == 0 }*.getId()
+    }
+
+    /**
+     * Test case for the admin user list with circle leaders
+     * The circles of all leaders in the page should be read at once
+     */
+    def "User find by state leader circles normal case"() {
+        given:
+        def admin = this.mockUser("admin", Role.ADMIN)
+        def leaderList = (0..<30).collect { index -> this.mockUser("leader " + index, Role.LEADER_CIRCLE) }
+
+        this.userPort.findById("admin") >> Optional.of(admin)
+        this.userPort.findByStateAndName("ACTIVE", null, 0) >> new PageImpl<UserResponseDto>(leaderList.collect { UserResponseDto.from(it) })
+
+        when:
+        def userResponseDtoPage = this.userService.findByState("admin", "ACTIVE", null, 0)
+
+        then:
+        1 * this.circlePort.findByLeaderIds(leaderList*.getId()) >> leaderList.collectEntries {
+            [(it.getId()): List.of(this.mockCircleList[0])]
+        }
+        0 * this.circlePort.findByLeaderId(_)
+        userResponseDtoPage.getContent()*.getCircleIdIfLeader() == leaderList.collect { ["circle id 0"] }
+    }
+}
@@ -0,0 +1,94 @@
+package net.causw.application
+
+import net.causw.application.dto.user.UserUpdateRequestDto
+import net.causw.application.spi.*
+import net.causw.application.storage.StorageService
+import net.causw.application.user.PrivilegedUserCache
+import net.causw.application.user.PrivilegedUserChangedEvent
+import net.causw.application.user.UserService
+import net.causw.config.security.JwtTokenProvider
+import net.causw.domain.exceptions.BadRequestException
+import net.causw.domain.model.enums.Role
+import net.causw.domain.model.enums.UserState
+import net.causw.domain.model.user.UserDomainModel
+import net.causw.infrastructure.GoogleMailSender
+import net.causw.infrastructure.PasswordGenerator
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import javax.validation.Validation
+
+/**
+ * 사용자 정보 수정 시 권한 사용자 목록 캐시를 무효화하는 이벤트가 발행되는지 확인합니다.
+ */
+@ActiveProfiles(value = "test")
+class UserUpdatePrivilegedUserTest extends Specification {
+    private UserPort userPort = Mock(UserPort.class)
+    private ApplicationEventPublisher applicationEventPublisher = Mock(ApplicationEventPublisher.class)
+    private UserService userService = new UserService(
+            this.userPort,
+            Mock(BoardPort.class),
+            Mock(PostPort.class),
+            Mock(UserAdmissionPort.class),
+            Mock(UserAdmissionLogPort.class),
+            Mock(CirclePort.class),
+            Mock(CircleMemberPort.class),
+            Mock(CommentPort.class),
+            Mock(FavoriteBoardPort.class),
+            Mock(LockerPort.class),
+            Mock(LockerLogPort.class),
+            Mock(JwtTokenProvider.class),
+            Mock(StorageService.class),
+            Mock(GoogleMailSender.class),
+            Mock(PasswordGenerator.class),
+            Mock(PasswordEncoder.class),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            Mock(PrivilegedUserCache.class),
+            this.applicationEventPublisher
+    )
+
+    def setup() {
+        this.userPort.findById("test") >> Optional.of(UserDomainModel.of(
+                "test",
+                "test@cau.ac.kr",
+                "test",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.LEADER_CIRCLE,
+                null,
+                null,
+                UserState.ACTIVE
+        ))
+        this.userPort.findByEmail(_) >> Optional.empty()
+    }
+
+    /**
+     * Test case for an update of the name, email and profile image
+     * The privileged user list shows them, so its cache should be invalidated
+     */
+    def "User update privileged user changed case"() {
+        when:
+        this.userService.update("test", new UserUpdateRequestDto("update@cau.ac.kr", "update", "20210000", 2021, "profile image"))
+
+        then:
+        1 * this.userPort.update("test", _ as UserDomainModel) >> { String id, UserDomainModel user -> Optional.of(user) }
+        1 * this.applicationEventPublisher.publishEvent(_ as PrivilegedUserChangedEvent)
+    }
+
+    /**
+     * Test case for an update with an invalid admission year
+     * Nothing is changed, so no event should be published
+     */
+    def "User update invalid admission year privileged user case"() {
+        when:
+        this.userService.update("test", new UserUpdateRequestDto("update@cau.ac.kr", "update", "20210000", 1900, "profile image"))
+
+        then:
+        thrown(BadRequestException)
+        0 * this.userPort.update(*_)
+        0 * this.applicationEventPublisher.publishEvent(_)
+    }
+}